@@ -8,6 +8,8 @@ plugins {
 }
 
 val querydslVersion = "5.0.0"
+// -PvirtualThreads 지정 시 Java 21 + 가상 스레드로 실행
+val virtualThreads = project.hasProperty("virtualThreads")
 val generatedDir = "src/main/generated"
 val snippetsDir by extra { file("build/generated-snippets") }
 
@@ -16,7 +18,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion.set(JavaLanguageVersion.of(17))
+        languageVersion.set(JavaLanguageVersion.of(if (virtualThreads) 21 else 17))
     }
 }
 
@@ -38,6 +40,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     implementation("com.github.ben-manes.caffeine:caffeine")
 
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
@@ -78,19 +82,28 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:mysql:1.17.6")
     testImplementation("org.testcontainers:elasticsearch")
+    testImplementation("com.squareup.okhttp3:mockwebserver")
 
     // restdocs
     testImplementation("org.springframework.restdocs:spring-restdocs-mockmvc")
     testImplementation("org.springframework.restdocs:spring-restdocs-asciidoctor")
 
+    // benchmark (JMH, ./gradlew benchmarkTest)
+    testImplementation("org.openjdk.jmh:jmh-core:1.37")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<JavaCompile> {
-    options.generatedSourceOutputDirectory.set(file(generatedDir))
     options.compilerArgs.add("-parameters")
 }
 
+// QueryDSL Q-type 만 src/main/generated 로 생성 (테스트 annotation processor(JMH) 생성물은 build 디렉터리 유지)
+tasks.named<JavaCompile>("compileJava") {
+    options.generatedSourceOutputDirectory.set(file(generatedDir))
+}
+
 sourceSets {
     named("main") {
         java.srcDir(generatedDir)
@@ -105,6 +118,15 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (virtualThreads) {
+        // Tomcat 요청 처리, @Scheduled 스케줄러를 가상 스레드로 전환 (AsyncConfig 의 이름 있는 실행기는 그대로)
+        systemProperty("spring.threads.virtual.enabled", "true")
+        // synchronized 블록에서 carrier 스레드가 고정(pinning)되면 스택 출력
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
+}
+
 tasks.register("generateQueryDSL") {
     dependsOn("compileJava")
     group = "build"
@@ -113,7 +135,7 @@ tasks.register("generateQueryDSL") {
 
 tasks.test {
     useJUnitPlatform {
-        excludeTags("integration")
+        excludeTags("integration", "benchmark")
     }
 }
 
@@ -124,6 +146,15 @@ tasks.register<Test>("integrationTest") {
     outputs.dir(snippetsDir)
 }
 
+tasks.register<Test>("benchmarkTest") {
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.withType<AsciidoctorTask> {
     inputs.dir(snippetsDir)
     dependsOn(tasks.named("integrationTest"))
@@ -4,6 +4,7 @@ import com.cgv.mega.auth.dto.LoginRequest;
 import com.cgv.mega.auth.dto.TokenResponse;
 import com.cgv.mega.common.response.CustomResponse;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +21,11 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<CustomResponse<TokenResponse>> login(
             @RequestBody @Valid LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response) {
 
-        TokenResponse tokenResponse = authService.login(request);
+        // 신뢰하는 프록시가 붙인 X-Forwarded-For 만 반영된 접속 주소 (server.forward-headers-strategy)
+        TokenResponse tokenResponse = authService.login(request, httpRequest.getRemoteAddr());
 
         // Refresh Token 쿠키 설정
         Cookie refreshTokenCookie = new Cookie("refreshToken", tokenResponse.refreshToken());
@@ -7,11 +7,12 @@ import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.auth.enums.TokenStatus;
 import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.common.security.JwtTokenProvider;
+import com.cgv.mega.common.security.LogoutTokenRegistry;
+import com.cgv.mega.common.security.PasswordHasher;
 import com.cgv.mega.user.entity.User;
 import com.cgv.mega.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
@@ -23,18 +24,32 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final RedisTemplate<String, String> redisTemplate;
+    private final LogoutTokenRegistry logoutTokenRegistry;
 
     // 로그인
-    public TokenResponse login(LoginRequest request) {
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        // 비밀번호 해시 전에 IP / 이메일별 시도 횟수 제한
+        loginRateLimiter.acquire(clientIp, request.email());
+
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new CustomException(ErrorCode.LOGIN_FAIL));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new CustomException(ErrorCode.LOGIN_FAIL);
         }
 
+        // 이전 cost 로 저장된 해시는 새 cost 로 재해시
+        if (passwordHasher.needsUpgrade(user.getPassword())) {
+            Long userId = user.getId();
+            String currentPassword = user.getPassword();
+
+            passwordHasher.upgrade(request.password(),
+                    newPassword -> userRepository.updatePasswordIfUnchanged(userId, currentPassword, newPassword));
+        }
+
         JwtPayloadDto jwtPayloadDto = new JwtPayloadDto(user.getId(), user.getEmail(), user.getName(), user.getRole());
         String accessToken = jwtTokenProvider.generateAccessToken(jwtPayloadDto);
         String refreshToken = jwtTokenProvider.generateRefreshToken(jwtPayloadDto);
@@ -48,11 +63,9 @@ public class AuthService {
     // 로그아웃
     public void logout(String accessToken) {
         Date expiration = jwtTokenProvider.getTokenExpiration(accessToken);
-        long expirationTime = expiration.getTime() - System.currentTimeMillis();
 
-        jwtTokenProvider.tokenToHash(accessToken).ifPresent(hash -> {
-            redisTemplate.opsForValue().set(hash, "logout", expirationTime, TimeUnit.MILLISECONDS);
-        });
+        jwtTokenProvider.tokenToHash(accessToken)
+                .ifPresent(hash -> logoutTokenRegistry.revoke(hash, expiration.getTime()));
     }
 
     // 토큰 재발급
@@ -0,0 +1,86 @@
+package com.cgv.mega.auth;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (Redis 토큰 버킷, IP / 이메일 각각)
+ * <p>
+ * - 두 버킷 모두 토큰이 있을 때만 통과하고 각각 1개씩 차감한다. (하나라도 비면 429)
+ * - 비밀번호 해시 전에 확인해 로그인 폭주가 BCrypt CPU 를 점유하지 않게 한다.
+ * - IP 는 request.getRemoteAddr() 기준 (클라이언트가 보낸 X-Forwarded-For 는 신뢰하지 않고,
+ *   server.forward-headers-strategy 로 신뢰하는 프록시가 붙인 값만 반영)
+ * - Redis 장애 시 제한 없이 통과 (PasswordHasher 큐 제한은 그대로 적용)
+ * - 메트릭 : auth.login.rate-limited(scope = ip / email)
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "login-rate:";
+
+    private static final RedisScript<Long> TAKE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/take-rate-limit-tokens.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final int emailCapacity;
+    private final double emailRefillPerSecond;
+
+    private final Counter ipLimitedCounter;
+    private final Counter emailLimitedCounter;
+
+    public LoginRateLimiter(RedisTemplate<String, String> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.login-rate-limit.ip.capacity:100}") int ipCapacity,
+                            @Value("${auth.login-rate-limit.ip.refill-per-second:10}") double ipRefillPerSecond,
+                            @Value("${auth.login-rate-limit.email.capacity:10}") int emailCapacity,
+                            @Value("${auth.login-rate-limit.email.refill-per-second:0.2}") double emailRefillPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerSecond;
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerSecond = emailRefillPerSecond;
+
+        this.ipLimitedCounter = meterRegistry.counter("auth.login.rate-limited", "scope", "ip");
+        this.emailLimitedCounter = meterRegistry.counter("auth.login.rate-limited", "scope", "email");
+    }
+
+    public void acquire(String clientIp, String email) {
+        Long rejectedBucket;
+
+        try {
+            rejectedBucket = redisTemplate.execute(
+                    TAKE_SCRIPT,
+                    List.of(KEY_PREFIX + "ip:" + (clientIp != null ? clientIp : "unknown"), KEY_PREFIX + "email:" + email.toLowerCase(Locale.ROOT)),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ipCapacity), String.valueOf(ipRefillPerSecond),
+                    String.valueOf(emailCapacity), String.valueOf(emailRefillPerSecond));
+        } catch (RuntimeException e) {
+            log.warn("[LOGIN_RATE_LIMIT] 로그인 시도 제한 확인 실패", e);
+            return;
+        }
+
+        if (rejectedBucket == null || rejectedBucket == 0L) {
+            return;
+        }
+
+        (rejectedBucket == 1L ? ipLimitedCounter : emailLimitedCounter).increment();
+
+        throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
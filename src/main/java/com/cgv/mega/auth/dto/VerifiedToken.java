@@ -0,0 +1,12 @@
+package com.cgv.mega.auth.dto;
+
+// 서명/만료 검증이 끝난 토큰 (hash : 로그아웃 확인 키, expiresAt : 만료 시각 ms)
+public record VerifiedToken(
+        String hash,
+        JwtPayloadDto payload,
+        long expiresAt
+) {
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,23 @@
+package com.cgv.mega.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// L2(Redis) 저장 형태 (값 + 갱신 시각 + 원본 조회에 걸린 시간 + 조회 시작 시 세대)
+// generation 이 null 이면 세대 확인 없이 사용 (이전 형식 / 세대 확인 실패)
+public record CacheEnvelope(
+        Object value,
+        long refreshAt,
+        long loadMillis,
+        String generation
+) {
+    public boolean isStale(long now) {
+        return now >= refreshAt;
+    }
+
+    // 확률적 조기 갱신 (XFetch) - 갱신 시각이 가까울수록, 원본 조회가 오래 걸릴수록 먼저 갱신할 확률이 커짐
+    public boolean shouldRefreshEarly(long now, double beta) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+
+        return now - loadMillis * beta * Math.log(random) >= refreshAt;
+    }
+}
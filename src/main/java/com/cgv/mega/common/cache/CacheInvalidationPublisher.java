@@ -0,0 +1,38 @@
+package com.cgv.mega.common.cache;
+
+import com.cgv.mega.common.dto.CacheInvalidationMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 로컬 캐시 무효화를 모든 노드로 전파 (Redis pub/sub)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache-invalidation";
+
+    // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL,
+                    objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 발행 실패 시 다른 노드는 L1 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("캐시 무효화 발행 실패 cacheName={}, key={}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cgv.mega.common.cache;
+
+import com.cgv.mega.common.dto.CacheInvalidationMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 다른 노드가 발행한 무효화 메시지를 받아 로컬(L1) 캐시만 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationSubscriber implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation =
+                    objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+
+            // 자신이 보낸 메시지는 이미 반영됨
+            if (cacheInvalidationPublisher.getNodeId().equals(invalidation.origin())) {
+                return;
+            }
+
+            cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+        } catch (IOException e) {
+            log.warn("캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+}
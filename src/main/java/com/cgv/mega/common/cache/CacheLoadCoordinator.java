@@ -0,0 +1,216 @@
+package com.cgv.mega.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 원본 조회 조율
+ * <p>
+ * - 노드 간 single-flight : 키별 Redis 락을 잡은 노드만 원본을 조회하고, 나머지는 L2 에 채워지길 기다린다.
+ *   대기는 요청 스레드를 잡고 있으므로 최대 300ms (10ms 부터 두 배씩, 최대 80ms 간격으로 확인)까지만 하고
+ *   넘으면 직접 원본을 조회한다. (갱신 시각이 지난 값이 L2 에 있으면 대기 없이 그 값을 내려줌)
+ * - 백그라운드 갱신 : 만료 임박/만료된 값은 그대로 내려주고 한 노드에서만 다시 조회한다.
+ * - 세대 : 변경/삭제 시 키 세대(캐시 전체 삭제는 캐시 세대)를 올린다. 조회 시작 시 세대로 저장된 L2 값은
+ *   세대가 바뀌었으면 사용하지 않아, 삭제 전에 시작한 조회/갱신이 이전 값을 다시 채우지 못한다.
+ * - 메트릭 : cache.load(원본 조회), cache.load.coalesced(묶인 조회), cache.refresh(백그라운드 갱신),
+ *   cache.load.await(다른 노드 조회 대기 시간, outcome = hit / timeout - 최대 300ms)
+ * </p>
+ */
+@Slf4j
+@Component
+public class CacheLoadCoordinator {
+
+    private static final String LOCK_PREFIX = "cache-load-lock:";
+    private static final String GENERATION_PREFIX = "cache-generation:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+
+    // 다른 노드의 조회 결과를 기다리는 최대 시간 / 확인 간격 (처음 간격부터 두 배씩 최대 간격까지)
+    private static final Duration AWAIT_TIMEOUT = Duration.ofMillis(300);
+    private static final long AWAIT_INITIAL_INTERVAL_MILLIS = 10;
+    private static final long AWAIT_MAX_INTERVAL_MILLIS = 80;
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/release-cache-load-lock.lua"), Long.class);
+    private static final RedisScript<String> ADVANCE_GENERATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/advance-cache-generation.lua"), String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 이 노드에서 갱신 중인 키
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CacheLoadCoordinator(RedisTemplate<String, String> redisTemplate,
+                                @Qualifier("cacheRefreshExecutor") ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 원본 조회 락 획득 (성공 시 토큰, 실패 시 null)
+    public String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, LOCK_TTL);
+
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            // Redis 장애 시 락 없이 조회
+            log.warn("[CACHE] 원본 조회 락 획득 실패 cache = {}, key = {}", cacheName, key, e);
+            return token;
+        }
+    }
+
+    public void unlock(String cacheName, String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] 원본 조회 락 해제 실패 cache = {}, key = {}", cacheName, key, e);
+        }
+    }
+
+    // 현재 세대 ('캐시 세대:키 세대', 확인할 수 없으면 null - 세대 확인 없이 저장/사용)
+    public String generation(String cacheName, String key) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(cacheGenerationKey(cacheName), generationKey(cacheName, key)));
+
+            if (values == null) {
+                return null;
+            }
+
+            return orZero(values.get(0)) + ":" + orZero(values.get(1));
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] 세대 조회 실패 cache = {}, key = {}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    // 키 변경/삭제 전 호출 (올린 뒤의 세대 반환, 실패 시 null)
+    public String advanceGeneration(String cacheName, String key, Duration ttl) {
+        try {
+            return redisTemplate.execute(ADVANCE_GENERATION_SCRIPT,
+                    List.of(cacheGenerationKey(cacheName), generationKey(cacheName, key)),
+                    String.valueOf(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] 세대 변경 실패 cache = {}, key = {}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    // 캐시 전체 삭제 전 호출
+    public void advanceCacheGeneration(String cacheName) {
+        try {
+            redisTemplate.opsForValue().increment(cacheGenerationKey(cacheName));
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] 캐시 세대 변경 실패 cache = {}", cacheName, e);
+        }
+    }
+
+    // 다른 노드가 L2 를 채울 때까지 대기 (시간 초과 시 null)
+    public <T> T await(String cacheName, Supplier<T> remoteLookup) {
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT.toMillis();
+        long interval = AWAIT_INITIAL_INTERVAL_MILLIS;
+        T value = null;
+
+        while (value == null) {
+            long remaining = deadline - System.currentTimeMillis();
+
+            if (remaining <= 0) {
+                break;
+            }
+
+            try {
+                Thread.sleep(Math.min(interval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            interval = Math.min(interval * 2, AWAIT_MAX_INTERVAL_MILLIS);
+            value = remoteLookup.get();
+        }
+
+        meterRegistry.timer("cache.load.await", "cache", cacheName, "outcome", value != null ? "hit" : "timeout")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return value;
+    }
+
+    // 백그라운드 갱신 (이 노드에서 이미 갱신 중이거나 다른 노드가 락을 잡고 있으면 무시)
+    public void refreshAsync(String cacheName, String key, String reason, Runnable refresh) {
+        String refreshKey = cacheName + ":" + key;
+
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                String token = tryLock(cacheName, key);
+
+                if (token == null) {
+                    refreshing.remove(refreshKey);
+                    return;
+                }
+
+                try {
+                    refresh.run();
+                    meterRegistry.counter("cache.refresh", "cache", cacheName, "reason", reason).increment();
+                } catch (RuntimeException e) {
+                    log.warn("[CACHE] 백그라운드 갱신 실패 cache = {}, key = {}", cacheName, key, e);
+                } finally {
+                    unlock(cacheName, key, token);
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 갱신 대기열이 가득 차면 다음 요청에서 다시 시도
+            refreshing.remove(refreshKey);
+        }
+    }
+
+    public void recordLoad(String cacheName) {
+        meterRegistry.counter("cache.load", "cache", cacheName).increment();
+    }
+
+    // scope - local : 같은 노드의 동시 miss, remote : 다른 노드의 조회 결과 사용
+    public void recordCoalesced(String cacheName, String scope) {
+        meterRegistry.counter("cache.load.coalesced", "cache", cacheName, "scope", scope).increment();
+    }
+
+    private String lockKey(String cacheName, String key) {
+        return LOCK_PREFIX + cacheName + ":" + key;
+    }
+
+    private String cacheGenerationKey(String cacheName) {
+        return GENERATION_PREFIX + cacheName;
+    }
+
+    private String generationKey(String cacheName, String key) {
+        return GENERATION_PREFIX + cacheName + ":" + key;
+    }
+
+    private static String orZero(String value) {
+        return value == null ? "0" : value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.cgv.mega.common.cache;
+
+import java.time.Duration;
+
+// 캐시별 설정 (L1 : Caffeine, L2 : Redis)
+// remoteTtl 이 지나면 갱신 대상, staleTtl 동안은 이전 값을 내려주며 백그라운드에서 갱신
+public record CacheSpec(
+        Duration localTtl,
+        long localMaxSize,
+        Duration remoteTtl,
+        Duration staleTtl
+) {
+}
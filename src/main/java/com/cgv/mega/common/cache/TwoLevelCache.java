@@ -0,0 +1,301 @@
+package com.cgv.mega.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 2단계 캐시 (L1 : Caffeine, L2 : Redis)
+ * <p>
+ * - 조회 : L1 → L2 → 원본 순서로 찾고, 하위 단계에서 찾은 값은 L1 에 채운다.
+ * - 같은 노드에서 동시에 발생한 miss 는 키별 조회 중 목록(inFlight)으로 묶고, 노드 간에는 Redis 락으로 원본 조회를 하나로 묶는다. (sync = true)
+ *   L2 조회/대기는 Caffeine compute 밖에서 처리해 같은 L1 구간의 다른 키 조회/무효화를 막지 않는다.
+ * - L2 값은 갱신 시각(remoteTtl)이 가까워지면 확률적으로 먼저 갱신하고, 지난 뒤에도 staleTtl 동안은 이전 값을 내려주며 백그라운드에서 갱신한다.
+ * - 변경/삭제 : 키 세대를 올리고 L2 와 L1 에 반영한 뒤 다른 노드에 L1 무효화 메시지를 발행한다.
+ *   원본 조회/갱신은 시작 시 세대를 L2 값에 함께 저장하고, 세대가 바뀐 L2 값은 miss 로 처리한다.
+ *   (삭제 전에 시작해 늦게 끝난 조회/갱신이 이전 값을 L2 에 다시 채워도 사용되지 않음)
+ * - 무효화 메시지는 유실될 수 있으므로 L1 TTL 을 짧게 두어 오차를 제한한다.
+ * </p>
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    // 조기 갱신 강도 (클수록 일찍 갱신)
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final String name;
+    private final CacheSpec spec;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+
+    // 이 노드에서 L2/원본 조회 중인 키 (같은 키의 동시 miss 는 결과를 함께 받음)
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // L1 변경/무효화 횟수 (조회 중 무효화가 있었으면 조회 결과를 L1 에 채우지 않음)
+    private final AtomicLong localVersion = new AtomicLong();
+
+    public TwoLevelCache(String name,
+                         CacheSpec spec,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher cacheInvalidationPublisher,
+                         CacheLoadCoordinator cacheLoadCoordinator) {
+        super(false);
+        this.name = name;
+        this.spec = spec;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheLoadCoordinator = cacheLoadCoordinator;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    // sync = false 경로 (갱신할 원본이 없으므로 갱신 시각이 지난 값은 miss 로 처리)
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+
+        if (value != null) {
+            return value;
+        }
+
+        CacheEnvelope envelope = remoteEnvelope(key);
+
+        if (envelope == null || envelope.isStale(System.currentTimeMillis())) {
+            return null;
+        }
+
+        localCache.put(localKey, envelope.value());
+
+        return envelope.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+
+        if (value != null) {
+            return (T) value;
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, loading);
+
+        // 다른 스레드가 조회 중이면 결과를 받음
+        if (existing != null) {
+            cacheLoadCoordinator.recordCoalesced(name, "local");
+            return (T) join(existing);
+        }
+
+        try {
+            long version = localVersion.get();
+            value = loadFromRemote(key, localKey, valueLoader);
+
+            if (value != null && localVersion.get() == version) {
+                localCache.put(localKey, value);
+            }
+
+            loading.complete(value);
+
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, loading);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+
+        String generation = cacheLoadCoordinator.advanceGeneration(name, localKey(key), generationTtl());
+
+        remoteCache.put(key, envelope(storeValue, 0, generation));
+        localVersion.incrementAndGet();
+        localCache.put(localKey(key), storeValue);
+
+        cacheInvalidationPublisher.publish(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        cacheLoadCoordinator.advanceGeneration(name, localKey(key), generationTtl());
+        remoteCache.evict(key);
+        localVersion.incrementAndGet();
+        localCache.invalidate(localKey(key));
+
+        cacheInvalidationPublisher.publish(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        cacheLoadCoordinator.advanceCacheGeneration(name);
+        remoteCache.clear();
+        localVersion.incrementAndGet();
+        localCache.invalidateAll();
+
+        cacheInvalidationPublisher.publish(name, null);
+    }
+
+    // 다른 노드의 변경 반영 (L2 는 이미 반영되어 있음)
+    public void evictLocal(String key) {
+        localVersion.incrementAndGet();
+        localCache.invalidate(key);
+    }
+
+    public void clearLocal() {
+        localVersion.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    private Object loadFromRemote(Object key, String localKey, Callable<?> valueLoader) {
+        CacheEnvelope envelope = remoteEnvelope(key);
+
+        if (envelope != null) {
+            long now = System.currentTimeMillis();
+
+            if (envelope.isStale(now)) {
+                cacheLoadCoordinator.refreshAsync(name, localKey, "stale", () -> reload(key, localKey, valueLoader));
+            } else if (envelope.shouldRefreshEarly(now, EARLY_REFRESH_BETA)) {
+                cacheLoadCoordinator.refreshAsync(name, localKey, "early", () -> reload(key, localKey, valueLoader));
+            }
+
+            return envelope.value();
+        }
+
+        String token = cacheLoadCoordinator.tryLock(name, localKey);
+
+        if (token == null) {
+            // 다른 노드가 조회 중이면 L2 에 채워지길 잠깐 기다림 (최대 300ms, 시간 초과 시 직접 조회)
+            CacheEnvelope loadedByOther = cacheLoadCoordinator.await(name, () -> remoteEnvelope(key));
+
+            if (loadedByOther != null) {
+                cacheLoadCoordinator.recordCoalesced(name, "remote");
+                return loadedByOther.value();
+            }
+        }
+
+        try {
+            return load(key, localKey, valueLoader).value();
+        } finally {
+            if (token != null) {
+                cacheLoadCoordinator.unlock(name, localKey, token);
+            }
+        }
+    }
+
+    // 조회한 스레드의 예외를 그대로 전달
+    private Object join(CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 원본 조회 후 L2 저장 (조회 중 변경/삭제로 세대가 바뀌었으면 저장하지 않음)
+    private LoadResult load(Object key, String localKey, Callable<?> valueLoader) {
+        String generation = cacheLoadCoordinator.generation(name, localKey);
+        long start = System.currentTimeMillis();
+        Object value;
+
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        cacheLoadCoordinator.recordLoad(name);
+
+        if (value == null || !isCurrentGeneration(localKey, generation)) {
+            return new LoadResult(value, false);
+        }
+
+        remoteCache.put(key, envelope(value, System.currentTimeMillis() - start, generation));
+
+        return new LoadResult(value, true);
+    }
+
+    // 백그라운드 갱신 결과를 L1 에도 반영하고 다른 노드의 L1 은 무효화
+    private void reload(Object key, String localKey, Callable<?> valueLoader) {
+        LoadResult result = load(key, localKey, valueLoader);
+
+        if (result.stored()) {
+            localCache.put(localKey, result.value());
+            cacheInvalidationPublisher.publish(name, localKey);
+        }
+    }
+
+    private CacheEnvelope remoteEnvelope(Object key) {
+        ValueWrapper wrapper = remoteCache.get(key);
+
+        // 이전 형식으로 저장된 값은 miss 로 처리
+        if (wrapper == null || !(wrapper.get() instanceof CacheEnvelope envelope)) {
+            return null;
+        }
+
+        // 조회 시작 후 변경/삭제된 값 (늦게 끝난 조회/갱신이 덮어쓴 이전 값)
+        if (envelope.generation() != null && !isCurrentGeneration(localKey(key), envelope.generation())) {
+            return null;
+        }
+
+        return envelope;
+    }
+
+    // 세대를 확인할 수 없으면 (Redis 장애) 현재 세대로 봄
+    private boolean isCurrentGeneration(String localKey, String generation) {
+        if (generation == null) {
+            return true;
+        }
+
+        String current = cacheLoadCoordinator.generation(name, localKey);
+
+        return current == null || current.equals(generation);
+    }
+
+    private CacheEnvelope envelope(Object value, long loadMillis, String generation) {
+        return new CacheEnvelope(value, System.currentTimeMillis() + spec.remoteTtl().toMillis(), loadMillis, generation);
+    }
+
+    // 키 세대는 L2 값보다 오래 유지 (세대가 먼저 사라져 이전 세대 값이 다시 현재 세대가 되지 않도록)
+    private Duration generationTtl() {
+        return spec.remoteTtl().plus(spec.staleTtl()).multipliedBy(2);
+    }
+
+    // L2(Redis) 와 같은 문자열 키 사용 (노드 간 무효화 메시지에 그대로 사용)
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    // stored : L2 에 저장했는지 (조회 중 세대가 바뀌면 false)
+    private record LoadResult(Object value, boolean stored) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.cgv.mega.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Caffeine(L1) + Redis(L2) 캐시 매니저
+ * <p>
+ * 트랜잭션 안에서의 put/evict 는 커밋 이후로 미뤄, 커밋 전 값이 다른 노드에 다시 채워지지 않도록 한다.
+ * </p>
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final Map<String, CacheSpec> cacheSpecs;
+    private final CacheSpec defaultSpec;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager,
+                                Map<String, CacheSpec> cacheSpecs,
+                                CacheSpec defaultSpec,
+                                CacheInvalidationPublisher cacheInvalidationPublisher,
+                                CacheLoadCoordinator cacheLoadCoordinator) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.cacheSpecs = cacheSpecs;
+        this.defaultSpec = defaultSpec;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheLoadCoordinator = cacheLoadCoordinator;
+
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheSpecs.keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    // 다른 노드의 무효화 메시지 반영 (key 가 null 이면 전체)
+    public void evictLocal(String cacheName, String key) {
+        Cache cache = lookupCache(cacheName);
+
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+
+        if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+            return;
+        }
+
+        if (key == null) {
+            twoLevelCache.clearLocal();
+        } else {
+            twoLevelCache.evictLocal(key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CacheSpec spec = cacheSpecs.getOrDefault(name, defaultSpec);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.localMaxSize())
+                .expireAfterWrite(spec.localTtl())
+                .build();
+
+        return new TwoLevelCache(name, spec, localCache, remoteCacheManager.getCache(name),
+                cacheInvalidationPublisher, cacheLoadCoordinator);
+    }
+}
@@ -1,9 +1,12 @@
 package com.cgv.mega.common.config;
 
+import com.cgv.mega.common.logging.ServiceLoggingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 @Configuration
 @EnableAspectJAutoProxy
+@EnableConfigurationProperties(ServiceLoggingProperties.class)
 public class AopConfig {
 }
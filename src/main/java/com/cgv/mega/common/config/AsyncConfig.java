@@ -0,0 +1,100 @@
+package com.cgv.mega.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${payment.verification.pool-size:8}")
+    private int verificationPoolSize;
+
+    @Value("${payment.verification.queue-capacity:500}")
+    private int verificationQueueCapacity;
+
+    @Value("${screening.cancel.refund-parallelism:8}")
+    private int refundParallelism;
+
+    @Value("${auth.password.pool-size:4}")
+    private int passwordHashPoolSize;
+
+    @Value("${auth.password.queue-capacity:200}")
+    private int passwordHashQueueCapacity;
+
+    // 결제 검증 워커 (큐가 가득 차면 TaskRejectedException → 503)
+    @Bean
+    public ThreadPoolTaskExecutor paymentVerificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(verificationPoolSize);
+        executor.setMaxPoolSize(verificationPoolSize);
+        executor.setQueueCapacity(verificationQueueCapacity);
+        executor.setThreadNamePrefix("payment-verify-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 캐시 백그라운드 갱신 (가득 차면 갱신을 건너뛰고 이전 값 유지)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+
+    // 상영 취소 작업 실행 (가득 차면 거절되고 스케줄러가 다시 실행)
+    @Bean
+    public ThreadPoolTaskExecutor screeningCancelJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("screening-cancel-");
+        return executor;
+    }
+
+    // 상영 취소 환불 (PortOne 동시 호출 수 제한, 가득 차면 작업 스레드가 직접 처리)
+    @Bean
+    public ThreadPoolTaskExecutor screeningRefundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refundParallelism);
+        executor.setMaxPoolSize(refundParallelism);
+        executor.setQueueCapacity(1_000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("screening-refund-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 좌석 현황 SSE 전송 (구독자별 대기열 비우기, 가득 차면 해당 구독 연결을 끊음)
+    @Bean
+    public ThreadPoolTaskExecutor screeningSeatStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("seat-stream-");
+        return executor;
+    }
+
+    // 비밀번호 해시 (BCrypt CPU 사용을 pool-size 코어로 제한, 큐가 가득 차면 TaskRejectedException → 429)
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashPoolSize);
+        executor.setMaxPoolSize(passwordHashPoolSize);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+}
@@ -1,44 +1,65 @@
 package com.cgv.mega.common.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
+import com.cgv.mega.common.cache.CacheInvalidationPublisher;
+import com.cgv.mega.common.cache.CacheLoadCoordinator;
+import com.cgv.mega.common.cache.CacheSpec;
+import com.cgv.mega.common.cache.TwoLevelCacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    @Primary
+    // 캐시별 설정 (L1 TTL 은 무효화 메시지가 유실됐을 때 노드 간 최대 오차)
+    // Redis 키는 remoteTtl + staleTtl 동안 유지 (remoteTtl 이후에는 이전 값을 내려주며 갱신)
+    private static final Map<String, CacheSpec> CACHE_SPECS = Map.of(
+            "screeningMovies", new CacheSpec(Duration.ofSeconds(30), 1_000, Duration.ofMinutes(10), Duration.ofMinutes(2)),
+            "theaters", new CacheSpec(Duration.ofMinutes(10), 100, Duration.ofHours(1), Duration.ofMinutes(10)),
+            "genres", new CacheSpec(Duration.ofMinutes(10), 100, Duration.ofHours(1), Duration.ofMinutes(10)),
+            "movieInfo", new CacheSpec(Duration.ofMinutes(1), 5_000, Duration.ofMinutes(10), Duration.ofMinutes(2))
+    );
+
+    private static final CacheSpec DEFAULT_SPEC =
+            new CacheSpec(Duration.ofMinutes(1), 1_000, Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+    // 캐시 전체 삭제(allEntries) 시 KEYS 대신 SCAN 으로 나눠 삭제 (Redis 단일 스레드 blocking 방지)
+    private static final int CLEAR_SCAN_BATCH_SIZE = 1_000;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             CacheLoadCoordinator cacheLoadCoordinator) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(DEFAULT_SPEC.remoteTtl().plus(DEFAULT_SPEC.staleTtl()))
                 .disableCachingNullValues()
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory)
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        CACHE_SPECS.forEach((name, spec) -> cacheConfigs.put(name, config.entryTtl(spec.remoteTtl().plus(spec.staleTtl()))));
+
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
-    }
+        redisCacheManager.initializeCaches();
 
-    @Bean
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager("theaters");
-        manager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(10, TimeUnit.MINUTES));
-        return manager;
+        return new TwoLevelCacheManager(redisCacheManager, CACHE_SPECS, DEFAULT_SPEC,
+                cacheInvalidationPublisher, cacheLoadCoordinator);
     }
 }
@@ -1,9 +1,17 @@
 package com.cgv.mega.common.config;
 
+import com.cgv.mega.common.cache.CacheInvalidationPublisher;
+import com.cgv.mega.common.cache.CacheInvalidationSubscriber;
+import com.cgv.mega.common.security.LogoutTokenRegistry;
+import com.cgv.mega.common.security.LogoutTokenSubscriber;
+import com.cgv.mega.screening.service.ScreeningSeatStatusPublisher;
+import com.cgv.mega.screening.service.ScreeningSeatStatusSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -23,4 +31,26 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ScreeningSeatStatusSubscriber screeningSeatStatusSubscriber,
+            CacheInvalidationSubscriber cacheInvalidationSubscriber,
+            LogoutTokenSubscriber logoutTokenSubscriber
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // 좌석 상태 변경분 구독
+        container.addMessageListener(screeningSeatStatusSubscriber, new ChannelTopic(ScreeningSeatStatusPublisher.CHANNEL));
+
+        // 로컬 캐시 무효화 구독
+        container.addMessageListener(cacheInvalidationSubscriber, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+
+        // 로그아웃 토큰 폐기 구독
+        container.addMessageListener(logoutTokenSubscriber, new ChannelTopic(LogoutTokenRegistry.CHANNEL));
+
+        return container;
+    }
 }
@@ -3,12 +3,14 @@ package com.cgv.mega.common.config;
 import com.cgv.mega.common.logging.RequestTraceFilter;
 import com.cgv.mega.common.security.JwtAuthenticationFilter;
 import com.cgv.mega.common.security.JwtTokenProvider;
+import com.cgv.mega.common.security.LogoutTokenRegistry;
+import com.cgv.mega.common.security.PublicRouteMatcher;
+import com.cgv.mega.common.security.PublicRoutes;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -25,13 +27,19 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final LogoutTokenRegistry logoutTokenRegistry;
     private final JwtTokenProvider jwtTokenProvider;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    // 공개 API 매처 (JWT 필터와 인가 규칙이 같은 인스턴스 사용)
+    @Bean
+    public PublicRouteMatcher publicRouteMatcher() {
+        return new PublicRouteMatcher(PublicRoutes.ROUTES);
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(redisTemplate, jwtTokenProvider);
+        return new JwtAuthenticationFilter(logoutTokenRegistry, publicRouteMatcher(), jwtTokenProvider);
     }
 
     @Bean
@@ -39,9 +47,10 @@ public class SecurityConfig {
         return new RequestTraceFilter();
     }
 
+    // strength 를 올리면 기존 해시는 로그인 성공 시 새 cost 로 재해시 (PasswordHasher.upgrade)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -53,27 +62,14 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
-                        // 토큰 관련 API
-                        .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
-
-                        // 영화 상세 정보 조회 API
-                        .requestMatchers(HttpMethod.GET, "/api/movies/**").permitAll()
-
-                        // 상영관 목록 API
-                        .requestMatchers(HttpMethod.GET, "/api/theaters").permitAll()
-
-                        // 영화 상영 목록, 상영중인 영화 목록, 상영회차별 좌석 현황 API
-                        .requestMatchers(HttpMethod.GET,
-                                "/api/screenings/movies",
-                                "/api/screenings/*/seats",
-                                "/api/screenings/*").permitAll()
+                        // 공개 API (PublicRoutes)
+                        .requestMatchers(publicRouteMatcher()).permitAll()
 
                         // ADMIN 전용 API
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
-                        // 회원가입 API
-                        .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
+                        // 운영 지표 (헬스 체크 제외, 커넥션 풀 메트릭/prometheus 등)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         .anyRequest().permitAll()
                 )
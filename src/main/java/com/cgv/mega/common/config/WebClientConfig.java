@@ -0,0 +1,67 @@
+package com.cgv.mega.common.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    @Value("${portone.api-url}")
+    private String baseUrl;
+
+    @Value("${portone.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${portone.client.pending-acquire-timeout:2s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${portone.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${portone.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${portone.client.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Value("${portone.client.max-in-memory-size:256KB}")
+    private DataSize maxInMemorySize;
+
+    // PortOne 호출용 커넥션 풀 (reactor.netty.connection.provider.portone.* 메트릭 노출)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider portOneConnectionProvider() {
+        return ConnectionProvider.builder("portone")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    // 애플리케이션 전체에서 공유하는 PortOne WebClient
+    @Bean
+    public WebClient portOneWebClient(WebClient.Builder webClientBuilder, ConnectionProvider portOneConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(portOneConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                // 요청 단위 응답 대기 시간 (풀에 반환된 유휴 커넥션에는 적용되지 않음)
+                .responseTimeout(responseTimeout)
+                .compress(true);
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+    }
+}
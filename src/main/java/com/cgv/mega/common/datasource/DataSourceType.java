@@ -0,0 +1,6 @@
+package com.cgv.mega.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,32 @@
+package com.cgv.mega.common.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * primary 조회
+ * <p>
+ * 버전 카운터 기준으로 채우는 파생 캐시(좌석 상태 스냅샷, 잔여 좌석 카운터 등)는 지연된 replica 에서 읽으면
+ * 오래된 값이 새 버전으로 저장되어 다음 변경까지 모든 사용자에게 남는다.
+ * 읽기 전용 트랜잭션을 잠시 중단하고 트랜잭션 밖에서 조회해 primary 로 라우팅한다. (이미 얻은 replica 커넥션을 재사용하지 않음)
+ * replica 를 쓰지 않는 구성에서는 그대로 조회한다.
+ * </p>
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate notSupported;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.notSupported = new TransactionTemplate(transactionManager);
+        this.notSupported.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        return notSupported.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,123 @@
+package com.cgv.mega.common.datasource;
+
+import com.cgv.mega.common.dto.UserDataChangedEvent;
+import com.cgv.mega.common.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 보장
+ * <p>
+ * 예약/결제 등 사용자 데이터를 변경한 직후에는 replica 에 아직 반영되지 않았을 수 있으므로
+ * 일정 시간(sticky-window) 동안 해당 사용자의 읽기 전용 트랜잭션을 primary 로 보낸다.
+ * 여러 노드가 같은 기준을 보도록 Redis 에 기록한다.
+ * </p>
+ * <p>
+ * 읽기 전용 커넥션을 얻을 때마다 Redis 를 조회하지 않도록
+ * - 이 노드에서 변경한 사용자는 로컬 캐시(sticky-window 동안)로 바로 판단하고,
+ * - Redis 조회 결과는 요청 단위로 기억한다. (같은 요청 안에서 변경이 커밋되면 primary 로 바꿈)
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "primary-sticky:";
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".sticky";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration stickyWindow;
+
+    // 이 노드에서 최근에 데이터를 변경한 사용자
+    private final Cache<Long, Boolean> localSticky;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate,
+                                 @Value("${datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        this.redisTemplate = redisTemplate;
+        this.stickyWindow = stickyWindow;
+        this.localSticky = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void userDataChangedEventHandler(UserDataChangedEvent event) {
+        localSticky.put(event.userId(), Boolean.TRUE);
+
+        // 같은 요청의 이후 읽기도 primary 로
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes != null && event.userId().equals(currentUserId())) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + event.userId(), "1", stickyWindow);
+        } catch (RuntimeException e) {
+            log.warn("[REPLICA] primary 고정 기록 실패 userId = {}", event.userId(), e);
+        }
+    }
+
+    // 현재 요청 사용자가 최근에 데이터를 변경했는지
+    public boolean isStickyToPrimary() {
+        Long userId = currentUserId();
+
+        if (userId == null) {
+            return false;
+        }
+
+        if (localSticky.getIfPresent(userId) != null) {
+            return true;
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Boolean sticky) {
+            return sticky;
+        }
+
+        boolean sticky = isStickyInRedis(userId);
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, sticky, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return sticky;
+    }
+
+    // 다른 노드에서 변경한 경우
+    private boolean isStickyInRedis(Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 primary 로
+            return true;
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.id();
+        }
+
+        return null;
+    }
+}
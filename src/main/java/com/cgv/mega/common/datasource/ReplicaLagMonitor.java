@@ -0,0 +1,97 @@
+package com.cgv.mega.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * replica 지연 감시
+ * <p>
+ * SHOW REPLICA STATUS 의 Seconds_Behind_Source 가 max-lag 를 넘거나 복제가 멈춘 경우
+ * 회복될 때까지 읽기 전용 트랜잭션도 primary 로 보낸다.
+ * 복제 설정이 없는 인스턴스(로컬 stand-in)는 지연 0 으로 본다.
+ * 마지막 정상 확인이 확인 간격의 2배보다 오래되면 (스케줄러 지연/중단) 확인될 때까지 primary 로 보낸다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final long maxCheckAgeMillis;
+
+    // -1 : 확인 불가
+    private final AtomicLong lagSeconds = new AtomicLong(-1);
+    private volatile boolean available = false;
+
+    // replica 를 사용 가능으로 확인한 마지막 시각
+    private volatile long lastAvailableAtMillis;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                             @Value("${datasource.replica.max-lag:2s}") Duration maxLag,
+                             @Value("${datasource.replica.lag-check-interval:5000}") long lagCheckIntervalMillis,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        this.maxCheckAgeMillis = lagCheckIntervalMillis * 2;
+
+        Gauge.builder("datasource.replica.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5000}")
+    public void checkLag() {
+        try {
+            List<Long> lags = replicaJdbcTemplate.query(REPLICA_STATUS_QUERY, (rs, rowNum) -> {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            });
+
+            if (lags.isEmpty()) {
+                update(0L);
+            } else {
+                // null 이면 복제 스레드가 멈춘 상태
+                update(lags.get(0));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[REPLICA] 지연 확인 실패 ex = {}", e.getMessage());
+            update(null);
+        }
+    }
+
+    // 확인이 멈춘 동안에는 이전 결과를 믿지 않음
+    public boolean isReplicaAvailable() {
+        return available && System.currentTimeMillis() - lastAvailableAtMillis <= maxCheckAgeMillis;
+    }
+
+    private void update(Long lag) {
+        boolean wasAvailable = available;
+
+        lagSeconds.set(lag != null ? lag : -1);
+        available = lag != null && lag <= maxLag.toSeconds();
+
+        if (available) {
+            lastAvailableAtMillis = System.currentTimeMillis();
+        }
+
+        if (wasAvailable != available) {
+            log.warn("[REPLICA] replica 읽기 {} (lag = {}s)", available ? "재개" : "중단", lag);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.cgv.mega.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource
+ * <p>
+ * 트랜잭션 시작 시점이 아니라 실제 커넥션을 얻는 시점에 결정되므로
+ * readOnly 속성이 반영되도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * - 쓰기 트랜잭션 / 트랜잭션 밖 : primary
+ * - replica 지연이 허용치를 넘은 경우 : primary
+ * - 최근에 데이터를 변경한 사용자 : primary (read-your-writes)
+ * </p>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceType target;
+        String reason;
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            target = DataSourceType.PRIMARY;
+            reason = "write";
+        } else if (!replicaLagMonitor.isReplicaAvailable()) {
+            target = DataSourceType.PRIMARY;
+            reason = "replica-lag";
+        } else if (readYourWritesTracker.isStickyToPrimary()) {
+            target = DataSourceType.PRIMARY;
+            reason = "read-your-writes";
+        } else {
+            target = DataSourceType.REPLICA;
+            reason = "read-only";
+        }
+
+        meterRegistry.counter("datasource.routing", "target", target.name().toLowerCase(), "reason", reason)
+                .increment();
+
+        return target;
+    }
+}
@@ -0,0 +1,9 @@
+package com.cgv.mega.common.dto;
+
+// 로컬(L1) 캐시 무효화 메시지 (key 가 null 이면 캐시 전체 삭제)
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+}
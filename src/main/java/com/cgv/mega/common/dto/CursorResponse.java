@@ -0,0 +1,12 @@
+package com.cgv.mega.common.dto;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (totalElements 는 요청한 경우에만 채움)
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
@@ -0,0 +1,7 @@
+package com.cgv.mega.common.dto;
+
+// 사용자 데이터 변경 커밋 (이후 잠시 해당 사용자의 읽기를 primary 로 보냄)
+public record UserDataChangedEvent(
+        Long userId
+) {
+}
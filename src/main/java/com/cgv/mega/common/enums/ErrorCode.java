@@ -10,9 +10,13 @@ public enum ErrorCode {
 
     // 공통
     INTERNAL_ERROR("INTERNAL_ERROR", "서버에서 문제가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_CURSOR("INVALID_CURSOR", "올바르지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE_SIZE("INVALID_PAGE_SIZE", "페이지 크기는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
 
     // Auth
     LOGIN_FAIL("LOGIN_FAIL", "아이디 혹은 비밀번호가 일치하지 않습니다.", HttpStatus.UNAUTHORIZED),
+    TOO_MANY_LOGIN_ATTEMPTS("TOO_MANY_LOGIN_ATTEMPTS", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    PASSWORD_HASH_BUSY("PASSWORD_HASH_BUSY", "요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // Jwt Payload
     JWT_USER_ID_IS_NULL("JWT_USER_ID_IS_NULL", "JWT 생성 중 사용자 ID가 NULL입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -57,6 +61,8 @@ public enum ErrorCode {
     SCREENING_NOT_FOUND("SCREENING_NOT_FOUND", "해당 상영회차를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     INVALID_SCREENING_END("INVALID_SCREENING_END", "완료할 수 없는 상태입니다.", HttpStatus.BAD_REQUEST),
     SCREENING_CANCEL_NOT_ALLOWED("SCREENING_CANCEL_NOT_ALLOWED", "상영을 취소할 수 없습니다.", HttpStatus.CONFLICT),
+    SCREENING_SAVE_FAILED("SCREENING_SAVE_FAILED", "상영회차 저장 중 충돌이 발생했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
+    SCREENING_CANCEL_JOB_NOT_FOUND("SCREENING_CANCEL_JOB_NOT_FOUND", "상영 취소 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // 예약
     RESERVATION_NOT_FOUND("RESERVATION_NOT_FOUND", "해당 예약 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -69,6 +75,8 @@ public enum ErrorCode {
     PAYMENT_INFO_MISMATCH("PAYMENT_INFO_MISMATCH", "해당 결제가 일치하지 않습니다.", HttpStatus.CONFLICT),
     PAYMENT_REFUND_NOT_ALLOWED("PAYMENT_REFUND_NOT_ALLOWED", "환불이 불가능합니다.", HttpStatus.CONFLICT),
     PAYMENT_REFUND_FAILED("PAYMENT_REFUND_FAILED", "환불 요청 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    PAYMENT_GATEWAY_ERROR("PAYMENT_GATEWAY_ERROR", "결제 서버와 통신 중 오류가 발생했습니다.", HttpStatus.BAD_GATEWAY),
+    PAYMENT_VERIFICATION_BUSY("PAYMENT_VERIFICATION_BUSY", "결제 검증 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
     ;
 
     private final String code;
@@ -0,0 +1,21 @@
+package com.cgv.mega.common.lock;
+
+import java.time.Duration;
+
+/**
+ * 스케줄 작업 점유
+ * <p>
+ * 같은 작업을 여러 노드가 동시에 실행하지 않도록 점유한 노드만 실행한다.
+ * 점유는 ttl 이 지나면 풀리므로 실행 중 노드가 죽어도 다음 실행에서 다른 노드가 이어받는다.
+ * </p>
+ */
+public interface JobLease {
+
+    // 점유 시도 (성공 시 토큰, 다른 노드가 점유 중이면 null)
+    String tryAcquire(String name, Duration ttl);
+
+    // 점유 연장 (이미 만료되었거나 다른 노드의 점유면 false)
+    boolean extend(String name, String token, Duration ttl);
+
+    void release(String name, String token);
+}
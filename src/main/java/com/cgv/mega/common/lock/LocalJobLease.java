@@ -0,0 +1,64 @@
+package com.cgv.mega.common.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 노드용 작업 점유 (로컬 실행/테스트용, scheduler.lease.store=local)
+@Component
+@ConditionalOnProperty(name = "scheduler.lease.store", havingValue = "local")
+public class LocalJobLease implements JobLease {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public LocalJobLease() {
+        this(Clock.systemUTC());
+    }
+
+    LocalJobLease(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        long now = clock.millis();
+
+        Lease lease = leases.compute(name, (key, current) ->
+                current == null || current.isExpired(now) ? new Lease(token, now + ttl.toMillis()) : current);
+
+        return lease.token().equals(token) ? token : null;
+    }
+
+    @Override
+    public boolean extend(String name, String token, Duration ttl) {
+        long now = clock.millis();
+
+        Lease lease = leases.computeIfPresent(name, (key, current) ->
+                current.isOwnedBy(token, now) ? new Lease(token, now + ttl.toMillis()) : current);
+
+        return lease != null && lease.isOwnedBy(token, now);
+    }
+
+    @Override
+    public void release(String name, String token) {
+        leases.computeIfPresent(name, (key, current) -> current.token().equals(token) ? null : current);
+    }
+
+    private record Lease(String token, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        boolean isOwnedBy(String token, long now) {
+            return this.token.equals(token) && !isExpired(now);
+        }
+    }
+}
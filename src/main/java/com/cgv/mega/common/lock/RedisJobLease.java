@@ -0,0 +1,71 @@
+package com.cgv.mega.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 노드 간 작업 점유 (job-lease:{name} 에 토큰 저장)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.lease.store", havingValue = "redis", matchIfMissing = true)
+public class RedisJobLease implements JobLease {
+
+    private static final String KEY_PREFIX = "job-lease:";
+
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/extend-job-lease.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/release-job-lease.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public String tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key(name), token, ttl);
+
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            // Redis 장애 시 점유 없이 실행 (점유 대상 작업은 여러 노드가 실행해도 결과가 같아야 함)
+            log.warn("[JOB LEASE] 점유 실패 name = {}", name, e);
+            return token;
+        }
+    }
+
+    @Override
+    public boolean extend(String name, String token, Duration ttl) {
+        try {
+            Long extended = redisTemplate.execute(
+                    EXTEND_SCRIPT, List.of(key(name)), token, String.valueOf(ttl.toMillis()));
+
+            return extended != null && extended == 1L;
+        } catch (RuntimeException e) {
+            log.warn("[JOB LEASE] 점유 연장 실패 name = {}", name, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key(name)), token);
+        } catch (RuntimeException e) {
+            log.warn("[JOB LEASE] 점유 해제 실패 name = {}", name, e);
+        }
+    }
+
+    private String key(String name) {
+        return KEY_PREFIX + name;
+    }
+}
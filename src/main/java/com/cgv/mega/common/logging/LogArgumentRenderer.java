@@ -0,0 +1,119 @@
+package com.cgv.mega.common.logging;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 로그용 인자/반환값 문자열 변환 (최대 길이 제한)
+ * <p>
+ * - 길이 한도에 닿으면 더 이상 문자열을 만들지 않는다. (좌석 목록 같은 큰 DTO 전체를 만들지 않음)
+ * - 컬렉션 : size=N[e1, e2, ...], 맵 : Map(size=N), 레코드 : 컴포넌트별로 변환
+ * - 이름에 password 가 들어간 레코드 컴포넌트는 가림
+ * - 그 외 객체는 toString 결과를 자름
+ * </p>
+ */
+final class LogArgumentRenderer {
+
+    private static final String TRUNCATED = "...";
+    private static final String MASKED = "****";
+    private static final int MAX_DEPTH = 3;
+
+    private LogArgumentRenderer() {
+    }
+
+    static String render(Object value, int maxLength) {
+        StringBuilder sb = new StringBuilder(Math.min(maxLength, 128) + TRUNCATED.length());
+        append(sb, value, maxLength, 0);
+
+        if (sb.length() > maxLength) {
+            sb.setLength(maxLength);
+            sb.append(TRUNCATED);
+        }
+
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, Object value, int maxLength, int depth) {
+        if (sb.length() > maxLength) {
+            return;
+        }
+
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Enum<?> || value instanceof TemporalAccessor) {
+            appendCapped(sb, String.valueOf(value), maxLength);
+        } else if (depth >= MAX_DEPTH) {
+            sb.append(value.getClass().getSimpleName());
+        } else if (value instanceof Object[] array) {
+            sb.append('[');
+            for (int i = 0; i < array.length && sb.length() <= maxLength; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                append(sb, array[i], maxLength, depth + 1);
+            }
+            sb.append(']');
+        } else if (value.getClass().isArray()) {
+            sb.append(value.getClass().getComponentType().getSimpleName())
+                    .append('[').append(Array.getLength(value)).append(']');
+        } else if (value instanceof Collection<?> collection) {
+            sb.append("size=").append(collection.size()).append('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (sb.length() > maxLength) {
+                    break;
+                }
+                if (!first) {
+                    sb.append(", ");
+                }
+                append(sb, element, maxLength, depth + 1);
+                first = false;
+            }
+            sb.append(']');
+        } else if (value instanceof Map<?, ?> map) {
+            sb.append("Map(size=").append(map.size()).append(')');
+        } else if (value.getClass().isRecord()) {
+            appendRecord(sb, value, maxLength, depth);
+        } else {
+            appendCapped(sb, String.valueOf(value), maxLength);
+        }
+    }
+
+    private static void appendRecord(StringBuilder sb, Object record, int maxLength, int depth) {
+        sb.append(record.getClass().getSimpleName()).append('[');
+
+        RecordComponent[] components = record.getClass().getRecordComponents();
+        for (int i = 0; i < components.length && sb.length() <= maxLength; i++) {
+            RecordComponent component = components[i];
+
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(component.getName()).append('=');
+
+            if (component.getName().toLowerCase(Locale.ROOT).contains("password")) {
+                sb.append(MASKED);
+                continue;
+            }
+
+            try {
+                append(sb, component.getAccessor().invoke(record), maxLength, depth + 1);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                sb.append('?');
+            }
+        }
+
+        sb.append(']');
+    }
+
+    // 한도를 넘는 부분은 복사하지 않음 (넘었다는 표시를 위해 한 글자 더)
+    private static void appendCapped(StringBuilder sb, String text, int maxLength) {
+        int remaining = maxLength - sb.length() + 1;
+        sb.append(text, 0, Math.min(text.length(), Math.max(remaining, 0)));
+    }
+}
@@ -1,42 +1,117 @@
 package com.cgv.mega.common.logging;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 계측
+ * <p>
+ * - 실행 시간 : 모든 호출을 service.method 히스토그램(class, method, outcome = success / error)으로 기록
+ * - 호출 로그 : 메서드별 샘플링 비율(service.logging)에 걸린 호출만 [START]/[END] 를 남기고,
+ *   인자/반환값은 max-length 까지만 만든다. 예외는 샘플링 없이 항상 남긴다.
+ * - 로그 출력은 비동기 appender(logback-spring.xml)가 처리해 요청 스레드가 I/O 를 기다리지 않는다.
+ * </p>
+ */
 @Aspect
 @Component
 @Slf4j
 public class ServiceLoggingAspect {
 
+    private final MeterRegistry meterRegistry;
+    private final ServiceLoggingProperties properties;
+
+    // 메서드별 타이머/샘플링 비율 (최초 호출 시 생성)
+    private final Map<Method, MethodInstrument> instruments = new ConcurrentHashMap<>();
+
+    public ServiceLoggingAspect(MeterRegistry meterRegistry, ServiceLoggingProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
     @Pointcut("execution(* com.cgv.mega..service.*.*(..))")
     public void serviceMethods() {}
 
     @Around("serviceMethods()")
     public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
+        MethodInstrument instrument = instruments.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::createInstrument);
 
-        String method = joinPoint.getSignature().toShortString();
-        Object[] args = joinPoint.getArgs();
+        boolean sampled = log.isInfoEnabled() && instrument.sampled();
 
-        log.info("[START] {} args = {}", method, args);
+        if (sampled) {
+            log.info("[START] {} args = {}", instrument.name(), render(joinPoint.getArgs()));
+        }
+
+        long start = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long time = System.currentTimeMillis() - start;
+            long elapsed = System.nanoTime() - start;
+
+            instrument.success().record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (sampled) {
+                log.info("[END] {} return = {} ({}ms)", instrument.name(), render(result), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
 
-            log.info("[END] {} return = {} ({}ms)", method, result, time);
             return result;
         } catch (Exception e) {
-            long time = System.currentTimeMillis() - start;
+            long elapsed = System.nanoTime() - start;
+
+            instrument.error().record(elapsed, TimeUnit.NANOSECONDS);
 
             log.error("[EXCEPTION] {} args = {} ({}ms) ex = {}",
-                    method, args, time, e.getMessage(), e);
+                    instrument.name(), render(joinPoint.getArgs()), TimeUnit.NANOSECONDS.toMillis(elapsed), e.getMessage(), e);
 
             throw e;
         }
     }
+
+    private String render(Object value) {
+        return LogArgumentRenderer.render(value, properties.maxLength());
+    }
+
+    private MethodInstrument createInstrument(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        String methodName = method.getName();
+
+        return new MethodInstrument(
+                className + "." + methodName + "(..)",
+                properties.sampleRateOf(className, methodName),
+                timer(className, methodName, "success"),
+                timer(className, methodName, "error")
+        );
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        return Timer.builder("service.method")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private record MethodInstrument(String name, double sampleRate, Timer success, Timer error) {
+
+        boolean sampled() {
+            return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
+    }
 }
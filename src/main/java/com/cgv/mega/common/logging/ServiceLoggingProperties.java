@@ -0,0 +1,28 @@
+package com.cgv.mega.common.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 서비스 메서드 호출 로그 설정 (service.logging)
+ *
+ * @param sampleRate        호출 로그를 남길 비율 (0 ~ 1, 실행 시간은 항상 히스토그램으로 기록)
+ * @param maxLength         로그에 남길 인자/반환값 최대 길이
+ * @param methodSampleRates 메서드별 비율 (키 : 클래스명.메서드명)
+ */
+@ConfigurationProperties("service.logging")
+public record ServiceLoggingProperties(
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("500") int maxLength,
+        Map<String, Double> methodSampleRates
+) {
+    public ServiceLoggingProperties {
+        methodSampleRates = methodSampleRates == null ? Map.of() : Map.copyOf(methodSampleRates);
+    }
+
+    public double sampleRateOf(String className, String methodName) {
+        return methodSampleRates.getOrDefault(className + "." + methodName, sampleRate);
+    }
+}
@@ -0,0 +1,106 @@
+package com.cgv.mega.common.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 hex 문자열용 Bloom filter (스레드 안전, 추가만 가능)
+ * <p>
+ * 입력이 이미 암호학적 해시라 앞 16자/다음 16자를 두 해시 값으로 쓰고
+ * double hashing(h1 + i * h2)으로 k 개의 비트 위치를 만든다.
+ * </p>
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    // 예상 원소 수와 목표 오탐률로 비트 수/해시 수 결정
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    // 새로 켜진 비트가 있으면 true (이미 들어있던 값은 원소 수에 포함하지 않음)
+    boolean put(String hexHash) {
+        long h1 = parseHex(hexHash, 0);
+        long h2 = parseHex(hexHash, 16);
+        boolean changed = false;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+
+            changed |= (current & mask) == 0;
+        }
+
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+
+        return changed;
+    }
+
+    boolean mightContain(String hexHash) {
+        long h1 = parseHex(hexHash, 0);
+        long h2 = parseHex(hexHash, 16);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    // 현재 원소 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+    double expectedFalsePositiveRate() {
+        double exponent = -(double) hashCount * insertions.get() / bitSize;
+
+        return Math.pow(1 - Math.exp(exponent), hashCount);
+    }
+
+    // hex 16자를 long 으로 (부분 문자열 할당 없이)
+    private static long parseHex(String hex, int from) {
+        long value = 0;
+
+        for (int i = from; i < from + 16; i++) {
+            value = (value << 4) | Character.digit(hex.charAt(i), 16);
+        }
+
+        return value;
+    }
+}
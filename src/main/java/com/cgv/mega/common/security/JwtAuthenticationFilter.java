@@ -1,39 +1,26 @@
 package com.cgv.mega.common.security;
 
 import com.cgv.mega.auth.dto.JwtPayloadDto;
-import com.cgv.mega.auth.enums.TokenStatus;
+import com.cgv.mega.auth.dto.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final LogoutTokenRegistry logoutTokenRegistry;
+    private final PublicRouteMatcher publicRouteMatcher;
     private final JwtTokenProvider jwtTokenProvider;
 
-    private final List<PermitPass> PASS_PATHS = List.of(
-            new PermitPass(HttpMethod.POST, "/api/auth/login"),
-            new PermitPass(HttpMethod.POST, "/api/auth/refresh"),
-            new PermitPass(HttpMethod.POST, "/api/users"),
-            new PermitPass(HttpMethod.GET, "/api/movies/**"),
-            new PermitPass(HttpMethod.GET, "/api/screenings/movies"),
-            new PermitPass(HttpMethod.GET, "/api/screenings/*"),
-            new PermitPass(HttpMethod.GET, "/api/screenings/*/seats"),
-            new PermitPass(HttpMethod.GET, "/api/theaters")
-    );
-
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -42,18 +29,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String requestHeader = request.getHeader("Authorization");
 
-        boolean isPermitPass = PASS_PATHS.stream().anyMatch(p -> p.matches(request));
         boolean hasToken = StringUtils.hasText(requestHeader) && requestHeader.startsWith("Bearer ");
 
         if (hasToken) {
             String accessToken = requestHeader.substring(7);
 
-            if (!(jwtTokenProvider.getTokenStatus(accessToken) == TokenStatus.VALID) || isLogout(accessToken)) {
+            // 서명/만료 검증은 토큰당 한 번 (이후 요청은 캐시된 결과 사용)
+            VerifiedToken verifiedToken = jwtTokenProvider.verify(accessToken);
+
+            if (verifiedToken == null || logoutTokenRegistry.isRevoked(verifiedToken.hash())) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            JwtPayloadDto jwtPayload = jwtTokenProvider.parseToken(accessToken);
+            JwtPayloadDto jwtPayload = verifiedToken.payload();
 
             CustomUserDetails customUserDetails = new CustomUserDetails(
                     jwtPayload.userId(),
@@ -71,17 +60,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
-        } else if (!isPermitPass) {
+        } else if (!publicRouteMatcher.matches(request)) {
+            // 토큰 없는 요청은 공개 API 만 허용
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
         filterChain.doFilter(request, response);
     }
-
-    private boolean isLogout(String accessToken) {
-        return jwtTokenProvider.tokenToHash(accessToken)
-                .map(hash -> redisTemplate.opsForValue().get(hash) != null)
-                .orElse(false);
-    }
 }
\ No newline at end of file
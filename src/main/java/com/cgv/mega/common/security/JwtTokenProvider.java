@@ -1,11 +1,16 @@
 package com.cgv.mega.common.security;
 
 import com.cgv.mega.auth.dto.JwtPayloadDto;
+import com.cgv.mega.auth.dto.VerifiedToken;
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.auth.enums.TokenStatus;
 import com.cgv.mega.common.exception.CustomException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -13,21 +18,63 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 100_000;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final Long accessTokenExpiration;
     private final Long refreshTokenExpiration;
 
+    // 검증된 토큰 (토큰 해시 -> 검증 결과, 토큰 만료 시각에 함께 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    long remainMillis = value.expiresAt() - System.currentTimeMillis();
+
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
     public JwtTokenProvider(@Value("${jwt.secretKey}") String secretKey,
                             @Value("${jwt.access.expiration}") Long accessTokenExpiration,
                             @Value("${jwt.refresh.expiration}") Long refreshTokenExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -87,28 +134,47 @@ public class JwtTokenProvider {
         }
     }
 
+    // 요청 인증용 토큰 검증 (한 번만 파싱하고 결과를 만료 시각까지 캐시, 유효하지 않으면 null)
+    public VerifiedToken verify(String token) {
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+
+        if (cached != null) {
+            return cached.isExpired(System.currentTimeMillis()) ? null : cached;
+        }
+
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            VerifiedToken verified = new VerifiedToken(
+                    hash, JwtPayloadDto.fromClaims(claims), claims.getExpiration().getTime());
+
+            verifiedTokens.put(hash, verified);
+
+            return verified;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     // 토큰 문자열을 SHA-256 해시로 변환
     public Optional<String> tokenToHash(String accessToken) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(accessToken.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                hexString.append(String.format("%02x", b));
-            }
-            return Optional.of(hexString.toString());
+            return Optional.of(hash(accessToken));
         } catch (Exception e) {
             return Optional.empty();
         }
     }
 
+    private String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+
+        return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
     // JWT 토큰 파싱
     private Claims parseTokenToClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
+            return jwtParser.parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
             throw new CustomException(ErrorCode.JWT_TOKEN_EXPIRED);
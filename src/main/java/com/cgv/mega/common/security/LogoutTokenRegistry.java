@@ -0,0 +1,166 @@
+package com.cgv.mega.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃(폐기)된 access token 관리
+ * <p>
+ * - 폐기 : 토큰 해시 키(SET, 토큰 만료까지 TTL) + 재구성용 ZSET(logout:tokens, score = 만료 시각) 기록 후
+ *   pub/sub(logout-token)으로 모든 노드의 로컬 Bloom filter 에 추가한다.
+ * - 조회 : 로컬 Bloom filter 에 없으면 Redis 조회 없이 폐기되지 않은 토큰으로 판단하고,
+ *   filter 에 있을 때만 Redis GET 으로 확인한다. (filter 구성 전에는 항상 Redis 조회)
+ * - 재구성 : 시작 직후와 rebuild-interval 마다 ZSET 에서 만료된 해시를 지우고 남은 해시로 filter 를 새로 만든다.
+ *   pub/sub 메시지가 유실돼도 다음 재구성에서 반영된다.
+ * - 메트릭 : auth.logout.filter.size(filter 원소 수), auth.logout.filter.fpp(예상 오탐률),
+ *   auth.logout.filter.lookup(result = negative / revoked / false_positive)
+ * </p>
+ */
+@Slf4j
+@Component
+public class LogoutTokenRegistry {
+
+    public static final String CHANNEL = "logout-token";
+
+    private static final String REVOKED_TOKENS_KEY = "logout:tokens";
+    private static final String LOGOUT_VALUE = "logout";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long capacity;
+    private final double falsePositiveRate;
+
+    // null : 아직 구성 전
+    private volatile BloomFilter filter;
+
+    // 재구성 중(ZSET 조회 ~ 교체) 들어온 해시 (새 filter 에 다시 추가)
+    private final Queue<String> pendingHashes = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding = false;
+
+    private final Counter negativeCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+
+    public LogoutTokenRegistry(RedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${auth.logout-filter.capacity:100000}") long capacity,
+                               @Value("${auth.logout-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.falsePositiveRate = falsePositiveRate;
+
+        Gauge.builder("auth.logout.filter.size", this, registry -> registry.filter == null ? 0 : registry.filter.insertions())
+                .register(meterRegistry);
+        Gauge.builder("auth.logout.filter.fpp", this, registry -> registry.filter == null ? 0 : registry.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+
+        this.negativeCounter = meterRegistry.counter("auth.logout.filter.lookup", "result", "negative");
+        this.revokedCounter = meterRegistry.counter("auth.logout.filter.lookup", "result", "revoked");
+        this.falsePositiveCounter = meterRegistry.counter("auth.logout.filter.lookup", "result", "false_positive");
+    }
+
+    // 토큰 폐기 (expiresAt : 토큰 만료 시각 epoch millis)
+    public void revoke(String tokenHash, long expiresAt) {
+        long ttl = expiresAt - System.currentTimeMillis();
+
+        // 이미 만료된 토큰은 서명 검증에서 걸러짐
+        if (ttl <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(tokenHash, LOGOUT_VALUE, ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenHash, expiresAt);
+
+        add(tokenHash);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenHash);
+        } catch (RuntimeException e) {
+            // 다른 노드는 다음 재구성까지 filter 에 없어 Redis 조회 없이 통과시킬 수 있음
+            log.warn("[LOGOUT_FILTER] 폐기 토큰 발행 실패", e);
+        }
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        BloomFilter current = filter;
+
+        if (current != null && !current.mightContain(tokenHash)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        boolean revoked = redisTemplate.opsForValue().get(tokenHash) != null;
+
+        if (current != null) {
+            (revoked ? revokedCounter : falsePositiveCounter).increment();
+        }
+
+        return revoked;
+    }
+
+    // 로컬 filter 에 추가 (pub/sub 수신 포함)
+    void add(String tokenHash) {
+        BloomFilter current = filter;
+
+        if (current != null) {
+            current.put(tokenHash);
+        }
+
+        if (rebuilding) {
+            pendingHashes.add(tokenHash);
+        }
+
+        // 추가 도중 filter 가 교체된 경우
+        BloomFilter latest = filter;
+        if (latest != null && latest != current) {
+            latest.put(tokenHash);
+        }
+    }
+
+    // 시작 직후 첫 실행
+    @Scheduled(fixedDelayString = "${auth.logout-filter.rebuild-interval:60000}")
+    public void rebuild() {
+        pendingHashes.clear();
+        rebuilding = true;
+
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+
+            Set<String> hashes = redisTemplate.opsForZSet().range(REVOKED_TOKENS_KEY, 0, -1);
+            int size = hashes == null ? 0 : hashes.size();
+
+            // 설정 용량을 넘으면 오탐률 유지를 위해 크기를 늘림
+            BloomFilter rebuilt = BloomFilter.create(Math.max(capacity, size * 2L), falsePositiveRate);
+
+            if (hashes != null) {
+                hashes.forEach(rebuilt::put);
+            }
+
+            filter = rebuilt;
+            rebuilding = false;
+
+            String hash;
+            while ((hash = pendingHashes.poll()) != null) {
+                rebuilt.put(hash);
+            }
+
+            log.debug("[LOGOUT_FILTER] 재구성 완료 size = {}", rebuilt.insertions());
+        } catch (RuntimeException e) {
+            // 기존 filter 유지 (구성 전이면 계속 Redis 조회)
+            log.warn("[LOGOUT_FILTER] 재구성 실패", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+}
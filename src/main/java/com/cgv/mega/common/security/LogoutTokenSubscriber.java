@@ -0,0 +1,21 @@
+package com.cgv.mega.common.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드에서 폐기된 토큰 해시를 로컬 Bloom filter 에 추가 (자신이 보낸 메시지는 중복 추가되어도 무방)
+@Component
+@RequiredArgsConstructor
+public class LogoutTokenSubscriber implements MessageListener {
+
+    private final LogoutTokenRegistry logoutTokenRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        logoutTokenRegistry.add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
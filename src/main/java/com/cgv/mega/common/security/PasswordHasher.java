@@ -0,0 +1,120 @@
+package com.cgv.mega.common.security;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시/검증 (passwordHashExecutor 에서 실행)
+ * <p>
+ * - BCrypt 를 요청 스레드가 아닌 크기가 제한된 전용 풀에서 실행해
+ *   로그인 폭주 시에도 해시가 쓰는 CPU 는 pool-size 코어로 제한된다. (예매/좌석 조회 응답 유지)
+ * - 큐가 가득 차거나 timeout 안에 끝나지 않으면 PASSWORD_HASH_BUSY(429)
+ * - 저장된 해시의 cost 가 설정값보다 낮으면 로그인 성공 후 새 cost 로 재해시 (upgrade)
+ * - 메트릭 : auth.password.hash(operation = encode / matches, 해시 실행 시간),
+ *   auth.password.queue(대기 중인 해시 작업 수), auth.password.rejected(거절 수)
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final Duration timeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.password.timeout:3s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.timeout = timeout;
+
+        this.encodeTimer = meterRegistry.timer("auth.password.hash", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("auth.password.hash", "operation", "matches");
+        this.rejectedCounter = meterRegistry.counter("auth.password.rejected");
+
+        Gauge.builder("auth.password.queue", passwordHashExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시의 cost 가 설정값보다 낮은지
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 새 cost 로 재해시 후 저장 (응답을 기다리게 하지 않음, 거절되면 다음 로그인에서 다시 시도)
+    public void upgrade(String rawPassword, Consumer<String> saveEncodedPassword) {
+        try {
+            passwordHashExecutor.execute(() -> {
+                try {
+                    saveEncodedPassword.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (RuntimeException e) {
+                    log.warn("[PASSWORD_HASH] 비밀번호 해시 갱신 실패", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("[PASSWORD_HASH] 대기열이 가득 차 해시 갱신을 건너뜀");
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = passwordHashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASH_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
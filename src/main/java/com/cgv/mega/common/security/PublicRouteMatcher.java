@@ -0,0 +1,145 @@
+package com.cgv.mega.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공개 API 경로 매처 (HTTP 메서드별 경로 세그먼트 트리)
+ * <p>
+ * - 시작 시 route 목록을 메서드 → 세그먼트 트리로 한 번 컴파일하고,
+ *   요청마다 URI 를 '/' 단위로 따라 내려가며 판단한다. (route 마다 AntPathMatcher 패턴 해석 X)
+ * - 지원 패턴 : 고정 세그먼트, 한 세그먼트 전체 '*', 마지막 세그먼트 '**'
+ *   (AntPathMatcher 와 같은 결과 : 빈 세그먼트 무시, 패턴에 없는 끝 '/' 는 불일치)
+ * - 메서드가 null 인 route 는 모든 메서드에 적용
+ * </p>
+ */
+public class PublicRouteMatcher implements RequestMatcher {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Map<String, Node> methodRoots = new HashMap<>();
+    private final Node anyMethodRoot = new Node();
+
+    public PublicRouteMatcher(List<PermitPass> routes) {
+        routes.forEach(this::compile);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        Node methodRoot = methodRoots.get(request.getMethod());
+
+        return (methodRoot != null && match(methodRoot, path, 0))
+                || match(anyMethodRoot, path, 0);
+    }
+
+    private void compile(PermitPass route) {
+        Node node = route.httpMethod() == null
+                ? anyMethodRoot
+                : methodRoots.computeIfAbsent(route.httpMethod().name(), method -> new Node());
+
+        String[] segments = Arrays.stream(route.pathPattern().split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' 는 마지막 세그먼트에만 사용 가능 : " + route.pathPattern());
+                }
+
+                node.matchesRest = true;
+                return;
+            }
+
+            if (SINGLE_WILDCARD.equals(segment)) {
+                node = node.wildcard();
+            } else if (segment.contains("*") || segment.contains("{") || segment.contains("?")) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴 : " + route.pathPattern());
+            } else {
+                node = node.literal(segment);
+            }
+        }
+
+        node.terminal = true;
+    }
+
+    // from : 이전 세그먼트가 끝난 위치
+    private static boolean match(Node node, String path, int from) {
+        if (node.matchesRest) {
+            return true;
+        }
+
+        int length = path.length();
+        int start = from;
+        while (start < length && path.charAt(start) == '/') {
+            start++;
+        }
+
+        // 경로 끝 (끝 '/' 가 남아 있었다면 불일치)
+        if (start == length) {
+            return node.terminal && from == length;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+
+        int segmentLength = end - start;
+
+        // 고정 세그먼트 우선, 실패하면 '*' 로 재시도
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+
+            if (literal.length() == segmentLength
+                    && path.regionMatches(start, literal, 0, segmentLength)
+                    && match(node.children[i], path, end)) {
+                return true;
+            }
+        }
+
+        return node.wildcard != null && match(node.wildcard, path, end);
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private boolean matchesRest;
+        private boolean terminal;
+
+        private Node literal(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+
+            Node child = new Node();
+
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            literals[literals.length - 1] = segment;
+            children[children.length - 1] = child;
+
+            return child;
+        }
+
+        private Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+
+            return wildcard;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.cgv.mega.common.security;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+// 인증 없이 호출 가능한 API 목록 (JwtAuthenticationFilter, SecurityConfig 가 같은 PublicRouteMatcher 로 사용)
+public final class PublicRoutes {
+
+    public static final List<PermitPass> ROUTES = List.of(
+            // 토큰 관련 API
+            new PermitPass(HttpMethod.POST, "/api/auth/login"),
+            new PermitPass(HttpMethod.POST, "/api/auth/refresh"),
+
+            // 회원가입 API
+            new PermitPass(HttpMethod.POST, "/api/users"),
+
+            // 영화 상세 정보 조회 API
+            new PermitPass(HttpMethod.GET, "/api/movies/**"),
+
+            // 상영관 목록 API
+            new PermitPass(HttpMethod.GET, "/api/theaters"),
+
+            // 영화 상영 목록, 상영중인 영화 목록, 상영회차별 좌석 현황(SSE 포함) API
+            new PermitPass(HttpMethod.GET, "/api/screenings/movies"),
+            new PermitPass(HttpMethod.GET, "/api/screenings/*"),
+            new PermitPass(HttpMethod.GET, "/api/screenings/*/seats"),
+            new PermitPass(HttpMethod.GET, "/api/screenings/*/seats/stream"),
+
+            // 헬스 체크 (로드밸런서/쿠버네티스 liveness, readiness 프로브)
+            new PermitPass(HttpMethod.GET, "/actuator/health/**")
+    );
+
+    private PublicRoutes() {
+    }
+}
@@ -4,6 +4,7 @@ import com.cgv.mega.genre.dto.GenreListResponse;
 import com.cgv.mega.genre.entity.Genre;
 import com.cgv.mega.genre.repository.GenreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ public class GenreService {
 
     private final GenreRepository genreRepository;
 
+    @Cacheable(cacheNames = "genres", key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public GenreListResponse getAllGenre() {
         List<Genre> allGenres = genreRepository.findAllByOrderByIdAsc();
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
@@ -32,4 +34,14 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
            and m.status = :status
     """)
     Optional<Movie> findByIdWithGenresAndTypesForUser(@Param("movieId") Long moveId, MovieStatus status);
-}
\ No newline at end of file
+
+    @Query("""
+        select distinct m
+          from Movie m
+          left join fetch m.movieGenres mg
+          left join fetch mg.genre g
+          left join fetch m.movieTypes mt
+         where m.id in :movieIds
+    """)
+    List<Movie> findAllByIdInWithGenresAndTypes(@Param("movieIds") Collection<Long> movieIds);
+}
@@ -1,41 +1,27 @@
 package com.cgv.mega.movie.service;
 
-import com.cgv.mega.common.enums.ErrorCode;
-import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.movie.dto.MovieCreatedEvent;
 import com.cgv.mega.movie.dto.MovieDeletedEvent;
-import com.cgv.mega.movie.entity.Movie;
-import com.cgv.mega.movie.entity.MovieDocument;
-import com.cgv.mega.movie.repository.MovieRepository;
-import com.cgv.mega.movie.repository.MovieSearchRepository;
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class MovieEventHandler {
-    private final MovieRepository movieRepository;
-    private final MovieSearchRepository movieSearchRepository;
+    private final OutboxService outboxService;
 
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 영화 등록과 같은 트랜잭션에서 아웃박스 기록 (ES 색인은 relay 가 처리)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void addMovie(MovieCreatedEvent event) {
-        Movie movie = movieRepository.findByIdWithGenresAndTypes(event.movieId())
-                .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
-
-        movieSearchRepository.save(MovieDocument.from(movie));
+        outboxService.append(OutboxEventType.MOVIE_INDEX, event);
     }
 
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void deleteMovie(MovieDeletedEvent event) {
-        movieRepository.findById(event.movieId())
-                .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
-
-        movieSearchRepository.deleteById(event.movieId());
+        outboxService.append(OutboxEventType.MOVIE_DELETE, event);
     }
-}
\ No newline at end of file
+}
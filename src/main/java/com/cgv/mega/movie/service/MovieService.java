@@ -15,6 +15,8 @@ import com.cgv.mega.movie.repository.MovieRepository;
 import com.cgv.mega.movie.repository.MovieSearchService;
 import com.cgv.mega.screening.repository.ScreeningRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -64,6 +66,7 @@ public class MovieService {
 
     // 영화 삭제
     @Transactional
+    @CacheEvict(cacheNames = "movieInfo", key = "#movieId")
     public void deleteMovie(Long movieId) {
         Movie movie = movieRepository.findById(movieId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
@@ -83,6 +86,7 @@ public class MovieService {
 
     // 영화 상세조회
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "movieInfo", key = "#movieId", sync = true)
     public MovieInfoResponse getMovieInfo(Long movieId) {
         Movie movie = movieRepository.findByIdWithGenresAndTypesForUser(movieId, MovieStatus.ACTIVE)
                 .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
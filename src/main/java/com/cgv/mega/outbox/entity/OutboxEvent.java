@@ -0,0 +1,83 @@
+package com.cgv.mega.outbox.entity;
+
+import com.cgv.mega.common.entity.BaseTimeEntity;
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(
+                        name = "idx_outbox_events_status_next",
+                        columnList = "status, next_attempt_at"
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private OutboxEvent(OutboxEventType eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.retryCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent createOutboxEvent(OutboxEventType eventType, String payload) {
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+    }
+
+    // relay 점유 (점유 시각까지 다른 노드의 처리 대상에서 빠짐)
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 처리 실패 (최대 재시도 초과 시 FAILED 로 더 이상 처리하지 않음)
+    public void retryLater(String error, LocalDateTime nextAttemptAt, int maxRetry) {
+        this.retryCount++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+
+        if (retryCount >= maxRetry) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
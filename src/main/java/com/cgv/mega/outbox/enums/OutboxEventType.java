@@ -0,0 +1,15 @@
+package com.cgv.mega.outbox.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    SCREENING_SEAT_HOLD_DELETE("좌석 홀드 삭제 (Redis)"),
+    MOVIE_INDEX("영화 색인 (Elasticsearch)"),
+    MOVIE_DELETE("영화 색인 삭제 (Elasticsearch)")
+    ;
+
+    private final String korean;
+}
@@ -0,0 +1,6 @@
+package com.cgv.mega.outbox.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,24 @@
+package com.cgv.mega.outbox.repository;
+
+import com.cgv.mega.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리 대상 조회 (다른 노드의 relay 가 잡은 행은 건너뜀)
+    @Query(value = """
+                    SELECT *
+                      FROM outbox_events
+                     WHERE status = 'PENDING'
+                       AND next_attempt_at <= :now
+                     ORDER BY id
+                     LIMIT :limit
+                       FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> findRelayTargets(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
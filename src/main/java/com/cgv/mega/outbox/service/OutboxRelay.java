@@ -0,0 +1,289 @@
+package com.cgv.mega.outbox.service;
+
+import com.cgv.mega.movie.dto.MovieCreatedEvent;
+import com.cgv.mega.movie.dto.MovieDeletedEvent;
+import com.cgv.mega.movie.entity.MovieDocument;
+import com.cgv.mega.movie.enums.MovieStatus;
+import com.cgv.mega.movie.repository.MovieRepository;
+import com.cgv.mega.movie.repository.MovieSearchRepository;
+import com.cgv.mega.outbox.entity.OutboxEvent;
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.repository.OutboxEventRepository;
+import com.cgv.mega.reservation.dto.DeleteScreeningSeatKeyEvent;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 relay
+ * <p>
+ * 커밋된 아웃박스 이벤트를 묶어서 처리한다.
+ * - 좌석 홀드 삭제 : Redis pipeline 한 번
+ * - 영화 색인/삭제 : Elasticsearch bulk 요청
+ * 실패는 이벤트 단위로 기록해 (payload 오류, Elasticsearch bulk 항목 오류) 해당 이벤트만 지수 백오프로 재시도하고,
+ * 최대 재시도를 넘기면 FAILED 로 남긴다. (한 이벤트의 실패가 같은 묶음의 다른 이벤트를 FAILED 로 만들지 않음)
+ * 트랜잭션은 점유/결과 반영에만 짧게 쓰고, Redis/Elasticsearch 호출은 트랜잭션(행 잠금, DB 커넥션) 밖에서 한다.
+ * - 점유 : SKIP LOCKED 로 잡은 묶음의 다음 처리 시각을 LEASE 뒤로 미루고 커밋 (그동안 다른 노드 대상에서 빠짐)
+ * - 노드가 발행 중 죽으면 LEASE 가 지난 뒤 다시 처리된다. (발행은 멱등 : 키 삭제 / 문서 색인·삭제)
+ * 영화 색인은 이벤트 시점이 아닌 현재 DB 상태로 반영한다. 재시도로 늦게 처리된 색인 이벤트가
+ * 이미 처리된 삭제 이벤트 뒤에 와도, 삭제(INACTIVE)된 영화는 색인하지 않고 문서를 삭제한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_RETRY = 10;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+    private final MovieRepository movieRepository;
+    private final MovieSearchRepository movieSearchRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ScreeningSeatHoldRepository screeningSeatHoldRepository,
+                       MovieRepository movieRepository,
+                       MovieSearchRepository movieSearchRepository,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.screeningSeatHoldRepository = screeningSeatHoldRepository;
+        this.movieRepository = movieRepository;
+        this.movieSearchRepository = movieSearchRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+
+        this.processedCounter = meterRegistry.counter("outbox.relay.processed");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+
+        // 처리 시각이 된 이벤트 중 가장 오래된 이벤트의 대기 시간 (점유한 묶음 기준, 별도 조회 없음)
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 점유 (짧은 트랜잭션)
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claim(now));
+
+        updateLag(events, now);
+
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEvent> holdEvents = new ArrayList<>();
+        List<OutboxEvent> movieEvents = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            if (event.getEventType() == OutboxEventType.SCREENING_SEAT_HOLD_DELETE) {
+                holdEvents.add(event);
+            } else {
+                movieEvents.add(event);
+            }
+        }
+
+        // 발행 (트랜잭션 밖, 실패한 이벤트 ID -> 오류)
+        Map<Long, String> failures = new HashMap<>();
+
+        deleteScreeningSeatHolds(holdEvents, failures);
+        syncMovieDocuments(movieEvents, failures);
+
+        List<OutboxEvent> processed = events.stream()
+                .filter(event -> !failures.containsKey(event.getId()))
+                .toList();
+
+        // 결과 반영 (짧은 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> complete(processed, failures));
+
+        processedCounter.increment(processed.size());
+        failedCounter.increment(failures.size());
+    }
+
+    private List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> events = outboxEventRepository.findRelayTargets(now, BATCH_SIZE);
+
+        events.forEach(event -> event.lease(now.plus(LEASE)));
+
+        return events;
+    }
+
+    private void complete(List<OutboxEvent> processed, Map<Long, String> failures) {
+        // 처리 완료된 이벤트는 삭제
+        if (!processed.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(processed);
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (OutboxEvent event : outboxEventRepository.findAllById(failures.keySet())) {
+            event.retryLater(failures.get(event.getId()), now.plus(backoff(event.getRetryCount())), MAX_RETRY);
+        }
+    }
+
+    // 좌석 홀드 삭제 (상영회차별로 모아 pipeline 한 번, Redis 호출이 실패하면 읽은 이벤트 모두 재시도)
+    private void deleteScreeningSeatHolds(List<OutboxEvent> events, Map<Long, String> failures) {
+        Map<Long, Set<Long>> screeningSeatIdsByScreening = new HashMap<>();
+        List<OutboxEvent> readEvents = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            try {
+                DeleteScreeningSeatKeyEvent payload = read(event, DeleteScreeningSeatKeyEvent.class);
+
+                screeningSeatIdsByScreening
+                        .computeIfAbsent(payload.screeningId(), id -> new HashSet<>())
+                        .addAll(payload.screeningSeatIds());
+                readEvents.add(event);
+            } catch (IllegalStateException e) {
+                fail(failures, List.of(event), e.getMessage());
+            }
+        }
+
+        if (readEvents.isEmpty()) {
+            return;
+        }
+
+        try {
+            screeningSeatHoldRepository.deleteAll(screeningSeatIdsByScreening);
+        } catch (RuntimeException e) {
+            fail(failures, readEvents, e.getMessage());
+        }
+    }
+
+    // 영화 색인/삭제 (영화별 마지막 이벤트만 반영, 실패한 영화의 이벤트만 재시도)
+    private void syncMovieDocuments(List<OutboxEvent> events, Map<Long, String> failures) {
+        Map<Long, List<OutboxEvent>> eventsByMovie = new LinkedHashMap<>();
+        Map<Long, OutboxEventType> lastEventByMovie = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            try {
+                Long movieId = event.getEventType() == OutboxEventType.MOVIE_INDEX
+                        ? read(event, MovieCreatedEvent.class).movieId()
+                        : read(event, MovieDeletedEvent.class).movieId();
+
+                eventsByMovie.computeIfAbsent(movieId, id -> new ArrayList<>()).add(event);
+                lastEventByMovie.put(movieId, event.getEventType());
+            } catch (IllegalStateException e) {
+                fail(failures, List.of(event), e.getMessage());
+            }
+        }
+
+        List<Long> indexIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+
+        lastEventByMovie.forEach((movieId, type) -> {
+            if (type == OutboxEventType.MOVIE_INDEX) {
+                indexIds.add(movieId);
+            } else {
+                deleteIds.add(movieId);
+            }
+        });
+
+        // 실패한 영화 ID -> 오류
+        Map<Long, String> failedMovies = new HashMap<>();
+
+        if (!indexIds.isEmpty()) {
+            indexMovieDocuments(indexIds, deleteIds, failedMovies);
+        }
+
+        if (!deleteIds.isEmpty()) {
+            try {
+                movieSearchRepository.deleteAllById(deleteIds);
+            } catch (RuntimeException e) {
+                deleteIds.forEach(movieId -> failedMovies.put(movieId, e.getMessage()));
+            }
+        }
+
+        failedMovies.forEach((movieId, error) -> fail(failures, eventsByMovie.get(movieId), error));
+    }
+
+    // bulk 색인 (항목별 오류는 해당 영화만 실패, 이미 삭제된 영화는 deleteIds 로 옮김)
+    private void indexMovieDocuments(List<Long> movieIds, List<Long> deleteIds, Map<Long, String> failedMovies) {
+        try {
+            // 방금 커밋된 영화라 primary 에서 조회 (문서 변환까지 짧은 트랜잭션 안에서)
+            List<MovieDocument> documents = transactionTemplate.execute(status ->
+                    movieRepository.findAllByIdInWithGenresAndTypes(movieIds).stream()
+                            .filter(movie -> movie.getStatus() == MovieStatus.ACTIVE)
+                            .map(MovieDocument::from)
+                            .toList());
+
+            Set<Long> indexedIds = new HashSet<>();
+            documents.forEach(document -> indexedIds.add(document.getId()));
+
+            movieIds.stream()
+                    .filter(movieId -> !indexedIds.contains(movieId))
+                    .forEach(deleteIds::add);
+
+            if (documents.isEmpty()) {
+                return;
+            }
+
+            movieSearchRepository.saveAll(documents);
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().forEach((documentId, failure) ->
+                    failedMovies.put(Long.valueOf(documentId), String.valueOf(failure)));
+        } catch (RuntimeException e) {
+            movieIds.forEach(movieId -> failedMovies.put(movieId, e.getMessage()));
+        }
+    }
+
+    private void fail(Map<Long, String> failures, List<OutboxEvent> events, String error) {
+        log.warn("[OUTBOX] {}건 처리 실패 ids = {}, ex = {}",
+                events.size(), events.stream().map(OutboxEvent::getId).toList(), error);
+
+        events.forEach(event -> failures.put(event.getId(), error));
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("invalid outbox payload id = " + event.getId(), e);
+        }
+    }
+
+    private Duration backoff(int retryCount) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(retryCount, 16));
+
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // 점유 쿼리가 id 순이라 첫 이벤트가 가장 오래된 대상 (점유한 대상이 없으면 0)
+    private void updateLag(List<OutboxEvent> events, LocalDateTime now) {
+        long lag = events == null || events.isEmpty()
+                ? 0L
+                : Duration.between(events.get(0).getCreatedAt(), now).toMillis();
+
+        lagMillis.set(Math.max(lag, 0));
+    }
+}
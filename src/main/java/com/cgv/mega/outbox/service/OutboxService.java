@@ -0,0 +1,32 @@
+package com.cgv.mega.outbox.service;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.outbox.entity.OutboxEvent;
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 비즈니스 트랜잭션 안에서 아웃박스 기록 (커밋되면 relay 가 처리)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Object payload) {
+        try {
+            outboxEventRepository.save(
+                    OutboxEvent.createOutboxEvent(eventType, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+}
@@ -3,11 +3,16 @@ package com.cgv.mega.payment.controller;
 import com.cgv.mega.common.response.CustomResponse;
 import com.cgv.mega.common.security.CustomUserDetails;
 import com.cgv.mega.payment.dto.PaymentCompleteRequest;
+import com.cgv.mega.payment.dto.PaymentStatusResponse;
 import com.cgv.mega.payment.service.PaymentService;
+import com.cgv.mega.payment.service.PaymentVerificationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentVerificationService paymentVerificationService;
 
     @PostMapping("/complete")
     public ResponseEntity<CustomResponse<Void>> completePayments(
@@ -28,4 +34,25 @@ public class PaymentController {
 
         return ResponseEntity.ok(CustomResponse.of());
     }
-}
\ No newline at end of file
+
+    // 결제 검증 비동기 접수 (202 반환 후 상태 조회 API 로 polling)
+    @PostMapping("/complete/async")
+    public ResponseEntity<CustomResponse<PaymentStatusResponse>> requestPaymentVerification(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestBody @Valid PaymentCompleteRequest request) {
+        PaymentStatusResponse response = paymentVerificationService.requestVerification(user.id(), request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(CustomResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    // 결제 검증 상태 조회
+    @GetMapping("/{paymentId}/status")
+    public ResponseEntity<CustomResponse<PaymentStatusResponse>> getPaymentStatus(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable("paymentId") String paymentId) {
+        PaymentStatusResponse response = paymentService.getPaymentStatus(user.id(), paymentId);
+
+        return ResponseEntity.ok(CustomResponse.of(response));
+    }
+}
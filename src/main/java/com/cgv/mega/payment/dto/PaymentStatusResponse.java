@@ -0,0 +1,9 @@
+package com.cgv.mega.payment.dto;
+
+import com.cgv.mega.payment.enums.PaymentStatus;
+
+public record PaymentStatusResponse(
+        String paymentId,
+        PaymentStatus status
+) {
+}
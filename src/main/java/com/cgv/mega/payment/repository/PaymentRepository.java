@@ -1,11 +1,25 @@
 package com.cgv.mega.payment.repository;
 
 import com.cgv.mega.payment.entity.Payment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByPaymentId(String paymentId);
     Optional<Payment> findByReservationGroupId(Long reservationGroupId);
+    Optional<Payment> findByPaymentIdAndReservationGroupUserId(String paymentId, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                    SELECT p
+                      FROM Payment p
+                      JOIN FETCH p.reservationGroup
+                     WHERE p.paymentId = :paymentId
+            """)
+    Optional<Payment> findByPaymentIdForUpdate(@Param("paymentId") String paymentId);
 }
@@ -1,6 +1,7 @@
 package com.cgv.mega.payment.service;
 
 import com.cgv.mega.booking.dto.BuyerInfoDto;
+import com.cgv.mega.common.dto.UserDataChangedEvent;
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.payment.dto.*;
@@ -9,9 +10,14 @@ import com.cgv.mega.payment.enums.PaymentStatus;
 import com.cgv.mega.payment.repository.PaymentRepository;
 import com.cgv.mega.reservation.entity.ReservationGroup;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
+import com.cgv.mega.screening.dto.AvailableSeatCountChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatChangedEvent;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.security.SecureRandom;
@@ -27,6 +33,8 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final ReservationGroupRepository reservationGroupRepository;
     private final PortOneClient portOneClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String ALPHA_NUM = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
 
@@ -49,52 +57,79 @@ public class PaymentService {
         return saved;
     }
 
-    // 결제 검증
-    @Transactional
+    // 결제 검증 (동기)
+    // 포트원 조회는 트랜잭션 밖에서 하고, 결과는 비동기 워커와 같은 경로(결제 행 잠금 후 재확인)로 반영
     public void verifyAndCompletePayment(Long userId, PaymentCompleteRequest request) {
+        // 이미 검증 완료된 상태면 return (방금 만든 결제라 primary 에서 조회)
+        PaymentStatus current = transactionTemplate.execute(tx -> getVerifiablePaymentStatus(userId, request));
+        if (current != PaymentStatus.READY) {
+            return;
+        }
+
+        // 포트원 서버로부터 결제 조회 API 호출
+        PortOnePaymentResponse response = portOneClient.getPaymentInfo(request.paymentId());
+
+        PaymentStatus status = transactionTemplate.execute(
+                tx -> applyVerificationResult(request.paymentId(), response));
+
+        // 불일치로 실패 처리된 경우 (실패 상태/좌석 반환은 커밋됨)
+        if (status != PaymentStatus.COMPLETED) {
+            throw new CustomException(ErrorCode.PAYMENT_INFO_MISMATCH);
+        }
+    }
+
+    // 비동기 결제 검증 접수 전 예약/결제 소유 확인
+    @Transactional(readOnly = true)
+    public PaymentStatus getVerifiablePaymentStatus(Long userId, PaymentCompleteRequest request) {
         ReservationGroup reservationGroup = reservationGroupRepository.findByIdAndUserId(request.reservationGroupId(), userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
 
         Payment payment = paymentRepository.findByPaymentId(request.paymentId())
                 .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 
-        // 이미 검증 완료된 상태면 return
-        if (payment.isFinalized()) {
-            return;
-        }
-
-        // 해당 예약에 대한 결제 내역인지 검증
         if (!payment.getReservationGroup().getId().equals(reservationGroup.getId())) {
             throw new CustomException(ErrorCode.PAYMENT_INFO_MISMATCH);
         }
 
-        // 포트원 서버로부터 결제 조회 API 호출
-        PortOnePaymentResponse response = portOneClient.getPaymentInfo(request.paymentId());
+        return payment.getStatus();
+    }
 
-        // paymentId (거래 ID) 일치 검증
-        if (!response.id().equals(request.paymentId())) {
-            markFail(payment, reservationGroup, "payment_id mismatch");
-            throw new CustomException(ErrorCode.PAYMENT_INFO_MISMATCH);
-        }
+    // 포트원 조회 결과 반영 (외부 호출은 트랜잭션 밖에서 끝낸 뒤 짧은 트랜잭션으로 확정)
+    @Transactional
+    public PaymentStatus applyVerificationResult(String paymentId, PortOnePaymentResponse response) {
+        Payment payment = paymentRepository.findByPaymentIdForUpdate(paymentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
 
-        // 금액 검증
-        BigDecimal paidAmount = response.amount().total();
-        if (paidAmount.compareTo(payment.getExpectedAmount()) != 0) {
-            markFail(payment, reservationGroup, "amount mismatch");
-            throw new CustomException(ErrorCode.PAYMENT_INFO_MISMATCH);
+        // 다른 워커/동기 요청이 먼저 확정한 경우 (잠금 후 다시 확인)
+        if (payment.isFinalized()) {
+            return payment.getStatus();
         }
 
-        // 결제 상태 검증
-        if (!"PAID".equalsIgnoreCase(response.status())) {
-            markFail(payment, reservationGroup, "status: " + response.status());
-            throw new CustomException(ErrorCode.PAYMENT_INFO_MISMATCH);
+        ReservationGroup reservationGroup = payment.getReservationGroup();
+
+        // 결제 상태 polling 은 primary 에서 (read-your-writes)
+        eventPublisher.publishEvent(new UserDataChangedEvent(reservationGroup.getUserId()));
+
+        // 실패도 커밋되어야 하므로 예외 대신 상태로 반환
+        String failReason = findMismatchReason(payment, response);
+        if (failReason != null) {
+            markFail(payment, reservationGroup, failReason);
+            return payment.getStatus();
         }
 
-        // 결제 상태 변경 및 데이터 추가
         updatePaymentSuccess(payment, response);
-
-        // 예약 상태 변경
         reservationGroup.successReservation();
+
+        return payment.getStatus();
+    }
+
+    // 결제 검증 상태 조회 (polling)
+    @Transactional(readOnly = true)
+    public PaymentStatusResponse getPaymentStatus(Long userId, String paymentId) {
+        Payment payment = paymentRepository.findByPaymentIdAndReservationGroupUserId(paymentId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+
+        return new PaymentStatusResponse(payment.getPaymentId(), payment.getStatus());
     }
 
     // 결제 취소
@@ -178,7 +213,32 @@ public class PaymentService {
         payment.failedPayment(reason);
 
         // 예약 상태 실패로 변경 및 좌석 반환
-        reservationGroup.cancelAndReleaseSeats();
+        int released = reservationGroup.cancelAndReleaseSeats();
+
+        eventPublisher.publishEvent(new ScreeningSeatChangedEvent(
+                reservationGroup.getScreeningId(), reservationGroup.getScreeningSeatIds(), DisplayScreeningSeatStatus.AVAILABLE));
+        eventPublisher.publishEvent(new AvailableSeatCountChangedEvent(reservationGroup.getScreeningId(), released));
+    }
+
+    // 포트원 결제 정보와 불일치 사유 (일치하면 null)
+    private String findMismatchReason(Payment payment, PortOnePaymentResponse response) {
+        // paymentId (거래 ID) 일치 검증
+        if (!response.id().equals(payment.getPaymentId())) {
+            return "payment_id mismatch";
+        }
+
+        // 금액 검증
+        BigDecimal paidAmount = response.amount().total();
+        if (paidAmount.compareTo(payment.getExpectedAmount()) != 0) {
+            return "amount mismatch";
+        }
+
+        // 결제 상태 검증
+        if (!"PAID".equalsIgnoreCase(response.status())) {
+            return "status: " + response.status();
+        }
+
+        return null;
     }
 
     private void updatePaymentSuccess(Payment payment, PortOnePaymentResponse response) {
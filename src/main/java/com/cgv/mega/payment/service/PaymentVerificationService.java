@@ -0,0 +1,34 @@
+package com.cgv.mega.payment.service;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.payment.dto.PaymentCompleteRequest;
+import com.cgv.mega.payment.dto.PaymentStatusResponse;
+import com.cgv.mega.payment.enums.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentVerificationService {
+
+    private final PaymentService paymentService;
+    private final PaymentVerificationWorker paymentVerificationWorker;
+
+    // 결제 검증 비동기 접수 (DB 커넥션/요청 스레드를 PG 응답 대기에 묶지 않음)
+    public PaymentStatusResponse requestVerification(Long userId, PaymentCompleteRequest request) {
+        PaymentStatus status = paymentService.getVerifiablePaymentStatus(userId, request);
+
+        // 이미 확정된 결제는 현재 상태만 반환
+        if (status == PaymentStatus.READY) {
+            try {
+                paymentVerificationWorker.verify(request.paymentId());
+            } catch (TaskRejectedException e) {
+                throw new CustomException(ErrorCode.PAYMENT_VERIFICATION_BUSY);
+            }
+        }
+
+        return new PaymentStatusResponse(request.paymentId(), status);
+    }
+}
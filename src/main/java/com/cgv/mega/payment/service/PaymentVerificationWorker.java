@@ -0,0 +1,41 @@
+package com.cgv.mega.payment.service;
+
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.payment.dto.PortOnePaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentVerificationWorker {
+
+    private final PortOneClient portOneClient;
+    private final PaymentService paymentService;
+
+    // 같은 결제에 대한 중복 검증 방지 (노드 간 중복은 결제 row lock 으로 처리)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 포트원 조회는 트랜잭션 밖에서, 결과 반영만 짧은 트랜잭션으로 처리
+    @Async("paymentVerificationExecutor")
+    public void verify(String paymentId) {
+        if (!inFlight.add(paymentId)) {
+            return;
+        }
+
+        try {
+            PortOnePaymentResponse response = portOneClient.getPaymentInfo(paymentId);
+            paymentService.applyVerificationResult(paymentId, response);
+        } catch (CustomException e) {
+            // 결제는 READY 로 남아 재요청 시 다시 검증됨
+            log.warn("[PAYMENT VERIFY] paymentId = {} error = {}", paymentId, e.getErrorCode());
+        } finally {
+            inFlight.remove(paymentId);
+        }
+    }
+}
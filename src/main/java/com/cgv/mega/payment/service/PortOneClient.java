@@ -1,5 +1,7 @@
 package com.cgv.mega.payment.service;
 
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.payment.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.HttpHeaders;
@@ -7,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
 
 import java.math.BigDecimal;
 
@@ -14,46 +17,52 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 public class PortOneClient {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${portone.api-url}")
-    private String baseUrl;
+    private final WebClient portOneWebClient;
 
     @Value("${portone.api-secret}")
     private String apiSecret;
 
     // 결제 단건 조회 API 호출
     public PortOnePaymentResponse getPaymentInfo(String paymentId) {
-        return getClient().get()
-                .uri("/payments/{paymentId}", paymentId)
-                .header(HttpHeaders.AUTHORIZATION, "PortOne " + apiSecret)
-                .retrieve()
-                .bodyToMono(PortOnePaymentResponse.class)
-                .block();
+        try {
+            return portOneWebClient.get()
+                    .uri("/payments/{paymentId}", paymentId)
+                    .header(HttpHeaders.AUTHORIZATION, "PortOne " + apiSecret)
+                    .retrieve()
+                    .bodyToMono(PortOnePaymentResponse.class)
+                    .block();
+        } catch (WebClientException e) {
+            // 연결 실패, 타임아웃, 커넥션 풀 대기 초과, 오류 응답
+            throw new CustomException(ErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
     }
 
     // 환불 API 호출
     public RefundResult refundPayment(String paymentId, PortOneCancelRequest request) {
-        PortOneCancellationWrapper response = getClient().post()
-                .uri("/payments/{paymentId}/cancel", paymentId)
-                .header(HttpHeaders.AUTHORIZATION, "PortOne " + apiSecret)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(PortOneCancellationWrapper.class)
-                .block();
+        PortOneCancellationWrapper response;
+
+        try {
+            response = portOneWebClient.post()
+                    .uri("/payments/{paymentId}/cancel", paymentId)
+                    .header(HttpHeaders.AUTHORIZATION, "PortOne " + apiSecret)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(PortOneCancellationWrapper.class)
+                    .block();
+        } catch (WebClientException e) {
+            throw new CustomException(ErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
+
+        if (response == null) {
+            return RefundResult.failure("EMPTY_RESPONSE");
+        }
 
         PortOneCancellationResponse cancellation = response.cancellation();
 
         return toRefundResult(cancellation);
     }
 
-    private WebClient getClient() {
-        return webClientBuilder
-                .baseUrl(baseUrl)
-                .build();
-    }
-
     private RefundResult toRefundResult(PortOneCancellationResponse p) {
         if (p == null) {
             return RefundResult.failure("EMPTY_RESPONSE");
@@ -2,6 +2,7 @@ package com.cgv.mega.reservation.controller;
 
 import com.cgv.mega.booking.dto.BookingResponse;
 import com.cgv.mega.booking.service.BookingService;
+import com.cgv.mega.common.dto.CursorResponse;
 import com.cgv.mega.common.dto.PageResponse;
 import com.cgv.mega.common.response.CustomResponse;
 import com.cgv.mega.common.security.CustomUserDetails;
@@ -52,6 +53,19 @@ public class ReservationController {
         return ResponseEntity.ok(CustomResponse.of(response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CustomResponse<CursorResponse<ReservationListResponse>>> getReservationListByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorResponse<ReservationListResponse> response
+                = reservationService.getReservationListByCursor(user.id(), cursor, size, withTotal);
+
+        return ResponseEntity.ok(CustomResponse.of(response));
+    }
+
     @DeleteMapping("{reservationGroupId}")
     public ResponseEntity<CustomResponse<Void>> cancelReservation(
             @AuthenticationPrincipal CustomUserDetails user,
@@ -1,8 +1,9 @@
 package com.cgv.mega.reservation.dto;
 
-import java.util.List;
+import java.util.Set;
 
 public record DeleteScreeningSeatKeyEvent(
-        List<String> keys
+        Long screeningId,
+        Set<Long> screeningSeatIds
 ) {
 }
@@ -0,0 +1,48 @@
+package com.cgv.mega.reservation.dto;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 예약 목록 커서 (마지막으로 조회한 예약의 상영 시작 시간 + 예약 그룹 ID)
+public record ReservationCursor(
+        LocalDateTime startTime,
+        Long reservationGroupId
+) {
+    private static final String DELIMITER = "_";
+
+    public static ReservationCursor from(ReservationListDto dto) {
+        return new ReservationCursor(dto.startTime(), dto.reservationGroupId());
+    }
+
+    // 첫 페이지는 null
+    public static ReservationCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new ReservationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = startTime + DELIMITER + reservationGroupId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
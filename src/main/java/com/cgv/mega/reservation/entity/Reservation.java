@@ -44,9 +44,7 @@ public class Reservation {
                 .build();
     }
 
-    public void releaseSeat() {
-        if (this.screeningSeat != null) {
-            this.screeningSeat.cancelScreeningSeat();
-        }
+    public boolean releaseSeat() {
+        return this.screeningSeat != null && this.screeningSeat.cancelScreeningSeat();
     }
 }
\ No newline at end of file
@@ -64,16 +64,22 @@ public class ReservationGroup extends BaseTimeEntity {
         this.status = ReservationStatus.PAID;
     }
 
-    public void cancelAndReleaseSeats() {
+    // 예약 취소 및 좌석 반환 (반환된 좌석 수)
+    public int cancelAndReleaseSeats() {
         if (this.status == ReservationStatus.CANCELLED) {
-            return;
+            return 0;
         }
 
         this.status = ReservationStatus.CANCELLED;
 
+        int released = 0;
         for (Reservation reservation : reservations) {
-            reservation.releaseSeat();
+            if (reservation.releaseSeat()) {
+                released++;
+            }
         }
+
+        return released;
     }
 
     public void cancel() {
@@ -84,6 +90,24 @@ public class ReservationGroup extends BaseTimeEntity {
         this.status = ReservationStatus.CANCELLED;
     }
 
+    // 예약 묶음은 하나의 상영회차에 속함
+    public Long getScreeningId() {
+        if (this.reservations.isEmpty()) {
+            return null;
+        }
+
+        return this.reservations.get(0).getScreeningSeat().getScreening().getId();
+    }
+
+    public Set<Long> getScreeningSeatIds() {
+        Set<Long> screeningSeatIds = new HashSet<>();
+        for (Reservation reservation : this.reservations) {
+            screeningSeatIds.add(reservation.getScreeningSeat().getId());
+        }
+
+        return screeningSeatIds;
+    }
+
     private int calculateTotalPrice() {
         return this.reservations.stream()
                 .mapToInt(r -> r.getScreeningSeat().getPrice())
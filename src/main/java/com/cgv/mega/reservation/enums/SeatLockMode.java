@@ -0,0 +1,6 @@
+package com.cgv.mega.reservation.enums;
+
+public enum SeatLockMode {
+    PESSIMISTIC,    // SELECT ... FOR UPDATE 후 상태 변경
+    OPTIMISTIC      // AVAILABLE 조건부 bulk update 후 변경 건수 검증
+}
@@ -1,7 +1,10 @@
 package com.cgv.mega.reservation.repository;
 
 import com.cgv.mega.reservation.entity.ReservationGroup;
+import com.cgv.mega.reservation.enums.ReservationStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,13 +25,26 @@ public interface ReservationGroupRepository extends JpaRepository<ReservationGro
             @Param("reservationGroupId") Long reservationGroupId,
             @Param("userId") Long userId);
 
+    // 상영회차의 예약 묶음 ID 목록 (해당 상태 제외)
     @Query("""
-                select distinct rg
+                select distinct rg.id
                   from ReservationGroup rg
-                  join fetch rg.reservations r
-                  join fetch r.screeningSeat ss
-                  join fetch ss.screening sc
-                 where sc.id = :screeningId
+                  join rg.reservations r
+                  join r.screeningSeat ss
+                 where ss.screening.id = :screeningId
+                   and rg.status <> :status
+                 order by rg.id
             """)
-    List<ReservationGroup> findAllByScreeningId(Long screeningId);
-}
\ No newline at end of file
+    List<Long> findIdsByScreeningIdAndStatusNot(
+            @Param("screeningId") Long screeningId,
+            @Param("status") ReservationStatus status);
+
+    // 상영 취소 작업용 (같은 예약 묶음을 두 노드가 동시에 환불하지 않도록 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select rg
+                  from ReservationGroup rg
+                 where rg.id = :reservationGroupId
+            """)
+    Optional<ReservationGroup> findByIdForUpdate(@Param("reservationGroupId") Long reservationGroupId);
+}
@@ -1,8 +1,10 @@
 package com.cgv.mega.reservation.repository;
 
+import com.cgv.mega.reservation.dto.ReservationCursor;
 import com.cgv.mega.reservation.dto.ReservationDetailDto;
 import com.cgv.mega.reservation.dto.ReservationListDto;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -90,14 +92,51 @@ public class ReservationQueryRepository {
         return results.isEmpty() ? null : results.get(0);
     }
 
+    // 예약 목록 (offset) - 좌석 행이 아닌 예약 그룹 단위로 페이징
     public Page<ReservationListDto> getReservationList(Long userId, Pageable pageable) {
-        Long total = jpaQueryFactory
-                .select(reservationGroup.id.countDistinct())
+        long total = countReservationGroups(userId);
+
+        List<Long> reservationGroupIds = jpaQueryFactory
+                .select(reservationGroup.id)
                 .from(reservationGroup)
+                .join(reservationGroup.reservations, reservation)
+                .join(reservation.screeningSeat, screeningSeat)
+                .join(screeningSeat.screening, screening)
                 .where(reservationGroup.userId.eq(userId))
-                .fetchOne();
+                .groupBy(reservationGroup.id, screening.startTime)
+                .orderBy(screening.startTime.desc(), reservationGroup.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        List<ReservationListDto> transform = jpaQueryFactory
+        return new PageImpl<>(getReservationListByIds(reservationGroupIds), pageable, total);
+    }
+
+    // 예약 그룹 ID 페이지 (커서) - (상영 시작 시간, 예약 그룹 ID) 내림차순으로 커서 이후만 조회
+    public List<Long> getReservationGroupIds(Long userId, ReservationCursor cursor, int limit) {
+        return jpaQueryFactory
+                .select(reservationGroup.id)
+                .from(reservationGroup)
+                .join(reservationGroup.reservations, reservation)
+                .join(reservation.screeningSeat, screeningSeat)
+                .join(screeningSeat.screening, screening)
+                .where(
+                        reservationGroup.userId.eq(userId),
+                        after(cursor)
+                )
+                .groupBy(reservationGroup.id, screening.startTime)
+                .orderBy(screening.startTime.desc(), reservationGroup.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 예약 그룹 ID 목록의 상세 (좌석 포함)
+    public List<ReservationListDto> getReservationListByIds(List<Long> reservationGroupIds) {
+        if (reservationGroupIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory
                 .from(reservationGroup)
                 .join(reservationGroup.reservations, reservation)
                 .join(reservation.screeningSeat, screeningSeat)
@@ -106,11 +145,9 @@ public class ReservationQueryRepository {
                 .join(screening.theater, theater)
                 .join(screening.movie, movie)
                 .where(
-                        reservationGroup.userId.eq(userId)
+                        reservationGroup.id.in(reservationGroupIds)
                 )
-                .orderBy(screening.startTime.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(screening.startTime.desc(), reservationGroup.id.desc())
                 .transform(
                         groupBy(reservationGroup.id).list(
                                 Projections.constructor(
@@ -136,7 +173,25 @@ public class ReservationQueryRepository {
                                 )
                         )
                 );
+    }
+
+    public long countReservationGroups(Long userId) {
+        Long total = jpaQueryFactory
+                .select(reservationGroup.count())
+                .from(reservationGroup)
+                .where(reservationGroup.userId.eq(userId))
+                .fetchOne();
+
+        return total != null ? total : 0L;
+    }
+
+    private BooleanExpression after(ReservationCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
 
-        return new PageImpl<>(transform, pageable, total);
+        return screening.startTime.lt(cursor.startTime())
+                .or(screening.startTime.eq(cursor.startTime())
+                        .and(reservationGroup.id.lt(cursor.reservationGroupId())));
     }
 }
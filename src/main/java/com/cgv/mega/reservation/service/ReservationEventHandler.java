@@ -1,8 +1,9 @@
 package com.cgv.mega.reservation.service;
 
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.service.OutboxService;
 import com.cgv.mega.reservation.dto.DeleteScreeningSeatKeyEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -11,10 +12,11 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class ReservationEventHandler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final OutboxService outboxService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 예약과 같은 트랜잭션에서 아웃박스 기록 (홀드 삭제는 relay 가 처리)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void deleteScreeningSeatKeyEventHandler(DeleteScreeningSeatKeyEvent event) {
-        redisTemplate.delete(event.keys());
+        outboxService.append(OutboxEventType.SCREENING_SEAT_HOLD_DELETE, event);
     }
 }
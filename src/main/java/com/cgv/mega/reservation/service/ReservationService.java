@@ -1,44 +1,58 @@
 package com.cgv.mega.reservation.service;
 
+import com.cgv.mega.common.dto.CursorResponse;
 import com.cgv.mega.common.dto.PageResponse;
+import com.cgv.mega.common.dto.UserDataChangedEvent;
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.payment.service.PaymentService;
 import com.cgv.mega.reservation.dto.*;
 import com.cgv.mega.reservation.entity.ReservationGroup;
 import com.cgv.mega.reservation.enums.ReservationStatus;
+import com.cgv.mega.reservation.enums.SeatLockMode;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
 import com.cgv.mega.reservation.repository.ReservationQueryRepository;
+import com.cgv.mega.screening.dto.AvailableSeatCountChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatChangedEvent;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.screening.service.ScreeningSeatService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
+    // 커서 조회 한 번에 가져오는 최대 예약 묶음 수
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final ReservationQueryRepository reservationQueryRepository;
     private final ReservationGroupRepository reservationGroupRepository;
     private final ScreeningSeatRepository screeningSeatRepository;
     private final ScreeningSeatService screeningSeatService;
     private final ScreeningRepository screeningRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final PaymentService paymentService;
 
+    @Value("${reservation.seat-lock-mode:PESSIMISTIC}")
+    private SeatLockMode seatLockMode;
+
     // 예약 (결제하기 버튼 클릭 후 -> 결제창 열었을 떄 예약 + 결제 생성)
     @Transactional
     public ReservationGroup createReservation(Long userId, Long screeningId, ReservationRequest request) {
@@ -48,28 +62,10 @@ public class ReservationService {
         // 예약 가능한지 검증
         screening.validateReservable(LocalDateTime.now());
 
-        // row lock
-        List<ScreeningSeat> screeningSeats
-                = screeningSeatRepository.findByIdInAndScreeningIdForUpdate(request.screeningSeatIds(), screeningId);
-
-        if (screeningSeats.size() != request.screeningSeatIds().size()) {
-            throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_FOUND);
-        }
-
-        // redis ttl로 현재 사용자가 hold한 좌석이 맞는지 검증 아니면 다른 사람이 hold한 좌석이므로 throw
-        List<String> keys = request.screeningSeatIds().stream()
-                .map(s -> "seat:" + s.toString())
-                .toList();
-
-        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
-        for (Object value : values) {
-            if (value == null || !value.toString().equals(userId.toString())) {
-                throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_AVAILABLE);
-            }
-        }
-
-        // 좌석 상태 변경
-        screeningSeatService.reserveScreeningSeat(screeningSeats);
+        // 좌석 상태 변경 (설정된 잠금 방식)
+        List<ScreeningSeat> screeningSeats = seatLockMode == SeatLockMode.OPTIMISTIC
+                ? reserveSeatsWithConditionalUpdate(userId, screeningId, request.screeningSeatIds())
+                : reserveSeatsWithRowLock(userId, screeningId, request.screeningSeatIds());
 
         // reservation + reservation group 생성 및 저장
         ReservationGroup reservationGroup = ReservationGroup.createReservationGroup(userId);
@@ -79,12 +75,50 @@ public class ReservationService {
 
         ReservationGroup saved = reservationGroupRepository.save(reservationGroup);
 
-        // redis ttl 삭제
-        eventPublisher.publishEvent(new DeleteScreeningSeatKeyEvent(keys));
+        // 좌석 홀드 삭제
+        eventPublisher.publishEvent(new DeleteScreeningSeatKeyEvent(screeningId, request.screeningSeatIds()));
+
+        // 좌석 현황 캐시 버전 갱신
+        eventPublisher.publishEvent(new ScreeningSeatChangedEvent(
+                screeningId, request.screeningSeatIds(), DisplayScreeningSeatStatus.RESERVED));
+        eventPublisher.publishEvent(new AvailableSeatCountChangedEvent(screeningId, -screeningSeats.size()));
+
+        // 직후 예약 조회는 primary 에서 (read-your-writes)
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
 
         return saved;
     }
 
+    // row lock 후 상태 변경
+    private List<ScreeningSeat> reserveSeatsWithRowLock(Long userId, Long screeningId, Set<Long> screeningSeatIds) {
+        List<ScreeningSeat> screeningSeats
+                = screeningSeatRepository.findByIdInAndScreeningIdForUpdate(screeningSeatIds, screeningId);
+
+        if (screeningSeats.size() != screeningSeatIds.size()) {
+            throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_FOUND);
+        }
+
+        validateHold(userId, screeningId, screeningSeatIds);
+
+        screeningSeatService.reserveScreeningSeat(screeningSeats);
+
+        return screeningSeats;
+    }
+
+    // hold 소유권 확인 후 AVAILABLE 조건부 update (SELECT ... FOR UPDATE 없음)
+    private List<ScreeningSeat> reserveSeatsWithConditionalUpdate(Long userId, Long screeningId, Set<Long> screeningSeatIds) {
+        validateHold(userId, screeningId, screeningSeatIds);
+
+        return screeningSeatService.reserveAvailableScreeningSeats(screeningId, screeningSeatIds);
+    }
+
+    // 현재 사용자가 hold한 좌석이 맞는지 검증 아니면 다른 사람이 hold한 좌석이므로 throw
+    private void validateHold(Long userId, Long screeningId, Set<Long> screeningSeatIds) {
+        if (!screeningSeatHoldRepository.isHeldBy(screeningId, userId, screeningSeatIds)) {
+            throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_AVAILABLE);
+        }
+    }
+
     // 예약 목록 조회
     @Transactional(readOnly = true)
     public PageResponse<ReservationListResponse> getReservationList(Long userId, Pageable pageable) {
@@ -98,6 +132,37 @@ public class ReservationService {
         return PageResponse.from(content);
     }
 
+    // 예약 목록 조회 (커서) - 예약 그룹 ID 를 먼저 자르고 해당 ID 만 상세 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<ReservationListResponse> getReservationListByCursor(
+            Long userId, String cursor, int requestedSize, boolean withTotal) {
+        if (requestedSize < 1) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        // 최대 크기를 넘으면 최대 크기만큼만 조회 (nextCursor 로 이어서 조회)
+        int size = Math.min(requestedSize, MAX_CURSOR_SIZE);
+
+        // 다음 페이지 여부 확인을 위해 size + 1 건 조회
+        List<Long> reservationGroupIds = reservationQueryRepository.getReservationGroupIds(
+                userId, ReservationCursor.decode(cursor), size + 1);
+
+        boolean hasNext = reservationGroupIds.size() > size;
+
+        List<ReservationListDto> reservationList = reservationQueryRepository.getReservationListByIds(
+                hasNext ? reservationGroupIds.subList(0, size) : reservationGroupIds);
+
+        String nextCursor = hasNext
+                ? ReservationCursor.from(reservationList.get(reservationList.size() - 1)).encode()
+                : null;
+
+        Long total = withTotal ? reservationQueryRepository.countReservationGroups(userId) : null;
+
+        return new CursorResponse<>(
+                reservationList.stream().map(ReservationListResponse::from).toList(),
+                nextCursor, hasNext, total);
+    }
+
     // 상영 취소로 인한 예약 전체 취소
     @Transactional
     public void cancelReservationByScreeningCancel(ReservationGroup reservationGroup) {
@@ -109,6 +174,20 @@ public class ReservationService {
         reservationGroup.cancel();
     }
 
+    // 상영 취소 작업에서 예약 묶음 단위로 취소 (예약 묶음마다 짧은 트랜잭션)
+    @Transactional
+    public void cancelReservationByScreeningCancel(Long reservationGroupId) {
+        ReservationGroup reservationGroup = reservationGroupRepository.findByIdForUpdate(reservationGroupId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        // 잠금 후 다시 확인 (점유를 잃은 다른 노드가 먼저 취소/환불한 경우 건너뜀)
+        if (reservationGroup.getStatus() == ReservationStatus.CANCELLED) {
+            return;
+        }
+
+        cancelReservationByScreeningCancel(reservationGroup);
+    }
+
     // 예약 취소
     @Transactional
     public void cancelReservation(Long userId, Long reservationGroupId) {
@@ -131,7 +210,12 @@ public class ReservationService {
         }
 
         // 예약 취소 및 좌석 상태 변경
-        reservationGroup.cancelAndReleaseSeats();
+        int released = reservationGroup.cancelAndReleaseSeats();
+
+        eventPublisher.publishEvent(new ScreeningSeatChangedEvent(
+                reservationGroup.getScreeningId(), reservationGroup.getScreeningSeatIds(), DisplayScreeningSeatStatus.AVAILABLE));
+        eventPublisher.publishEvent(new AvailableSeatCountChangedEvent(reservationGroup.getScreeningId(), released));
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
     }
 
     // 예약 상세 조회 (결제 도메인 후)
@@ -2,8 +2,12 @@ package com.cgv.mega.screening.controller;
 
 import com.cgv.mega.common.response.CustomResponse;
 import com.cgv.mega.screening.dto.AvailableScreeningResponse;
+import com.cgv.mega.screening.dto.BulkRegisterScreeningRequest;
+import com.cgv.mega.screening.dto.BulkRegisterScreeningResponse;
 import com.cgv.mega.screening.dto.MovieScreeningForAdminResponse;
 import com.cgv.mega.screening.dto.RegisterScreeningRequest;
+import com.cgv.mega.screening.dto.ScreeningCancelJobResponse;
+import com.cgv.mega.screening.dto.TheaterAvailableScreeningResponse;
 import com.cgv.mega.screening.service.ScreeningSeatService;
 import com.cgv.mega.screening.service.ScreeningService;
 import jakarta.validation.Valid;
@@ -35,6 +39,16 @@ public class AdminScreeningController {
         return ResponseEntity.ok(CustomResponse.of(response));
     }
 
+    @GetMapping("/available-times")
+    public ResponseEntity<CustomResponse<TheaterAvailableScreeningResponse>> getAvailableScreeningTimes(
+            @RequestParam Long movieId,
+            @RequestParam LocalDate date
+    ) {
+        TheaterAvailableScreeningResponse response = screeningService.getAvailableScreeningTimes(movieId, date);
+
+        return ResponseEntity.ok(CustomResponse.of(response));
+    }
+
     @PostMapping
     public ResponseEntity<CustomResponse<Void>> registerScreening(
             @RequestBody @Valid RegisterScreeningRequest request
@@ -45,13 +59,33 @@ public class AdminScreeningController {
                 .body(CustomResponse.of(HttpStatus.CREATED));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<CustomResponse<BulkRegisterScreeningResponse>> registerScreenings(
+            @RequestBody @Valid BulkRegisterScreeningRequest request
+    ) {
+        BulkRegisterScreeningResponse response = screeningService.registerScreenings(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CustomResponse.of(HttpStatus.CREATED, response));
+    }
+
     @DeleteMapping("/{screeningId}")
-    public ResponseEntity<CustomResponse<Void>> cancelScreening(
+    public ResponseEntity<CustomResponse<ScreeningCancelJobResponse>> cancelScreening(
             @PathVariable("screeningId") Long screeningId
     ) {
-        screeningService.cancelScreening(screeningId);
+        ScreeningCancelJobResponse response = screeningService.cancelScreening(screeningId);
 
-        return ResponseEntity.ok(CustomResponse.of());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(CustomResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    @GetMapping("/{screeningId}/cancel-job")
+    public ResponseEntity<CustomResponse<ScreeningCancelJobResponse>> getScreeningCancelJob(
+            @PathVariable("screeningId") Long screeningId
+    ) {
+        ScreeningCancelJobResponse response = screeningService.getScreeningCancelJob(screeningId);
+
+        return ResponseEntity.ok(CustomResponse.of(response));
     }
 
     @GetMapping("/{movieId}")
@@ -4,10 +4,13 @@ import com.cgv.mega.common.response.CustomResponse;
 import com.cgv.mega.screening.dto.MovieScreeningResponse;
 import com.cgv.mega.screening.dto.ScreeningDateMovieResponse;
 import com.cgv.mega.screening.dto.ScreeningSeatResponse;
+import com.cgv.mega.screening.service.ScreeningSeatStreamService;
 import com.cgv.mega.screening.service.ScreeningService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 
@@ -17,6 +20,7 @@ import java.time.LocalDate;
 public class ScreeningController {
 
     private final ScreeningService screeningService;
+    private final ScreeningSeatStreamService screeningSeatStreamService;
 
     @GetMapping("/movies")
     public ResponseEntity<CustomResponse<ScreeningDateMovieResponse>> getScreeningMovies(
@@ -45,4 +49,11 @@ public class ScreeningController {
 
         return ResponseEntity.ok(CustomResponse.of(response));
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/{screeningId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScreeningSeats(
+            @PathVariable("screeningId") Long screeningId
+    ) {
+        return screeningSeatStreamService.subscribe(screeningId);
+    }
+}
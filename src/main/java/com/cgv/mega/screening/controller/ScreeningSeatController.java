@@ -34,7 +34,7 @@ public class ScreeningSeatController {
             @RequestBody @Valid ScreeningSeatHoldDto req,
             @AuthenticationPrincipal CustomUserDetails details
     ) {
-        screeningSeatService.cancelHoldScreeningSeat(details.id(), req);
+        screeningSeatService.cancelHoldScreeningSeat(details.id(), screeningId, req);
 
         return ResponseEntity.ok(CustomResponse.of());
     }
@@ -0,0 +1,7 @@
+package com.cgv.mega.screening.dto;
+
+public record AvailableSeatCountChangedEvent(
+        Long screeningId,
+        int delta
+) {
+}
@@ -0,0 +1,14 @@
+package com.cgv.mega.screening.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkRegisterScreeningRequest(
+        @NotEmpty(message = "최소 1개 이상의 상영회차가 필요합니다.")
+        @Size(max = 5000, message = "한 번에 최대 5000개까지 등록할 수 있습니다.")
+        List<@Valid RegisterScreeningRequest> screenings
+) {
+}
@@ -0,0 +1,17 @@
+package com.cgv.mega.screening.dto;
+
+import java.util.List;
+
+public record BulkRegisterScreeningResponse(
+        int requestedCount,
+        int registeredCount,
+        List<FailedRow> failures
+) {
+    // index : 요청 목록에서의 위치 (0부터)
+    public record FailedRow(
+            int index,
+            String code,
+            String message
+    ) {
+    }
+}
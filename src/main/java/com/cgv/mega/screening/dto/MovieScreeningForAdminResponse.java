@@ -18,6 +18,18 @@ public record MovieScreeningForAdminResponse(
             int sequence,
             ScreeningStatus status
     ) {
+        // 잔여 좌석 수는 카운터에서 따로 채움
+        public MovieScreeningInfo(Long screeningId, Long theaterId, String theaterName,
+                                  LocalDateTime startTime, LocalDateTime endTime,
+                                  int sequence, ScreeningStatus status) {
+            this(screeningId, theaterId, theaterName, null, startTime, endTime, sequence, status);
+        }
+
+        public MovieScreeningInfo withRemainSeat(Long remainSeat) {
+            return new MovieScreeningInfo(
+                    screeningId, theaterId, theaterName, remainSeat, startTime, endTime, sequence, status);
+        }
+
         public MovieScreeningInfo withMovieEndTime() {
             return new MovieScreeningInfo(
                     screeningId,
@@ -14,4 +14,15 @@ public record MovieScreeningInfoDto(
         int sequence,
         ScreeningStatus screeningStatus
 ) {
+    // 잔여 좌석 수는 카운터에서 따로 채움
+    public MovieScreeningInfoDto(Long screeningId, Long theaterId, String theaterName,
+                                 LocalDateTime startTime, LocalDateTime endTime,
+                                 int sequence, ScreeningStatus screeningStatus) {
+        this(screeningId, theaterId, theaterName, null, startTime, endTime, sequence, screeningStatus);
+    }
+
+    public MovieScreeningInfoDto withRemainSeat(Long remainSeat) {
+        return new MovieScreeningInfoDto(
+                screeningId, theaterId, theaterName, remainSeat, startTime, endTime, sequence, screeningStatus);
+    }
 }
\ No newline at end of file
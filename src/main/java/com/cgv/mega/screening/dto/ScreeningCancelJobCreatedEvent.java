@@ -0,0 +1,7 @@
+package com.cgv.mega.screening.dto;
+
+// 상영 취소 작업 생성 (커밋 후 예약 묶음별 환불 시작)
+public record ScreeningCancelJobCreatedEvent(
+        Long jobId
+) {
+}
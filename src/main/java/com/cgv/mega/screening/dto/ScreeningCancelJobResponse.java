@@ -0,0 +1,32 @@
+package com.cgv.mega.screening.dto;
+
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
+
+import java.time.LocalDateTime;
+
+public record ScreeningCancelJobResponse(
+        Long jobId,
+        Long screeningId,
+        ScreeningCancelJobStatus status,
+        int totalCount,
+        int processedCount,
+        int failedCount,
+        int attemptCount,
+        String lastError,
+        LocalDateTime nextAttemptAt
+) {
+    public static ScreeningCancelJobResponse from(ScreeningCancelJob job) {
+        return new ScreeningCancelJobResponse(
+                job.getId(),
+                job.getScreeningId(),
+                job.getStatus(),
+                job.getTotalCount(),
+                job.getProcessedCount(),
+                job.getFailedCount(),
+                job.getAttemptCount(),
+                job.getLastError(),
+                job.getNextAttemptAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.cgv.mega.screening.dto;
+
+import com.cgv.mega.movie.entity.Movie;
+import com.cgv.mega.movie.enums.MovieType;
+import com.cgv.mega.theater.entity.Theater;
+
+import java.time.LocalDateTime;
+
+// 일괄 등록 시 검증을 통과한 상영회차 (index : 요청 목록에서의 위치)
+public record ScreeningCandidateDto(
+        int index,
+        Movie movie,
+        Theater theater,
+        MovieType movieType,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
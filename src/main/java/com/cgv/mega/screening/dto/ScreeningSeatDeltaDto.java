@@ -0,0 +1,12 @@
+package com.cgv.mega.screening.dto;
+
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
+
+import java.util.Set;
+
+public record ScreeningSeatDeltaDto(
+        Long screeningId,
+        Set<Long> screeningSeatIds,
+        DisplayScreeningSeatStatus status
+) {
+}
@@ -0,0 +1,9 @@
+package com.cgv.mega.screening.dto;
+
+import com.cgv.mega.screening.enums.ScreeningSeatStatus;
+
+public record ScreeningSeatStatusDto(
+        Long screeningSeatId,
+        ScreeningSeatStatus status
+) {
+}
@@ -0,0 +1,9 @@
+package com.cgv.mega.screening.dto;
+
+import java.util.List;
+
+// 지난 상영회차 종료 처리 (커밋 후 남은 홀드/카운터 정리)
+public record ScreeningsEndedEvent(
+        List<Long> screeningIds
+) {
+}
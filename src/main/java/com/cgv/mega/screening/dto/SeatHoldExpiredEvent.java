@@ -0,0 +1,9 @@
+package com.cgv.mega.screening.dto;
+
+import java.util.Set;
+
+public record SeatHoldExpiredEvent(
+        Long screeningId,
+        Set<Long> screeningSeatIds
+) {
+}
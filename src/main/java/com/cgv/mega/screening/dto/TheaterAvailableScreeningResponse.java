@@ -0,0 +1,15 @@
+package com.cgv.mega.screening.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TheaterAvailableScreeningResponse(
+        List<TheaterAvailableTime> theaters
+) {
+    public record TheaterAvailableTime(
+            Long theaterId,
+            String theaterName,
+            List<LocalDateTime> availableTime
+    ) {
+    }
+}
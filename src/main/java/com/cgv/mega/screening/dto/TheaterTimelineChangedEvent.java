@@ -0,0 +1,10 @@
+package com.cgv.mega.screening.dto;
+
+import java.time.LocalDateTime;
+
+// 상영 등록/취소로 상영관 시간표가 바뀜 (startTime : 바뀐 상영의 시작 시간)
+public record TheaterTimelineChangedEvent(
+        Long theaterId,
+        LocalDateTime startTime
+) {
+}
@@ -87,16 +87,18 @@ public class Screening extends BaseTimeEntity {
     }
 
     public void initializeSeats(Set<Seat> seats, int basePrice) {
-        double theaterPrice = this.theater.getType().getMultiplier();
-        double movieTypePrice = this.movieType.getMultiplier();
-
         for (Seat seat : seats) {
-            double seatTypePrice = seat.getType().getMultiplier();
+            this.screeningSeats.add(ScreeningSeat.createScreeningSeat(this, seat, calculateSeatPrice(seat, basePrice)));
+        }
+    }
 
-            int price = (int) (basePrice * theaterPrice * movieTypePrice * seatTypePrice);
+    // 좌석 가격 = 기본 가격 * 상영관 타입 * 영화 타입 * 좌석 타입
+    public int calculateSeatPrice(Seat seat, int basePrice) {
+        double theaterPrice = this.theater.getType().getMultiplier();
+        double movieTypePrice = this.movieType.getMultiplier();
+        double seatTypePrice = seat.getType().getMultiplier();
 
-            this.screeningSeats.add(ScreeningSeat.createScreeningSeat(this, seat, price));
-        }
+        return (int) (basePrice * theaterPrice * movieTypePrice * seatTypePrice);
     }
 
     public void cancelScreening() {
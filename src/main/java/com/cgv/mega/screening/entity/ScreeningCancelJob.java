@@ -0,0 +1,94 @@
+package com.cgv.mega.screening.entity;
+
+import com.cgv.mega.common.entity.BaseTimeEntity;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "screening_cancel_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uq_screening_cancel_jobs_screening", columnNames = "screening_id"),
+        indexes = @Index(name = "idx_screening_cancel_jobs_status_next", columnList = "status, next_attempt_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScreeningCancelJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "screening_id", nullable = false)
+    private Long screeningId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ScreeningCancelJobStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ScreeningCancelJob(Long screeningId, int totalCount) {
+        this.screeningId = screeningId;
+        this.totalCount = totalCount;
+        this.status = ScreeningCancelJobStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static ScreeningCancelJob createScreeningCancelJob(Long screeningId, int totalCount) {
+        return ScreeningCancelJob.builder()
+                .screeningId(screeningId)
+                .totalCount(totalCount)
+                .build();
+    }
+
+    // 해당 토큰으로 점유 중인지 (점유 만료 후 다른 노드가 다시 점유했으면 false)
+    public boolean isLeasedBy(String leaseToken) {
+        return status == ScreeningCancelJobStatus.RUNNING && leaseToken.equals(this.leaseToken);
+    }
+
+    // 한 번의 시도가 끝남 (남은 예약 묶음이 없으면 완료, 최대 시도 초과 시 FAILED 로 더 이상 실행하지 않음)
+    public void finishAttempt(int remaining, String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.leaseUntil = null;
+        this.leaseToken = null;
+
+        if (remaining == 0) {
+            this.status = ScreeningCancelJobStatus.COMPLETED;
+            return;
+        }
+
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = attemptCount >= maxAttempts
+                ? ScreeningCancelJobStatus.FAILED
+                : ScreeningCancelJobStatus.PENDING;
+    }
+}
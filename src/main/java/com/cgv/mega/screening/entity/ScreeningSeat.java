@@ -75,12 +75,14 @@ public class ScreeningSeat {
         this.status = ScreeningSeatStatus.AVAILABLE;
     }
 
-    public void cancelScreeningSeat() {
+    // 좌석 반환 (실제로 상태가 바뀐 경우 true)
+    public boolean cancelScreeningSeat() {
         if (this.status == ScreeningSeatStatus.AVAILABLE) {
-            return;
+            return false;
         }
 
         this.status = ScreeningSeatStatus.AVAILABLE;
+        return true;
     }
 
     public void fixScreeningSeat() {
@@ -0,0 +1,16 @@
+package com.cgv.mega.screening.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ScreeningCancelJobStatus {
+    PENDING("실행 대기"),
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패")
+    ;
+
+    private final String korean;
+}
@@ -0,0 +1,87 @@
+package com.cgv.mega.screening.repository;
+
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScreeningCancelJobRepository extends JpaRepository<ScreeningCancelJob, Long> {
+
+    Optional<ScreeningCancelJob> findByScreeningId(Long screeningId);
+
+    // 실행 대상 (실행 시각이 된 대기 작업 + 점유가 만료된 실행 중 작업)
+    @Query("""
+                select j.id
+                  from ScreeningCancelJob j
+                 where (j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.PENDING and j.nextAttemptAt <= :now)
+                    or (j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.RUNNING and j.leaseUntil < :now)
+                 order by j.id
+            """)
+    List<Long> findRunnableJobIds(@Param("now") LocalDateTime now);
+
+    // 작업 점유 (다른 노드가 실행 중이면 0, 점유한 노드만 아는 토큰을 함께 기록)
+    @Transactional
+    @Modifying
+    @Query("""
+                update ScreeningCancelJob j
+                   set j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.RUNNING,
+                       j.leaseUntil = :leaseUntil,
+                       j.leaseToken = :leaseToken,
+                       j.attemptCount = j.attemptCount + 1,
+                       j.failedCount = 0
+                 where j.id = :jobId
+                   and ((j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.PENDING and j.nextAttemptAt <= :now)
+                     or (j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.RUNNING and j.leaseUntil < :now))
+            """)
+    int claim(@Param("jobId") Long jobId,
+              @Param("leaseToken") String leaseToken,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 점유 연장 (heartbeat, 다른 노드가 다시 점유했으면 0)
+    @Transactional
+    @Modifying
+    @Query("""
+                update ScreeningCancelJob j
+                   set j.leaseUntil = :leaseUntil
+                 where j.id = :jobId
+                   and j.leaseToken = :leaseToken
+                   and j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.RUNNING
+            """)
+    int extendLease(@Param("jobId") Long jobId,
+                    @Param("leaseToken") String leaseToken,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 예약 묶음 하나 처리 결과 반영 (다른 노드가 다시 점유했으면 0)
+    @Transactional
+    @Modifying
+    @Query("""
+                update ScreeningCancelJob j
+                   set j.processedCount = j.processedCount + :processed,
+                       j.failedCount = j.failedCount + :failed
+                 where j.id = :jobId
+                   and j.leaseToken = :leaseToken
+                   and j.status = com.cgv.mega.screening.enums.ScreeningCancelJobStatus.RUNNING
+            """)
+    int recordProgress(@Param("jobId") Long jobId,
+                       @Param("leaseToken") String leaseToken,
+                       @Param("processed") int processed,
+                       @Param("failed") int failed);
+
+    // 시도 종료 처리용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select j
+                  from ScreeningCancelJob j
+                 where j.id = :jobId
+            """)
+    Optional<ScreeningCancelJob> findByIdForUpdate(@Param("jobId") Long jobId);
+}
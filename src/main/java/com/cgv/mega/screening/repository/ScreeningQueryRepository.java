@@ -5,14 +5,16 @@ import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.cgv.mega.movie.entity.QMovie.movie;
 import static com.cgv.mega.screening.entity.QScreening.screening;
@@ -54,6 +56,23 @@ public class ScreeningQueryRepository {
                 .fetchFirst() != null;
     }
 
+    // 상영관의 [from, to) 구간과 겹치는 상영 예정 회차 (일괄 등록 시 메모리 중복 검사용)
+    public List<ScreeningTimeDto> getScheduledScreeningTimes(Long theaterId, LocalDateTime from, LocalDateTime to) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ScreeningTimeDto.class,
+                        screening.startTime,
+                        screening.endTime))
+                .from(screening)
+                .where(
+                        screening.status.eq(ScreeningStatus.SCHEDULED),
+                        screening.theater.id.eq(theaterId),
+                        screening.startTime.lt(to),
+                        screening.endTime.gt(from)
+                )
+                .orderBy(screening.startTime.asc())
+                .fetch();
+    }
+
     public int getMovieSequence(Long movieId) {
         Integer maxSequence = jpaQueryFactory
                 .select(screening.sequence.max())
@@ -66,6 +85,23 @@ public class ScreeningQueryRepository {
         return maxSequence == null ? 1 : maxSequence + 1;
     }
 
+    // 영화별 마지막 sequence (상영 이력이 없는 영화는 포함되지 않음)
+    public Map<Long, Integer> getMaxMovieSequences(Collection<Long> movieIds) {
+        return jpaQueryFactory
+                .select(screening.movie.id, screening.sequence.max())
+                .from(screening)
+                .where(
+                        screening.movie.id.in(movieIds)
+                )
+                .groupBy(screening.movie.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(screening.movie.id),
+                        tuple -> tuple.get(screening.sequence.max())
+                ));
+    }
+
     public List<ScreeningDateMovieResponse.MovieInfo> getScreeningMovieList(LocalDate date) {
         return jpaQueryFactory
                 .selectDistinct(Projections.constructor(ScreeningDateMovieResponse.MovieInfo.class,
@@ -87,10 +123,6 @@ public class ScreeningQueryRepository {
                         screening.id,
                         theater.id,
                         theater.name,
-                        JPAExpressions.select(screeningSeat.id.count())
-                                .from(screeningSeat)
-                                .where(screeningSeat.screening.id.eq(screening.id),
-                                        screeningSeat.status.eq(ScreeningSeatStatus.AVAILABLE)),
                         screening.startTime,
                         screening.endTime,
                         screening.sequence,
@@ -119,10 +151,6 @@ public class ScreeningQueryRepository {
                         screening.id,
                         theater.id,
                         theater.name,
-                        JPAExpressions.select(screeningSeat.id.count())
-                                .from(screeningSeat)
-                                .where(screeningSeat.screening.id.eq(screening.id),
-                                        screeningSeat.status.eq(ScreeningSeatStatus.AVAILABLE)),
                         screening.startTime,
                         screening.endTime,
                         screening.sequence,
@@ -162,6 +190,49 @@ public class ScreeningQueryRepository {
                 .fetch();
     }
 
+    // 예약/수리 상태인 좌석만 조회 (좌석 배치 join 없음)
+    public List<ScreeningSeatStatusDto> getUnavailableScreeningSeats(Long screeningId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ScreeningSeatStatusDto.class,
+                        screeningSeat.id,
+                        screeningSeat.status
+                ))
+                .from(screeningSeat)
+                .where(
+                        screeningSeat.screening.id.eq(screeningId),
+                        screeningSeat.status.ne(ScreeningSeatStatus.AVAILABLE)
+                )
+                .fetch();
+    }
+
+    // 상영회차별 예약 가능 좌석 수 (예약 가능 좌석이 없는 상영회차는 결과에 없음)
+    public List<ScreeningSeatCountDto> countAvailableSeats(Collection<Long> screeningIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ScreeningSeatCountDto.class,
+                        screeningSeat.screening.id,
+                        screeningSeat.id.count()
+                ))
+                .from(screeningSeat)
+                .where(
+                        screeningSeat.screening.id.in(screeningIds),
+                        screeningSeat.status.eq(ScreeningSeatStatus.AVAILABLE)
+                )
+                .groupBy(screeningSeat.screening.id)
+                .fetch();
+    }
+
+    // 아직 시작하지 않은 예정 상영회차 ID (잔여 좌석 카운터 보정 대상)
+    public List<Long> getUpcomingScreeningIds(LocalDateTime now) {
+        return jpaQueryFactory
+                .select(screening.id)
+                .from(screening)
+                .where(
+                        screening.status.eq(ScreeningStatus.SCHEDULED),
+                        screening.startTime.gt(now)
+                )
+                .fetch();
+    }
+
     private BooleanExpression withInTime(LocalDate date) {
         LocalDateTime startOfDay = date.atStartOfDay().plusHours(5);
         LocalDateTime endOfDay = date.plusDays(1).atStartOfDay().plusHours(2);
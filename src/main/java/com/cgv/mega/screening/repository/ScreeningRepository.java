@@ -2,12 +2,15 @@ package com.cgv.mega.screening.repository;
 
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.enums.ScreeningStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     boolean existsByMovieId(Long moveId);
@@ -24,16 +27,30 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     LocalDateTime findScreeningStartTime(@Param("reservationGroupId") Long reservationGroupId,
                                          @Param("userId") Long userId);
 
+    // 종료 대상 상영회차 ID (한 번에 처리할 개수만큼)
+    @Query("""
+                select s.id
+                  from Screening s
+                 where s.status = :scheduled
+                   and s.startTime <= :now
+                 order by s.startTime, s.id
+            """)
+    List<Long> findIdsToEnd(
+            @Param("now") LocalDateTime now,
+            @Param("scheduled") ScreeningStatus scheduled,
+            Pageable pageable
+    );
+
     @Modifying
     @Query("""
                 update Screening s
                    set s.status = :ended
-                 where s.status = :scheduled
-                   and s.startTime <= :now
+                 where s.id in :screeningIds
+                   and s.status = :scheduled
             """)
     int updateStatusToEnded(
-            @Param("now") LocalDateTime now,
+            @Param("screeningIds") Collection<Long> screeningIds,
             @Param("ended") ScreeningStatus ended,
             @Param("scheduled") ScreeningStatus scheduled
     );
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.cgv.mega.screening.repository;
+
+import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.enums.ScreeningSeatStatus;
+import com.cgv.mega.seat.entity.Seat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상영 회차-좌석 일괄 저장소 (JDBC)
+ * <p>
+ * ScreeningSeat 는 IDENTITY 전략이라 Hibernate 가 insert 를 묶지 못해 좌석 수만큼 왕복이 발생한다.
+ * 좌석을 CHUNK_SIZE 단위의 multi-row INSERT 한 문장으로 저장한다. (rewriteBatchedStatements 설정과 무관)
+ * 영속성 컨텍스트를 거치지 않으므로 저장 후 Screening.screeningSeats 에는 반영되지 않는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScreeningSeatBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO screening_seats (screening_id, seat_id, status, price) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 상영 회차-좌석 일괄 저장 (저장된 행 수 반환)
+    public int insertAll(Screening screening, Collection<Seat> seats, int basePrice) {
+        return insertAll(List.of(screening), s -> seats, basePrice);
+    }
+
+    // 여러 상영 회차의 좌석을 한 번에 저장 (상영 회차는 저장되어 ID 가 있어야 함)
+    public int insertAll(List<Screening> screenings, Function<Screening, ? extends Collection<Seat>> seatsOf, int basePrice) {
+        List<Object[]> rows = new ArrayList<>();
+
+        for (Screening screening : screenings) {
+            for (Seat seat : seatsOf.apply(screening)) {
+                rows.add(new Object[]{
+                        screening.getId(),
+                        seat.getId(),
+                        ScreeningSeatStatus.AVAILABLE.name(),
+                        screening.calculateSeatPrice(seat, basePrice)
+                });
+            }
+        }
+
+        int inserted = 0;
+
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+
+            inserted += jdbcTemplate.update(insertSql(chunk.size()), chunk.stream().flatMap(Arrays::stream).toArray());
+        }
+
+        return inserted;
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+
+        return sql.toString();
+    }
+}
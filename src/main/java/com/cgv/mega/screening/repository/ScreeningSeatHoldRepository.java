@@ -0,0 +1,206 @@
+package com.cgv.mega.screening.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 상영회차 단위 좌석 홀드 저장소 (Redis)
+ * <p>
+ * - seat-hold:{screeningId}:owners : hash (screeningSeatId -> userId)
+ * - seat-hold:{screeningId}:expiry : zset (screeningSeatId, score = 만료 시각 ms)
+ * </p>
+ * - seat-hold:screenings             : zset (홀드가 있는 screeningId, score = 마지막 홀드 만료 시각 ms)
+ * 만료된 홀드는 조회 시 제외되고, sweeper가 정리하며 만료 이벤트를 발행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScreeningSeatHoldRepository {
+
+    public static final Duration HOLD_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/hold-screening-seats.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/release-screening-seat-holds.lua"), List.class);
+    private static final RedisScript<Long> CHECK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/check-screening-seat-holds.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/sweep-expired-screening-seat-holds.lua"), List.class);
+
+    private static final String ACTIVE_SCREENINGS_KEY = "seat-hold:screenings";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 좌석 일괄 홀드 (다른 사용자가 홀드한 좌석이 하나라도 있으면 false)
+    public boolean hold(Long screeningId, Long userId, Collection<Long> screeningSeatIds) {
+        long now = System.currentTimeMillis();
+
+        List<String> args = new ArrayList<>(screeningSeatIds.size() + 3);
+        args.add(userId.toString());
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(HOLD_TTL.toMillis()));
+        screeningSeatIds.forEach(id -> args.add(id.toString()));
+
+        Long result = redisTemplate.execute(HOLD_SCRIPT, keys(screeningId), args.toArray());
+
+        if (result == null || result != 1L) {
+            return false;
+        }
+
+        // sweeper 대상 상영회차 등록
+        redisTemplate.opsForZSet().add(ACTIVE_SCREENINGS_KEY, screeningId.toString(), now + HOLD_TTL.toMillis());
+
+        return true;
+    }
+
+    // 사용자 소유 홀드 해제 (실제 해제된 좌석 ID 반환)
+    public Set<Long> release(Long screeningId, Long userId, Collection<Long> screeningSeatIds) {
+        List<String> args = new ArrayList<>(screeningSeatIds.size() + 1);
+        args.add(userId.toString());
+        screeningSeatIds.forEach(id -> args.add(id.toString()));
+
+        List<?> released = redisTemplate.execute(RELEASE_SCRIPT, keys(screeningId), args.toArray());
+
+        return toLongSet(released);
+    }
+
+    // 해당 상영회차의 사용자 홀드 전체 해제
+    public Set<Long> releaseAll(Long screeningId, Long userId) {
+        return release(screeningId, userId, List.of());
+    }
+
+    // 요청 좌석이 모두 사용자의 유효한 홀드인지 확인
+    public boolean isHeldBy(Long screeningId, Long userId, Collection<Long> screeningSeatIds) {
+        List<String> args = new ArrayList<>(screeningSeatIds.size() + 2);
+        args.add(userId.toString());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        screeningSeatIds.forEach(id -> args.add(id.toString()));
+
+        Long result = redisTemplate.execute(CHECK_SCRIPT, keys(screeningId), args.toArray());
+
+        return result != null && result == 1L;
+    }
+
+    // 해당 상영회차의 유효한 홀드 좌석 ID 목록 (한 번의 ZRANGEBYSCORE)
+    public Set<Long> getHeldSeatIds(Long screeningId) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(expiryKey(screeningId), System.currentTimeMillis() + 1, Double.MAX_VALUE);
+
+        return toLongSet(members);
+    }
+
+    // 홀드가 남아있을 수 있는 상영회차 목록
+    public Set<Long> getActiveScreeningIds() {
+        Set<String> members = redisTemplate.opsForZSet().range(ACTIVE_SCREENINGS_KEY, 0, -1);
+
+        return toLongSet(members);
+    }
+
+    // 만료된 홀드 정리 후 정리된 좌석 ID 반환
+    public Set<Long> sweepExpired(Long screeningId, long now) {
+        List<?> expired = redisTemplate.execute(SWEEP_SCRIPT, keys(screeningId), String.valueOf(now));
+
+        return toLongSet(expired);
+    }
+
+    // 마지막 홀드까지 만료된 상영회차를 sweeper 대상에서 제외
+    public void removeInactiveScreenings(long now) {
+        redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_SCREENINGS_KEY, Double.NEGATIVE_INFINITY, now);
+    }
+
+    // 예약 완료 등으로 소유자와 무관하게 홀드 삭제
+    public void delete(Long screeningId, Collection<Long> screeningSeatIds) {
+        if (screeningSeatIds.isEmpty()) {
+            return;
+        }
+
+        Object[] fields = screeningSeatIds.stream()
+                .map(String::valueOf)
+                .toArray();
+
+        redisTemplate.opsForHash().delete(ownersKey(screeningId), fields);
+        redisTemplate.opsForZSet().remove(expiryKey(screeningId), fields);
+    }
+
+    // 여러 상영회차의 홀드 일괄 삭제 (pipeline 으로 한 번에 전송)
+    @SuppressWarnings("unchecked")
+    public void deleteAll(Map<Long, ? extends Collection<Long>> screeningSeatIdsByScreening) {
+        if (screeningSeatIdsByScreening.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                screeningSeatIdsByScreening.forEach((screeningId, screeningSeatIds) -> {
+                    if (screeningSeatIds.isEmpty()) {
+                        return;
+                    }
+
+                    Object[] fields = screeningSeatIds.stream()
+                            .map(String::valueOf)
+                            .toArray();
+
+                    ops.opsForHash().delete(ownersKey(screeningId), fields);
+                    ops.opsForZSet().remove(expiryKey(screeningId), fields);
+                });
+
+                return null;
+            }
+        });
+    }
+
+    // 종료된 상영회차의 남은 홀드 전체 삭제
+    public void deleteScreenings(Collection<Long> screeningIds) {
+        if (screeningIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(screeningIds.size() * 2);
+        for (Long screeningId : screeningIds) {
+            keys.addAll(keys(screeningId));
+        }
+
+        redisTemplate.delete(keys);
+        redisTemplate.opsForZSet().remove(ACTIVE_SCREENINGS_KEY,
+                screeningIds.stream().map(String::valueOf).toArray());
+    }
+
+    private Set<Long> toLongSet(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> result = new HashSet<>(values.size());
+        for (Object value : values) {
+            result.add(Long.valueOf(value.toString()));
+        }
+
+        return result;
+    }
+
+    private List<String> keys(Long screeningId) {
+        return List.of(ownersKey(screeningId), expiryKey(screeningId));
+    }
+
+    // hash tag({screeningId})로 두 키를 같은 슬롯에 배치
+    public static String ownersKey(Long screeningId) {
+        return "seat-hold:{" + screeningId + "}:owners";
+    }
+
+    public static String expiryKey(Long screeningId) {
+        return "seat-hold:{" + screeningId + "}:expiry";
+    }
+}
@@ -4,6 +4,7 @@ import com.cgv.mega.screening.entity.ScreeningSeat;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -30,4 +31,18 @@ public interface ScreeningSeatRepository extends JpaRepository<ScreeningSeat, Lo
             @Param("screeningSeatIds") Set<Long> screeningSeatIds,
             @Param("screeningId") Long screeningId
     );
-}
\ No newline at end of file
+
+    // AVAILABLE 상태인 좌석만 RESERVED로 변경 (변경된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                    UPDATE ScreeningSeat s
+                       SET s.status = com.cgv.mega.screening.enums.ScreeningSeatStatus.RESERVED
+                     WHERE s.screening.id = :screeningId
+                       AND s.id IN :screeningSeatIds
+                       AND s.status = com.cgv.mega.screening.enums.ScreeningSeatStatus.AVAILABLE
+            """)
+    int reserveIfAvailable(
+            @Param("screeningSeatIds") Set<Long> screeningSeatIds,
+            @Param("screeningId") Long screeningId
+    );
+}
@@ -0,0 +1,225 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.datasource.PrimaryReads;
+import com.cgv.mega.common.lock.JobLease;
+import com.cgv.mega.screening.dto.ScreeningSeatCountDto;
+import com.cgv.mega.screening.repository.ScreeningQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 상영회차별 잔여 좌석 카운터 (Redis)
+ * <p>
+ * - available-seat:{screeningId} : 예약 가능(AVAILABLE) 좌석 수
+ * - available-seat:{screeningId}:version : 증감할 때마다 오르는 버전 (키가 없어도 오름)
+ * - 좌석 상태가 바뀌는 트랜잭션이 커밋된 뒤 증감하고, 키가 없으면 조회 시 DB 값으로 채운다.
+ * - 채우기/보정은 DB 조회 전에 버전을 읽고, 버전이 그대로일 때만 기록한다. (compare-and-set)
+ *   DB 조회 중 커밋된 증감을 오래된 DB 값으로 덮어쓰지 않고, 그 경우 다음 조회/보정에서 다시 채운다.
+ * - 채우기/보정의 DB 조회는 primary 에서 한다. (지연된 replica 값이 현재 버전으로 기록되지 않도록)
+ * - 홀드는 DB 상태를 바꾸지 않으므로 카운터 대상이 아니다. (기존 목록 조회와 같은 기준)
+ * - 누락으로 생긴 오차는 점유한 노드 한 곳의 보정 작업이 DB 값으로 맞춘다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableSeatCounter {
+
+    private static final String KEY_PREFIX = "available-seat:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final String RECONCILE_LEASE_NAME = "available-seat-reconcile";
+    private static final Duration RECONCILE_LEASE_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/increment-available-seat-count.lua"), Long.class);
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scripts/compare-and-set-available-seat-count.lua"), Long.class);
+
+    private final ScreeningQueryRepository screeningQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobLease jobLease;
+    private final PrimaryReads primaryReads;
+
+    // 상영회차 목록의 잔여 좌석 수 (없는 키만 DB 에서 한 번에 조회)
+    public Map<Long, Long> getAvailableSeatCounts(List<Long> screeningIds) {
+        if (screeningIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                screeningIds.stream().map(AvailableSeatCounter::key).toList());
+
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (int i = 0; i < screeningIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+
+            if (value != null) {
+                counts.put(screeningIds.get(i), Long.parseLong(value));
+            } else {
+                missing.add(screeningIds.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // DB 조회 전 버전 (조회 중 증감이 있으면 버전이 달라져 채우지 않음)
+            List<String> versions = redisTemplate.opsForValue().multiGet(
+                    missing.stream().map(AvailableSeatCounter::versionKey).toList());
+
+            Map<Long, Long> loaded = loadFromDatabase(missing);
+
+            compareAndSet(missing, loaded, versions, true);
+
+            counts.putAll(loaded);
+        }
+
+        return counts;
+    }
+
+    // 좌석 상태 변경 반영 (키가 없으면 버전만 올림)
+    public void increment(Long screeningId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(screeningId), versionKey(screeningId)),
+                String.valueOf(delta), String.valueOf(TTL.toMillis()));
+    }
+
+    // 종료된 상영회차 카운터 삭제
+    public void evict(Collection<Long> screeningIds) {
+        if (screeningIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(screeningIds.stream()
+                .flatMap(screeningId -> Stream.of(key(screeningId), versionKey(screeningId)))
+                .toList());
+    }
+
+    // 예정 상영회차 카운터를 DB 값으로 보정 (점유한 노드 한 곳에서만, 다른 노드가 실행 중이면 0)
+    public int reconcile(LocalDateTime now) {
+        String token = jobLease.tryAcquire(RECONCILE_LEASE_NAME, RECONCILE_LEASE_TTL);
+
+        if (token == null) {
+            return 0;
+        }
+
+        try {
+            return reconcileUpcoming(now);
+        } finally {
+            jobLease.release(RECONCILE_LEASE_NAME, token);
+        }
+    }
+
+    private int reconcileUpcoming(LocalDateTime now) {
+        List<Long> screeningIds = screeningQueryRepository.getUpcomingScreeningIds(now);
+
+        if (screeningIds.isEmpty()) {
+            return 0;
+        }
+
+        // 현재 값과 버전을 DB 조회 전에 한 번에 읽음 (앞쪽 n 개 : 값, 뒤쪽 n 개 : 버전)
+        List<String> keys = new ArrayList<>(screeningIds.size() * 2);
+        screeningIds.forEach(screeningId -> keys.add(key(screeningId)));
+        screeningIds.forEach(screeningId -> keys.add(versionKey(screeningId)));
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<String> cached = values != null ? values.subList(0, screeningIds.size()) : null;
+        List<String> versions = values != null ? values.subList(screeningIds.size(), values.size()) : null;
+
+        Map<Long, Long> actual = loadFromDatabase(screeningIds);
+        List<Object> results = compareAndSet(screeningIds, actual, versions, false);
+
+        int drifted = 0;
+        int skipped = 0;
+
+        for (int i = 0; i < screeningIds.size(); i++) {
+            // 보정 중 증감이 있었던 상영회차는 다음 보정에서 다시 확인
+            if (!Long.valueOf(1).equals(results.get(i))) {
+                skipped++;
+                continue;
+            }
+
+            String value = actual.get(screeningIds.get(i)).toString();
+
+            if (cached != null && cached.get(i) != null && !cached.get(i).equals(value)) {
+                drifted++;
+            }
+        }
+
+        if (drifted > 0) {
+            log.warn("[AVAILABLE SEAT] 잔여 좌석 카운터 보정 {}건", drifted);
+        }
+
+        if (skipped > 0) {
+            log.debug("[AVAILABLE SEAT] 보정 중 증감이 있어 건너뜀 {}건", skipped);
+        }
+
+        return drifted;
+    }
+
+    // 버전이 DB 조회 전에 읽은 값 그대로일 때만 기록 (한 번에 전송, 결과 1 기록 / 0 건너뜀)
+    private List<Object> compareAndSet(List<Long> screeningIds, Map<Long, Long> counts,
+                                       List<String> versions, boolean onlyIfAbsent) {
+        byte[] script = bytes(COMPARE_AND_SET_SCRIPT.getScriptAsString());
+        byte[] ttl = bytes(String.valueOf(TTL.toMillis()));
+        byte[] mode = bytes(onlyIfAbsent ? "1" : "0");
+
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < screeningIds.size(); i++) {
+                Long screeningId = screeningIds.get(i);
+                String version = versions != null && versions.get(i) != null ? versions.get(i) : "";
+
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        bytes(key(screeningId)), bytes(versionKey(screeningId)),
+                        bytes(counts.get(screeningId).toString()), bytes(version), ttl, mode);
+            }
+
+            return null;
+        });
+    }
+
+    private Map<Long, Long> loadFromDatabase(List<Long> screeningIds) {
+        Map<Long, Long> counts = new HashMap<>();
+
+        // 예약 가능 좌석이 하나도 없는 상영회차는 0
+        screeningIds.forEach(id -> counts.put(id, 0L));
+
+        List<ScreeningSeatCountDto> rows =
+                primaryReads.read(() -> screeningQueryRepository.countAvailableSeats(screeningIds));
+
+        for (ScreeningSeatCountDto dto : rows) {
+            counts.put(dto.screeningId(), dto.availableSeatCount());
+        }
+
+        return counts;
+    }
+
+    private static String key(Long screeningId) {
+        return KEY_PREFIX + screeningId;
+    }
+
+    private static String versionKey(Long screeningId) {
+        return KEY_PREFIX + screeningId + VERSION_SUFFIX;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
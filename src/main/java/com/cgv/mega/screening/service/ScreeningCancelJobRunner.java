@@ -0,0 +1,200 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.reservation.enums.ReservationStatus;
+import com.cgv.mega.reservation.repository.ReservationGroupRepository;
+import com.cgv.mega.reservation.service.ReservationService;
+import com.cgv.mega.screening.dto.ScreeningCancelJobCreatedEvent;
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
+import com.cgv.mega.screening.repository.ScreeningCancelJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상영 취소 작업 실행
+ * <p>
+ * - 예약 묶음마다 짧은 트랜잭션으로 환불/취소하고, 환불은 screeningRefundExecutor 크기만큼만 동시에 호출한다.
+ *   (예약 묶음을 잠근 뒤 상태를 다시 확인하므로 같은 묶음을 두 번 환불하지 않음)
+ * - 점유(lease)는 점유 토큰으로 구분하고, 진행 상황 저장/완료 처리는 토큰이 일치할 때만 반영한다.
+ * - 실행 스레드가 예약 묶음 진행과 무관하게 주기적으로 점유를 연장한다. (heartbeat)
+ *   연장에 실패하면 (다른 노드가 다시 점유) 남은 예약 묶음은 처리하지 않는다.
+ * - 노드가 죽어 점유가 만료되거나 실패로 재시도 시각이 된 작업은 스케줄러가 이어서 실행한다.
+ *   (이미 취소된 예약 묶음은 대상에서 빠지므로 남은 묶음만 처리)
+ * </p>
+ */
+@Slf4j
+@Component
+public class ScreeningCancelJobRunner {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final ScreeningCancelJobRepository screeningCancelJobRepository;
+    private final ReservationGroupRepository reservationGroupRepository;
+    private final ReservationService reservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor screeningCancelJobExecutor;
+    private final TaskExecutor screeningRefundExecutor;
+
+    public ScreeningCancelJobRunner(ScreeningCancelJobRepository screeningCancelJobRepository,
+                                    ReservationGroupRepository reservationGroupRepository,
+                                    ReservationService reservationService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("screeningCancelJobExecutor") TaskExecutor screeningCancelJobExecutor,
+                                    @Qualifier("screeningRefundExecutor") TaskExecutor screeningRefundExecutor) {
+        this.screeningCancelJobRepository = screeningCancelJobRepository;
+        this.reservationGroupRepository = reservationGroupRepository;
+        this.reservationService = reservationService;
+        this.transactionTemplate = transactionTemplate;
+        this.screeningCancelJobExecutor = screeningCancelJobExecutor;
+        this.screeningRefundExecutor = screeningRefundExecutor;
+    }
+
+    // 상영 취소 커밋 후 바로 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void screeningCancelJobCreatedEventHandler(ScreeningCancelJobCreatedEvent event) {
+        submit(event.jobId());
+    }
+
+    // 점유가 만료됐거나 재시도 시각이 된 작업 이어서 실행
+    @Scheduled(fixedDelayString = "${screening.cancel.resume-interval:30000}")
+    public void resume() {
+        for (Long jobId : screeningCancelJobRepository.findRunnableJobIds(LocalDateTime.now())) {
+            submit(jobId);
+        }
+    }
+
+    public void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseToken = UUID.randomUUID().toString();
+
+        // 다른 노드/스레드가 실행 중이거나 아직 재시도 시각이 아니면 건너뜀
+        if (screeningCancelJobRepository.claim(jobId, leaseToken, now, now.plus(LEASE)) == 0) {
+            return;
+        }
+
+        ScreeningCancelJob job = screeningCancelJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("screening cancel job not found id = " + jobId));
+
+        List<Long> reservationGroupIds = reservationGroupRepository.findIdsByScreeningIdAndStatusNot(
+                job.getScreeningId(), ReservationStatus.CANCELLED);
+
+        AtomicReference<String> lastError = new AtomicReference<>();
+        AtomicBoolean leaseLost = new AtomicBoolean();
+
+        CompletableFuture<?>[] futures = reservationGroupIds.stream()
+                .map(reservationGroupId -> CompletableFuture.runAsync(
+                        () -> cancelReservationGroup(jobId, leaseToken, reservationGroupId, lastError, leaseLost),
+                        screeningRefundExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        if (!awaitWithHeartbeat(jobId, leaseToken, CompletableFuture.allOf(futures), leaseLost)) {
+            return;
+        }
+
+        finish(jobId, leaseToken, lastError.get());
+    }
+
+    private void submit(Long jobId) {
+        try {
+            screeningCancelJobExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 차면 다음 스케줄에서 실행
+            log.warn("[SCREENING_CANCEL] 작업 실행 대기열 초과 jobId = {}", jobId);
+        }
+    }
+
+    // 모든 예약 묶음이 끝날 때까지 기다리며 점유 연장 (점유를 잃었거나 중단되면 false)
+    private boolean awaitWithHeartbeat(Long jobId, String leaseToken, CompletableFuture<Void> all, AtomicBoolean leaseLost) {
+        while (true) {
+            try {
+                all.get(HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                return !leaseLost.get();
+            } catch (TimeoutException e) {
+                if (!leaseLost.get()
+                        && screeningCancelJobRepository.extendLease(jobId, leaseToken, LocalDateTime.now().plus(LEASE)) == 0) {
+                    log.warn("[SCREENING_CANCEL] 점유 연장 실패 (다른 노드가 점유) jobId = {}", jobId);
+                    leaseLost.set(true);
+                }
+            } catch (InterruptedException e) {
+                // 남은 예약 묶음은 점유 만료 후 다른 노드가 이어서 처리
+                leaseLost.set(true);
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                // 예약 묶음별 예외는 cancelReservationGroup 에서 처리하므로 도달하지 않음
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    // 예약 묶음 하나 취소 (실패해도 나머지 묶음은 계속 진행)
+    private void cancelReservationGroup(Long jobId, String leaseToken, Long reservationGroupId,
+                                        AtomicReference<String> lastError, AtomicBoolean leaseLost) {
+        // 점유를 잃었으면 남은 예약 묶음은 새로 점유한 노드가 처리
+        if (leaseLost.get()) {
+            return;
+        }
+
+        boolean success;
+
+        try {
+            reservationService.cancelReservationByScreeningCancel(reservationGroupId);
+            success = true;
+        } catch (RuntimeException e) {
+            log.warn("[SCREENING_CANCEL] 예약 묶음 취소 실패 jobId = {}, reservationGroupId = {}, ex = {}",
+                    jobId, reservationGroupId, e.getMessage());
+            lastError.set("reservationGroupId = " + reservationGroupId + " : " + e.getMessage());
+            success = false;
+        }
+
+        if (screeningCancelJobRepository.recordProgress(jobId, leaseToken, success ? 1 : 0, success ? 0 : 1) == 0) {
+            leaseLost.set(true);
+        }
+    }
+
+    private void finish(Long jobId, String leaseToken, String error) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ScreeningCancelJob job = screeningCancelJobRepository.findByIdForUpdate(jobId)
+                    .orElseThrow(() -> new IllegalStateException("screening cancel job not found id = " + jobId));
+
+            // 점유가 만료되어 다른 노드가 다시 점유한 경우 결과를 반영하지 않음
+            if (!job.isLeasedBy(leaseToken)) {
+                log.warn("[SCREENING_CANCEL] 점유를 잃어 완료 처리 건너뜀 jobId = {}", jobId);
+                return;
+            }
+
+            // 남은 예약 묶음은 실패 수가 아닌 실제 상태로 판단
+            int remaining = reservationGroupRepository.findIdsByScreeningIdAndStatusNot(
+                    job.getScreeningId(), ReservationStatus.CANCELLED).size();
+
+            job.finishAttempt(remaining, error,
+                    LocalDateTime.now().plus(backoff(job.getAttemptCount())), MAX_ATTEMPTS);
+        });
+    }
+
+    private Duration backoff(int attemptCount) {
+        Duration delay = Duration.ofSeconds(30L << Math.min(attemptCount, 10));
+
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,136 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.lock.JobLease;
+import com.cgv.mega.screening.dto.ScreeningsEndedEvent;
+import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.repository.ScreeningRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 상영회차 종료 처리
+ * <p>
+ * - 노드 중 점유(screening-end)에 성공한 한 곳만 실행한다.
+ * - 종료 대상 ID 를 chunk-size 개씩 조회해 chunk 마다 짧은 트랜잭션으로 상태를 바꾼다.
+ *   (한 번의 UPDATE 로 status/start_time 범위 전체를 잠그면 예약 트랜잭션이 대기함)
+ * - chunk 마다 ScreeningsEndedEvent 를 발행해 커밋 후 남은 홀드/카운터 정리를 같은 실행에서 처리한다.
+ * - 메트릭 : screening.end.run(실행 시간), screening.end.ended(종료 건수),
+ *   screening.end.chunks(처리한 chunk 수), screening.end.skipped(다른 노드가 실행 중)
+ * </p>
+ */
+@Slf4j
+@Component
+public class ScreeningEndJob {
+
+    private static final String LEASE_NAME = "screening-end";
+
+    private final ScreeningRepository screeningRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLease jobLease;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration leaseTtl;
+
+    private final Timer runTimer;
+    private final Counter endedCounter;
+    private final Counter chunkCounter;
+    private final Counter skippedCounter;
+
+    public ScreeningEndJob(ScreeningRepository screeningRepository,
+                           TransactionTemplate transactionTemplate,
+                           JobLease jobLease,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${screening.end.chunk-size:500}") int chunkSize,
+                           @Value("${screening.end.max-chunks:100}") int maxChunks,
+                           @Value("${screening.end.lease-ttl:4m}") Duration leaseTtl) {
+        this.screeningRepository = screeningRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLease = jobLease;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.leaseTtl = leaseTtl;
+
+        this.runTimer = meterRegistry.timer("screening.end.run");
+        this.endedCounter = meterRegistry.counter("screening.end.ended");
+        this.chunkCounter = meterRegistry.counter("screening.end.chunks");
+        this.skippedCounter = meterRegistry.counter("screening.end.skipped");
+    }
+
+    // 종료 처리한 상영회차 수 반환 (다른 노드가 실행 중이면 0)
+    public int run(LocalDateTime now) {
+        String token = jobLease.tryAcquire(LEASE_NAME, leaseTtl);
+
+        if (token == null) {
+            skippedCounter.increment();
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        int ended = 0;
+        int chunks = 0;
+
+        try {
+            while (chunks < maxChunks) {
+                ChunkResult result = transactionTemplate.execute(status -> endChunk(now));
+                chunks++;
+                ended += result.ended();
+
+                // 마지막 chunk
+                if (result.selected() < chunkSize) {
+                    break;
+                }
+
+                if (!jobLease.extend(LEASE_NAME, token, leaseTtl)) {
+                    log.warn("[SCREENING_END] 점유 만료로 중단 chunks = {}, ended = {}", chunks, ended);
+                    break;
+                }
+            }
+        } finally {
+            jobLease.release(LEASE_NAME, token);
+            sample.stop(runTimer);
+            endedCounter.increment(ended);
+            chunkCounter.increment(chunks);
+        }
+
+        if (ended > 0) {
+            log.info("[SCREENING_END] 상영 종료 처리 {}건 (chunks = {})", ended, chunks);
+        }
+
+        return ended;
+    }
+
+    private ChunkResult endChunk(LocalDateTime now) {
+        List<Long> screeningIds = screeningRepository.findIdsToEnd(
+                now, ScreeningStatus.SCHEDULED, PageRequest.of(0, chunkSize));
+
+        if (screeningIds.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+
+        // 조회 후 취소된 상영회차는 상태 조건으로 제외
+        int ended = screeningRepository.updateStatusToEnded(
+                screeningIds, ScreeningStatus.ENDED, ScreeningStatus.SCHEDULED);
+
+        eventPublisher.publishEvent(new ScreeningsEndedEvent(screeningIds));
+
+        return new ChunkResult(screeningIds.size(), ended);
+    }
+
+    private record ChunkResult(int selected, int ended) {
+    }
+}
@@ -4,14 +4,24 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class ScreeningScheduler {
 
-    private final ScreeningService screeningService;
+    private final ScreeningEndJob screeningEndJob;
+    private final AvailableSeatCounter availableSeatCounter;
 
+    // 지난 상영회차 종료 (점유한 노드 한 곳에서 chunk 단위로 처리)
     @Scheduled(cron = "0 */5 * * * *")
     public void endPastScreeningsJob() {
-        screeningService.endPastScreenings();
+        screeningEndJob.run(LocalDateTime.now());
+    }
+
+    // 잔여 좌석 카운터 오차 보정
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reconcileAvailableSeatCountsJob() {
+        availableSeatCounter.reconcile(LocalDateTime.now());
     }
-}
\ No newline at end of file
+}
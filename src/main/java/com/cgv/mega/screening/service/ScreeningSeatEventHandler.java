@@ -0,0 +1,66 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.AvailableSeatCountChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatDeltaDto;
+import com.cgv.mega.screening.dto.ScreeningSeatHoldChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningsEndedEvent;
+import com.cgv.mega.screening.dto.SeatHoldExpiredEvent;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ScreeningSeatEventHandler {
+
+    private final ScreeningSeatMapCache screeningSeatMapCache;
+    private final ScreeningSeatStatusPublisher screeningSeatStatusPublisher;
+    private final AvailableSeatCounter availableSeatCounter;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+
+    // 예약/취소/수리 등 DB 상태 변경 -> 캐시 버전 갱신 + 변경분 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void screeningSeatChangedEventHandler(ScreeningSeatChangedEvent event) {
+        if (event.screeningId() == null) return;
+
+        screeningSeatMapCache.bumpVersion(event.screeningId());
+
+        screeningSeatStatusPublisher.publish(
+                new ScreeningSeatDeltaDto(event.screeningId(), event.screeningSeatIds(), event.status()));
+    }
+
+    // 홀드/홀드 취소 -> 변경분만 전파 (홀드는 캐시 버전 대상 아님)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void screeningSeatHoldChangedEventHandler(ScreeningSeatHoldChangedEvent event) {
+        screeningSeatStatusPublisher.publish(
+                new ScreeningSeatDeltaDto(event.screeningId(), event.screeningSeatIds(), event.status()));
+    }
+
+    // 홀드 만료 -> 예약 가능 상태로 변경분 전파
+    @EventListener
+    public void seatHoldExpiredEventHandler(SeatHoldExpiredEvent event) {
+        screeningSeatStatusPublisher.publish(
+                new ScreeningSeatDeltaDto(event.screeningId(), event.screeningSeatIds(), DisplayScreeningSeatStatus.AVAILABLE));
+    }
+
+    // 예약 가능 좌석 수 변경 -> 잔여 좌석 카운터 증감
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void availableSeatCountChangedEventHandler(AvailableSeatCountChangedEvent event) {
+        if (event.screeningId() == null) return;
+
+        availableSeatCounter.increment(event.screeningId(), event.delta());
+    }
+
+    // 상영 종료 -> 더 이상 쓰지 않는 홀드/잔여 좌석 카운터/좌석 현황 버전 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void screeningsEndedEventHandler(ScreeningsEndedEvent event) {
+        screeningSeatHoldRepository.deleteScreenings(event.screeningIds());
+        availableSeatCounter.evict(event.screeningIds());
+        screeningSeatMapCache.evict(event.screeningIds());
+    }
+}
@@ -0,0 +1,35 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.SeatHoldExpiredEvent;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 만료된 좌석 홀드 정리 및 SeatHoldExpiredEvent 발행
+@Component
+@RequiredArgsConstructor
+public class ScreeningSeatHoldSweeper {
+
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelay = 5_000)
+    public void sweepExpiredHolds() {
+        long now = System.currentTimeMillis();
+
+        for (Long screeningId : screeningSeatHoldRepository.getActiveScreeningIds()) {
+            // 스크립트가 원자적으로 삭제 후 반환하므로 노드가 여러 대여도 한 번만 발행
+            Set<Long> expired = screeningSeatHoldRepository.sweepExpired(screeningId, now);
+
+            if (!expired.isEmpty()) {
+                eventPublisher.publishEvent(new SeatHoldExpiredEvent(screeningId, expired));
+            }
+        }
+
+        screeningSeatHoldRepository.removeInactiveScreenings(now);
+    }
+}
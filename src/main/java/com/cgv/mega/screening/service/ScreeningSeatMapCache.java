@@ -0,0 +1,119 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.datasource.PrimaryReads;
+import com.cgv.mega.screening.dto.ScreeningSeatDto;
+import com.cgv.mega.screening.dto.ScreeningSeatStatusDto;
+import com.cgv.mega.screening.enums.ScreeningSeatStatus;
+import com.cgv.mega.screening.repository.ScreeningQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상영회차 좌석 현황 로컬 캐시
+ * <p>
+ * - 좌석 배치(행/열/타입/가격)는 상영 등록 이후 변하지 않으므로 그대로 보관
+ * - 예약/수리 상태는 Redis 버전 카운터(seat-map:version:{screeningId})가 바뀐 경우에만 다시 조회
+ *   (새 버전으로 저장되므로 지연된 replica 가 아닌 primary 에서 조회)
+ * - 버전 키는 변경/조회할 때마다 VERSION_TTL 로 연장하고, 상영이 종료되면 삭제한다.
+ *   (취소 등으로 더 이상 쓰지 않는 키는 만료, 조회 중인 스냅샷이 있는 동안에는 만료되지 않아 버전이 0 으로 돌아가지 않음)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ScreeningSeatMapCache {
+
+    private static final String VERSION_KEY_PREFIX = "seat-map:version:";
+
+    // 스냅샷 유지 시간(expireAfterAccess 1시간)보다 길게
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final ScreeningQueryRepository screeningQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PrimaryReads primaryReads;
+
+    private final Cache<Long, List<ScreeningSeatDto>> layouts = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    private final Cache<Long, StatusSnapshot> statuses = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    // 좌석 배치 조회 (없으면 빈 목록, 캐시하지 않음)
+    public List<ScreeningSeatDto> getLayout(Long screeningId) {
+        List<ScreeningSeatDto> layout = layouts.get(screeningId, id -> {
+            List<ScreeningSeatDto> rows = screeningQueryRepository.getScreeningSeat(id);
+
+            return rows.isEmpty() ? null : List.copyOf(rows);
+        });
+
+        return layout == null ? List.of() : layout;
+    }
+
+    // 예약/수리 상태 좌석 (screeningSeatId -> status)
+    public Map<Long, ScreeningSeatStatus> getUnavailableStatuses(Long screeningId) {
+        // DB 조회 전에 버전을 먼저 읽어야 커밋 직후 변경분을 놓치지 않음
+        long version = currentVersion(screeningId);
+
+        StatusSnapshot cached = statuses.getIfPresent(screeningId);
+
+        if (cached != null && cached.version() == version) {
+            return cached.statuses();
+        }
+
+        Map<Long, ScreeningSeatStatus> loaded = new HashMap<>();
+        List<ScreeningSeatStatusDto> rows =
+                primaryReads.read(() -> screeningQueryRepository.getUnavailableScreeningSeats(screeningId));
+
+        for (ScreeningSeatStatusDto row : rows) {
+            loaded.put(row.screeningSeatId(), row.status());
+        }
+
+        StatusSnapshot snapshot = new StatusSnapshot(version, Map.copyOf(loaded));
+
+        // 동시에 적재된 경우 더 높은 버전 유지
+        statuses.asMap().merge(screeningId, snapshot,
+                (old, fresh) -> fresh.version() >= old.version() ? fresh : old);
+
+        return snapshot.statuses();
+    }
+
+    // 좌석 상태 변경 커밋 후 호출 (모든 노드의 스냅샷 무효화)
+    public void bumpVersion(Long screeningId) {
+        redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + screeningId);
+        redisTemplate.expire(VERSION_KEY_PREFIX + screeningId, VERSION_TTL);
+        statuses.invalidate(screeningId);
+    }
+
+    // 종료된 상영회차 정리
+    public void evict(Collection<Long> screeningIds) {
+        if (screeningIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(screeningIds.stream().map(screeningId -> VERSION_KEY_PREFIX + screeningId).toList());
+        statuses.invalidateAll(screeningIds);
+        layouts.invalidateAll(screeningIds);
+    }
+
+    // 조회할 때마다 만료 연장 (GETEX)
+    private long currentVersion(Long screeningId) {
+        String value = redisTemplate.opsForValue().getAndExpire(VERSION_KEY_PREFIX + screeningId, VERSION_TTL);
+
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private record StatusSnapshot(long version, Map<Long, ScreeningSeatStatus> statuses) {
+    }
+}
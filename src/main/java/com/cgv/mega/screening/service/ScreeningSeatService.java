@@ -2,20 +2,23 @@ package com.cgv.mega.screening.service;
 
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.screening.dto.AvailableSeatCountChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatHoldChangedEvent;
 import com.cgv.mega.screening.dto.ScreeningSeatHoldDto;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -26,7 +29,8 @@ public class ScreeningSeatService {
 
     private final ScreeningSeatRepository screeningSeatRepository;
     private final ScreeningRepository screeningRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 해당 좌석 상태 변경 -> 수리중 (관리자용)
     @Transactional
@@ -34,7 +38,16 @@ public class ScreeningSeatService {
         ScreeningSeat screeningSeat = screeningSeatRepository.findById(screeningSeatId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
+        boolean wasAvailable = screeningSeat.getStatus() == ScreeningSeatStatus.AVAILABLE;
+
         screeningSeat.fixScreeningSeat();
+
+        eventPublisher.publishEvent(new ScreeningSeatChangedEvent(
+                screeningSeat.getScreening().getId(), Set.of(screeningSeatId), DisplayScreeningSeatStatus.FIXING));
+
+        if (wasAvailable) {
+            eventPublisher.publishEvent(new AvailableSeatCountChangedEvent(screeningSeat.getScreening().getId(), -1));
+        }
     }
 
     // 수리 완료 (관리자용)
@@ -44,6 +57,10 @@ public class ScreeningSeatService {
                 .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
 
         screeningSeat.restoreScreeningSeat();
+
+        eventPublisher.publishEvent(new ScreeningSeatChangedEvent(
+                screeningSeat.getScreening().getId(), Set.of(screeningSeatId), DisplayScreeningSeatStatus.AVAILABLE));
+        eventPublisher.publishEvent(new AvailableSeatCountChangedEvent(screeningSeat.getScreening().getId(), 1));
     }
 
     // 좌석 홀드(redis ttl)
@@ -71,45 +88,24 @@ public class ScreeningSeatService {
             }
         }
 
-        List<String> acquiredKeys = new ArrayList<>();
-
-        for (Long screeningSeatId : sortIds) {
-            String key = "seat:" + screeningSeatId;
-
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value != null && value.toString().equals(userId.toString())) {
-                continue;
-            }
-
-            Boolean success = redisTemplate
-                    .opsForValue()
-                    .setIfAbsent(key, userId.toString(), Duration.ofMinutes(5));
-
-            if (Boolean.FALSE.equals(success)) {
-                for (String acquiredKey : acquiredKeys) {
-                    redisTemplate.delete(acquiredKey);
-                }
-
-                throw new CustomException(ErrorCode.SCREENING_SEAT_ALREADY_HOLD);
-            }
-
-            acquiredKeys.add(key);
+        // 요청 좌석 전체를 한 번의 스크립트 실행으로 검사 후 홀드 (부분 홀드 없음)
+        if (!screeningSeatHoldRepository.hold(screeningId, userId, sortIds)) {
+            throw new CustomException(ErrorCode.SCREENING_SEAT_ALREADY_HOLD);
         }
+
+        eventPublisher.publishEvent(new ScreeningSeatHoldChangedEvent(
+                screeningId, sortIds, DisplayScreeningSeatStatus.HOLD));
     }
 
     // 좌석 홀드 취소 (뒤로가기 및 좌석 변경)
-    public void cancelHoldScreeningSeat(Long userId, ScreeningSeatHoldDto request) {
+    public void cancelHoldScreeningSeat(Long userId, Long screeningId, ScreeningSeatHoldDto request) {
         if (request.screeningSeatIds().isEmpty()) return;
 
-        for (Long screeningSeatId : request.screeningSeatIds()) {
-            String key = "seat:" + screeningSeatId;
+        // 본인 홀드만 한 번에 해제
+        Set<Long> released = screeningSeatHoldRepository.release(screeningId, userId, request.screeningSeatIds());
 
-            Object value = redisTemplate.opsForValue().get(key);
-
-            if (value != null && value.equals(String.valueOf(userId))) {
-                redisTemplate.delete(key);
-            }
-        }
+        eventPublisher.publishEvent(new ScreeningSeatHoldChangedEvent(
+                screeningId, released, DisplayScreeningSeatStatus.AVAILABLE));
     }
 
     // 좌석 예약 상태로 변경
@@ -118,4 +114,23 @@ public class ScreeningSeatService {
             screeningSeat.reserveScreeningSeat();
         }
     }
+
+    // 좌석 예약 상태로 변경 (행 잠금 없이 조건부 update)
+    @Transactional
+    public List<ScreeningSeat> reserveAvailableScreeningSeats(Long screeningId, Set<Long> screeningSeatIds) {
+        int reserved = screeningSeatRepository.reserveIfAvailable(screeningSeatIds, screeningId);
+
+        List<ScreeningSeat> screeningSeats = screeningSeatRepository.findByIdInAndScreeningId(screeningSeatIds, screeningId);
+
+        if (screeningSeats.size() != screeningSeatIds.size()) {
+            throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_FOUND);
+        }
+
+        // 일부라도 이미 예약/수리 상태면 전체 롤백
+        if (reserved != screeningSeatIds.size()) {
+            throw new CustomException(ErrorCode.SCREENING_SEAT_NOT_AVAILABLE);
+        }
+
+        return screeningSeats;
+    }
 }
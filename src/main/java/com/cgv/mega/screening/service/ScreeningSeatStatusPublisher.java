@@ -0,0 +1,33 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.ScreeningSeatDeltaDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 좌석 상태 변경분을 모든 노드로 전파 (Redis pub/sub)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScreeningSeatStatusPublisher {
+
+    public static final String CHANNEL = "screening-seat-status";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(ScreeningSeatDeltaDto delta) {
+        if (delta.screeningSeatIds().isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(delta));
+        } catch (JsonProcessingException e) {
+            log.warn("좌석 상태 변경 발행 실패 screeningId={}", delta.screeningId(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.ScreeningSeatDeltaDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 다른 노드(자신 포함)가 발행한 좌석 상태 변경분을 로컬 SSE 구독자에게 전달
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScreeningSeatStatusSubscriber implements MessageListener {
+
+    private final ScreeningSeatStreamService screeningSeatStreamService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ScreeningSeatDeltaDto delta = objectMapper.readValue(message.getBody(), ScreeningSeatDeltaDto.class);
+
+            screeningSeatStreamService.broadcast(delta);
+        } catch (IOException e) {
+            log.warn("좌석 상태 변경 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.ScreeningSeatDeltaDto;
+import com.cgv.mega.screening.dto.ScreeningSeatResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상영회차별 좌석 현황 SSE 구독 관리 (노드 로컬)
+ * <p>
+ * - 구독을 먼저 등록한 뒤 전체 좌석 현황(snapshot)을 조회한다. 조회 중 들어온 변경분은 구독자 대기열에 쌓였다가
+ *   snapshot 다음에 순서대로 전송된다. (변경분은 좌석별 최종 상태라 snapshot 에 이미 반영된 변경분을 다시 보내도 결과가 같음)
+ * - 전송은 Redis 리스너 스레드가 아닌 screeningSeatStreamExecutor 에서 구독자별로 한 번에 하나의 작업이 처리한다.
+ * - 구독자별 대기열은 크기가 제한되어 가득 차면 (느린 클라이언트) 연결을 끊는다. 재연결하면 snapshot 부터 다시 받는다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ScreeningSeatStreamService {
+
+    private static final long STREAM_TIMEOUT = Duration.ofMinutes(30).toMillis();
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final ScreeningService screeningService;
+    private final TaskExecutor screeningSeatStreamExecutor;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public ScreeningSeatStreamService(ScreeningService screeningService,
+                                      @Qualifier("screeningSeatStreamExecutor") TaskExecutor screeningSeatStreamExecutor) {
+        this.screeningService = screeningService;
+        this.screeningSeatStreamExecutor = screeningSeatStreamExecutor;
+    }
+
+    // 최초 1회 전체 좌석 현황 전송 후 변경분만 전송
+    public SseEmitter subscribe(Long screeningId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(screeningId, emitter);
+
+        // snapshot 조회 전에 등록 (조회 중 변경분을 놓치지 않음)
+        subscribers.compute(screeningId, (id, targets) -> {
+            Set<Subscriber> registered = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            registered.add(subscriber);
+
+            return registered;
+        });
+
+        ScreeningSeatResponse snapshot;
+
+        try {
+            snapshot = screeningService.getScreeningSeatStatus(screeningId);
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.start(SseEmitter.event().name("snapshot").data(snapshot));
+
+        return emitter;
+    }
+
+    public void broadcast(ScreeningSeatDeltaDto delta) {
+        Set<Subscriber> targets = subscribers.get(delta.screeningId());
+
+        if (targets == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            subscriber.enqueue(SseEmitter.event().name("delta").data(delta));
+        }
+    }
+
+    // 프록시 유휴 연결 종료 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> {
+            for (Subscriber subscriber : targets) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(STREAM_TIMEOUT);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.screeningId, (id, targets) -> {
+            targets.remove(subscriber);
+
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    // 구독자 하나의 전송 대기열 (전송 작업은 구독자별로 동시에 하나만 실행)
+    final class Subscriber {
+
+        private final Long screeningId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile SseEmitter.SseEventBuilder snapshot;
+        private volatile boolean started;
+
+        private Subscriber(Long screeningId, SseEmitter emitter) {
+            this.screeningId = screeningId;
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        // snapshot 을 먼저 보내고 그동안 쌓인 변경분 전송 시작
+        private void start(SseEmitter.SseEventBuilder snapshotEvent) {
+            this.snapshot = snapshotEvent;
+            this.started = true;
+            schedule();
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                log.debug("[SEAT_STREAM] 전송 대기열 초과로 구독 종료 screeningId = {}", screeningId);
+                close();
+                return;
+            }
+
+            // snapshot 전송 전이면 대기열에만 쌓음
+            if (started) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                screeningSeatStreamExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                log.debug("[SEAT_STREAM] 전송 작업 거절로 구독 종료 screeningId = {}", screeningId);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder first = snapshot;
+
+                if (first != null) {
+                    snapshot = null;
+                    emitter.send(first);
+                }
+
+                SseEmitter.SseEventBuilder event;
+
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결 (draining 을 풀지 않아 더 이상 전송하지 않음)
+                remove(this);
+                return;
+            }
+
+            draining.set(false);
+
+            // 전송을 마치는 사이 들어온 변경분
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
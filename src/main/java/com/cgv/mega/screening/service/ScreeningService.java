@@ -5,50 +5,66 @@ import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.movie.entity.Movie;
 import com.cgv.mega.movie.enums.MovieStatus;
 import com.cgv.mega.movie.repository.MovieRepository;
-import com.cgv.mega.reservation.entity.ReservationGroup;
+import com.cgv.mega.reservation.enums.ReservationStatus;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
-import com.cgv.mega.reservation.service.ReservationService;
 import com.cgv.mega.screening.dto.*;
 import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
 import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.repository.ScreeningCancelJobRepository;
 import com.cgv.mega.screening.repository.ScreeningQueryRepository;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatBulkRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.repository.SeatRepository;
 import com.cgv.mega.theater.entity.Theater;
 import com.cgv.mega.theater.repository.TheaterRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScreeningService {
 
-    private final ReservationService reservationService;
     private final ScreeningRepository screeningRepository;
     private final ScreeningQueryRepository screeningQueryRepository;
     private final MovieRepository movieRepository;
     private final TheaterRepository theaterRepository;
     private final SeatRepository seatRepository;
     private final ReservationGroupRepository reservationGroupRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScreeningSeatHoldRepository screeningSeatHoldRepository;
+    private final ScreeningSeatBulkRepository screeningSeatBulkRepository;
+    private final ScreeningCancelJobRepository screeningCancelJobRepository;
+    private final ScreeningSeatMapCache screeningSeatMapCache;
+    private final AvailableSeatCounter availableSeatCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final TheaterTimelineIndex theaterTimelineIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final LocalTime THEATER_OPEN_TIME = LocalTime.of(5, 0);
     private static final LocalTime LAST_SCREENING_START_TIME = LocalTime.of(1, 0);
     private static final Duration CLEANING_TIME = Duration.ofMinutes(10);
     private static final int BASE_PRICE = 1000;
+    private static final int BULK_REGISTER_CHUNK_SIZE = 100;
 
     // 상영 등록 가능 시간 조회(관리자용)
     @Transactional(readOnly = true)
@@ -63,40 +79,35 @@ public class ScreeningService {
         Theater theater = theaterRepository.findById(theaterId)
                 .orElseThrow(() -> new CustomException(ErrorCode.THEATER_NOT_FOUND));
 
-        // 해당 상영관 및 날짜에 상영 예정 시간 목록 조회
-        List<ScreeningTimeDto> reservedScreening =
-                screeningQueryRepository.getReservedScreening(theaterId, date);
+        // 해당 상영관 및 날짜의 상영 시간표 (로컬 인덱스)
+        TheaterTimeline timeline = theaterTimelineIndex.get(theater.getId(), date);
 
-        final Duration totalDuration = Duration.ofMinutes(movie.getDuration()).plus(CLEANING_TIME); // 영화시간 + 청소시간(15분)
-        final int intervalSlot = 10; // 10분 간격
-
-        // 상영관 시작(5시) 및 마지막 상영 가능 시간(익일 1시)
-        final LocalDateTime open = date.atTime(THEATER_OPEN_TIME);
-        final LocalDateTime last = date.plusDays(1).atTime(LAST_SCREENING_START_TIME);
-
-        List<LocalDateTime> candidates = new ArrayList<>();
-        LocalDateTime prevEnd = open;
+        return new AvailableScreeningResponse(availableStartTimes(timeline, movie, date));
+    }
 
-        // 오전 5시 ~ 예약된 마지막 상영 시간까지 10분마다 후보 추가
-        for (ScreeningTimeDto st : reservedScreening) {
-            LocalDateTime nextStart = st.startTime();
+    // 모든 상영관의 상영 등록 가능 시간 조회(관리자용)
+    @Transactional(readOnly = true)
+    public TheaterAvailableScreeningResponse getAvailableScreeningTimes(Long movieId, LocalDate date) {
+        if (date.isBefore(LocalDate.now())) {
+            throw new CustomException(ErrorCode.INVALID_SCREENING_START_TIME);
+        }
 
-            while (prevEnd.plus(totalDuration).isBefore(nextStart)
-                    && prevEnd.isBefore(last)) {
-                candidates.add(prevEnd);
-                prevEnd = prevEnd.plusMinutes(intervalSlot);
-            }
+        Movie movie = movieRepository.findById(movieId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
 
-            prevEnd = st.endTime();
-        }
+        List<Theater> theaters = theaterRepository.findAll().stream()
+                .sorted(Comparator.comparing(Theater::getId))
+                .toList();
 
-        // 예약된 마지막 상영시간 ~ 마지막 상영 가능 시간(익일 1시)까지 10분마다 후보 추가
-        while (prevEnd.plus(totalDuration).isBefore(last)) {
-            candidates.add(prevEnd);
-            prevEnd = prevEnd.plusMinutes(intervalSlot);
-        }
+        Map<Long, TheaterTimeline> timelines = theaterTimelineIndex.getAll(
+                theaters.stream().map(Theater::getId).toList(), date);
 
-        return new AvailableScreeningResponse(candidates);
+        return new TheaterAvailableScreeningResponse(theaters.stream()
+                .map(theater -> new TheaterAvailableScreeningResponse.TheaterAvailableTime(
+                        theater.getId(),
+                        theater.getName(),
+                        availableStartTimes(timelines.get(theater.getId()), movie, date)))
+                .toList());
     }
 
     // 상영 추가(관리자용)
@@ -124,12 +135,7 @@ public class ScreeningService {
                 .orElseThrow(() -> new CustomException(ErrorCode.THEATER_NOT_FOUND));
 
         // 상영 가능한 시간인지 체크
-        LocalTime time = request.startTime().toLocalTime();
-
-        boolean withInOpenDay = !time.isBefore(THEATER_OPEN_TIME);
-        boolean withInNextDay = time.isBefore(LAST_SCREENING_START_TIME);
-
-        if (!(withInOpenDay || withInNextDay)) {
+        if (!isWithinOpenHours(request.startTime())) {
             throw new CustomException(ErrorCode.INVALID_SCREENING_START_TIME);
         }
 
@@ -158,15 +164,138 @@ public class ScreeningService {
             throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
         }
 
-        screening.initializeSeats(seats, BASE_PRICE);
-
-        // 저장
+        // 저장 (IDENTITY 는 JPA 배치 insert 가 불가능하므로 좌석은 multi-row INSERT 로 일괄 저장)
         screeningRepository.save(screening);
+        screeningSeatBulkRepository.insertAll(screening, seats, BASE_PRICE);
+
+        eventPublisher.publishEvent(new TheaterTimelineChangedEvent(theater.getId(), screening.getStartTime()));
     }
 
-    // 상영 취소(관리자용)
+    // 상영 일괄 추가(관리자용) - 실패한 행은 건너뛰고 결과에 담아 반환
+    // 영화/상영관/좌석/sequence 는 한 번씩만 조회하고, 중복 시간은 상영관별로 메모리에서 검사한 뒤 청크 단위 트랜잭션으로 저장
+    @CacheEvict(cacheNames = "screeningMovies", allEntries = true)
+    public BulkRegisterScreeningResponse registerScreenings(BulkRegisterScreeningRequest request) {
+        List<RegisterScreeningRequest> rows = request.screenings();
+        List<BulkRegisterScreeningResponse.FailedRow> failures = new ArrayList<>();
+
+        Set<Long> movieIds = rows.stream().map(RegisterScreeningRequest::movieId).collect(Collectors.toSet());
+        Set<Long> theaterIds = rows.stream().map(RegisterScreeningRequest::theaterId).collect(Collectors.toSet());
+
+        Map<Long, Movie> movies = movieRepository.findAllById(movieIds).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        Map<Long, Theater> theaters = theaterRepository.findAllById(theaterIds).stream()
+                .collect(Collectors.toMap(Theater::getId, Function.identity()));
+        Map<Long, Set<Seat>> seatsByTheater = theaters.keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), seatRepository::findByTheaterId));
+
+        // 1. 행 단위 검증
+        LocalDateTime minStartTime = LocalDateTime.now().minusMinutes(1);
+        List<ScreeningCandidateDto> candidates = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            RegisterScreeningRequest row = rows.get(i);
+            Movie movie = movies.get(row.movieId());
+            Theater theater = theaters.get(row.theaterId());
+
+            ErrorCode error = null;
+
+            if (row.startTime().isBefore(minStartTime)) {
+                error = ErrorCode.INVALID_SCREENING_START_TIME;
+            } else if (movie == null) {
+                error = ErrorCode.MOVIE_NOT_FOUND;
+            } else if (movie.getStatus() == MovieStatus.INACTIVE) {
+                error = ErrorCode.MOVIE_ALREADY_DELETED;
+            } else if (theater == null) {
+                error = ErrorCode.THEATER_NOT_FOUND;
+            } else if (!isWithinOpenHours(row.startTime())) {
+                error = ErrorCode.INVALID_SCREENING_START_TIME;
+            } else if (seatsByTheater.get(theater.getId()).isEmpty()) {
+                error = ErrorCode.SEAT_NOT_FOUND;
+            }
+
+            if (error != null) {
+                failures.add(failedRow(i, error));
+                continue;
+            }
+
+            LocalDateTime endTime = row.startTime()
+                    .plusMinutes(movie.getDuration())
+                    .plus(CLEANING_TIME);
+
+            candidates.add(new ScreeningCandidateDto(i, movie, theater, row.movieType(), row.startTime(), endTime));
+        }
+
+        // 2. 상영관별 중복 시간 검사 (기존 상영 + 앞서 통과한 행)
+        List<ScreeningCandidateDto> accepted = new ArrayList<>();
+
+        candidates.stream()
+                .collect(Collectors.groupingBy(candidate -> candidate.theater().getId()))
+                .forEach((theaterId, theaterCandidates) ->
+                        accepted.addAll(rejectOverlaps(theaterId, theaterCandidates, failures)));
+
+        // 3. 영화별 sequence 한 번에 할당 (상영 시작 시간 순)
+        accepted.sort(Comparator.comparing(ScreeningCandidateDto::startTime)
+                .thenComparingInt(ScreeningCandidateDto::index));
+
+        Map<Long, Integer> sequences = accepted.isEmpty()
+                ? new HashMap<>()
+                : new HashMap<>(screeningQueryRepository.getMaxMovieSequences(
+                        accepted.stream().map(candidate -> candidate.movie().getId()).collect(Collectors.toSet())));
+
+        List<Screening> screenings = new ArrayList<>();
+
+        for (ScreeningCandidateDto candidate : accepted) {
+            int sequence = sequences.merge(candidate.movie().getId(), 1, Integer::sum);
+
+            screenings.add(Screening.createScreening(
+                    candidate.movie(), candidate.theater(), candidate.startTime(), candidate.endTime(),
+                    sequence, candidate.movieType()
+            ));
+        }
+
+        // 4. 청크 단위 저장 (청크가 실패하면 해당 청크의 행만 실패 처리)
+        int registered = 0;
+
+        for (int from = 0; from < screenings.size(); from += BULK_REGISTER_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_REGISTER_CHUNK_SIZE, screenings.size());
+            List<Screening> chunk = screenings.subList(from, to);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    screeningRepository.saveAll(chunk);
+                    screeningSeatBulkRepository.insertAll(
+                            chunk, screening -> seatsByTheater.get(screening.getTheater().getId()), BASE_PRICE);
+
+                    chunk.forEach(screening -> eventPublisher.publishEvent(
+                            new TheaterTimelineChangedEvent(screening.getTheater().getId(), screening.getStartTime())));
+                });
+
+                registered += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("[SCREENING] 상영 일괄 등록 청크 저장 실패 rows = {}", to - from, e);
+
+                accepted.subList(from, to)
+                        .forEach(candidate -> failures.add(failedRow(candidate.index(), ErrorCode.SCREENING_SAVE_FAILED)));
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(BulkRegisterScreeningResponse.FailedRow::index));
+
+        return new BulkRegisterScreeningResponse(rows.size(), registered, failures);
+    }
+
+    // 상영 취소(관리자용) - 날짜를 조회 전에 알 수 없어 날짜별 목록 캐시 전체 삭제
+    // 예약 묶음별 환불은 커밋 후 상영 취소 작업에서 처리
     @Transactional
-    public void cancelScreening(Long screeningId) {
+    @CacheEvict(cacheNames = "screeningMovies", allEntries = true)
+    public ScreeningCancelJobResponse cancelScreening(Long screeningId) {
+        // 이미 취소 요청된 상영이면 기존 작업 반환
+        Optional<ScreeningCancelJob> existingJob = screeningCancelJobRepository.findByScreeningId(screeningId);
+
+        if (existingJob.isPresent()) {
+            return ScreeningCancelJobResponse.from(existingJob.get());
+        }
+
         // 이미 상영 중 이거나 종료된 상영이면 삭제 불가
         Screening screening = screeningRepository.findById(screeningId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SCREENING_NOT_FOUND));
@@ -176,21 +305,36 @@ public class ScreeningService {
             throw new CustomException(ErrorCode.SCREENING_CANCEL_NOT_ALLOWED);
         }
 
-        // 해당 상영에 해당하는 예약 존재 하는지 체크
-        List<ReservationGroup> reservationGroupList = reservationGroupRepository.findAllByScreeningId(screeningId);
-
-        for (ReservationGroup reservationGroup : reservationGroupList) {
-            reservationService.cancelReservationByScreeningCancel(reservationGroup);
-        }
+        // 취소 대상 예약 묶음 수
+        List<Long> reservationGroupIds = reservationGroupRepository.findIdsByScreeningIdAndStatusNot(
+                screeningId, ReservationStatus.CANCELLED);
 
         screening.cancelScreening();
+
+        ScreeningCancelJob job = screeningCancelJobRepository.save(
+                ScreeningCancelJob.createScreeningCancelJob(screeningId, reservationGroupIds.size()));
+
+        eventPublisher.publishEvent(new TheaterTimelineChangedEvent(screening.getTheater().getId(), screening.getStartTime()));
+        eventPublisher.publishEvent(new ScreeningCancelJobCreatedEvent(job.getId()));
+
+        return ScreeningCancelJobResponse.from(job);
     }
 
-    // 해당 날짜의 상영 영화 목록
+    // 상영 취소 작업 진행 상황(관리자용)
     @Transactional(readOnly = true)
+    public ScreeningCancelJobResponse getScreeningCancelJob(Long screeningId) {
+        ScreeningCancelJob job = screeningCancelJobRepository.findByScreeningId(screeningId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SCREENING_CANCEL_JOB_NOT_FOUND));
+
+        return ScreeningCancelJobResponse.from(job);
+    }
+
+    // 해당 날짜의 상영 영화 목록
+    // 캐시 채우기는 트랜잭션 밖(primary)에서 조회 (지연된 replica 값이 캐시되어 모든 사용자에게 남지 않도록)
     @Cacheable(
             cacheNames = "screeningMovies",
-            key = "'srceeningMovies:' + #date.toString()"
+            key = "'screeningMovies:' + #date.toString()",
+            sync = true
     )
     public ScreeningDateMovieResponse getScreeningMovies(LocalDate date) {
         List<ScreeningDateMovieResponse.MovieInfo> screeningMovieList = screeningQueryRepository.getScreeningMovieList(date);
@@ -204,7 +348,13 @@ public class ScreeningService {
         // 해당 날짜 및 영화의 상영 목록 조회 - 잔여 좌석 포함
         List<MovieScreeningInfoDto> infoDtoList = screeningQueryRepository.getMovieScreeningListForUser(movieId, date);
 
-        return MovieScreeningResponse.from(infoDtoList);
+        // 잔여 좌석 수는 상영회차별 카운터에서 한 번에 조회
+        Map<Long, Long> counts = availableSeatCounter.getAvailableSeatCounts(
+                infoDtoList.stream().map(MovieScreeningInfoDto::screeningId).toList());
+
+        return MovieScreeningResponse.from(infoDtoList.stream()
+                .map(dto -> dto.withRemainSeat(counts.getOrDefault(dto.screeningId(), 0L)))
+                .toList());
     }
 
     // 특정 영화의 상영 목록 (관리자용)
@@ -213,43 +363,42 @@ public class ScreeningService {
         // 해당 영화의 상영 목록 조회 - 잔여 좌석 포함
         List<MovieScreeningForAdminResponse.MovieScreeningInfo> movieScreeningList = screeningQueryRepository.getMovieScreeningListForAdmin(movieId);
 
-        return new MovieScreeningForAdminResponse(movieScreeningList);
+        Map<Long, Long> counts = availableSeatCounter.getAvailableSeatCounts(
+                movieScreeningList.stream().map(MovieScreeningForAdminResponse.MovieScreeningInfo::screeningId).toList());
+
+        return new MovieScreeningForAdminResponse(movieScreeningList.stream()
+                .map(info -> info.withRemainSeat(counts.getOrDefault(info.screeningId(), 0L)))
+                .toList());
     }
 
     // 해당 상영회차의 좌석 현황 조회
     @Transactional(readOnly = true)
     public ScreeningSeatResponse getScreeningSeatStatus(Long screeningId) {
-        List<ScreeningSeatDto> rows = screeningQueryRepository.getScreeningSeat(screeningId);
+        // 불변 좌석 배치는 로컬 캐시에서 조회
+        List<ScreeningSeatDto> rows = screeningSeatMapCache.getLayout(screeningId);
 
         if (rows.isEmpty()) {
             throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
         }
 
-        List<String> keys = rows.stream()
-                .map(r -> "seat:" + r.screeningSeatId())
-                .toList();
-
-        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        // 예약/수리 상태는 버전이 바뀐 경우에만 DB 재조회
+        Map<Long, ScreeningSeatStatus> unavailable = screeningSeatMapCache.getUnavailableStatuses(screeningId);
 
-        Map<Long, Boolean> holdMap = new HashMap<>();
-
-        for (int i = 0; i < rows.size(); i++) {
-            Long screeningSeatId = rows.get(i).screeningSeatId();
-            boolean isHold = values.get(i) != null;
-            holdMap.put(screeningSeatId, isHold);
-        }
+        // 상영회차 단위로 한 번에 홀드 좌석 조회
+        Set<Long> heldSeatIds = screeningSeatHoldRepository.getHeldSeatIds(screeningId);
 
         List<ScreeningSeatResponse.ScreeningSeatInfo> screeningSeatInfos = rows.stream()
                 .map(r -> {
                     DisplayScreeningSeatStatus status;
+                    ScreeningSeatStatus seatStatus = unavailable.getOrDefault(r.screeningSeatId(), ScreeningSeatStatus.AVAILABLE);
 
-                    if (r.status() == ScreeningSeatStatus.RESERVED) {
+                    if (seatStatus == ScreeningSeatStatus.RESERVED) {
                         status = DisplayScreeningSeatStatus.RESERVED;
 
-                    } else if (r.status() == ScreeningSeatStatus.FIXING) {
+                    } else if (seatStatus == ScreeningSeatStatus.FIXING) {
                         status = DisplayScreeningSeatStatus.FIXING;
 
-                    } else if (holdMap.get(r.screeningSeatId())) {
+                    } else if (heldSeatIds.contains(r.screeningSeatId())) {
                         status = DisplayScreeningSeatStatus.HOLD;
 
                     } else {
@@ -270,12 +419,67 @@ public class ScreeningService {
         return new ScreeningSeatResponse(screeningId, screeningSeatInfos);
     }
 
-    @Transactional
-    public void endPastScreenings() {
-        LocalDateTime now = LocalDateTime.now();
-        ScreeningStatus ended = ScreeningStatus.ENDED;
-        ScreeningStatus scheduled = ScreeningStatus.SCHEDULED;
+    // 빈 시간을 10분 간격으로 나눈 상영 가능 시작 시간
+    private List<LocalDateTime> availableStartTimes(TheaterTimeline timeline, Movie movie, LocalDate date) {
+        final Duration totalDuration = Duration.ofMinutes(movie.getDuration()).plus(CLEANING_TIME); // 영화시간 + 청소시간(15분)
+        final int intervalSlot = 10; // 10분 간격
+
+        // 상영관 시작(5시) 및 마지막 상영 가능 시간(익일 1시)
+        final LocalDateTime open = date.atTime(THEATER_OPEN_TIME);
+        final LocalDateTime last = date.plusDays(1).atTime(LAST_SCREENING_START_TIME);
+
+        return timeline.availableStartTimes(open, last, totalDuration, intervalSlot);
+    }
+
+    // 영업 시작(05:00) 이후 또는 다음날 마지막 상영 시작(01:00) 이전
+    private boolean isWithinOpenHours(LocalDateTime startTime) {
+        LocalTime time = startTime.toLocalTime();
+
+        boolean withInOpenDay = !time.isBefore(THEATER_OPEN_TIME);
+        boolean withInNextDay = time.isBefore(LAST_SCREENING_START_TIME);
+
+        return withInOpenDay || withInNextDay;
+    }
+
+    // 한 상영관의 후보 중 기존 상영 또는 앞선 후보와 겹치는 행은 실패 처리하고 나머지 반환
+    private List<ScreeningCandidateDto> rejectOverlaps(Long theaterId,
+                                                       List<ScreeningCandidateDto> candidates,
+                                                       List<BulkRegisterScreeningResponse.FailedRow> failures) {
+        candidates.sort(Comparator.comparing(ScreeningCandidateDto::startTime)
+                .thenComparingInt(ScreeningCandidateDto::index));
+
+        LocalDateTime from = candidates.get(0).startTime();
+        LocalDateTime to = candidates.stream()
+                .map(ScreeningCandidateDto::endTime)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        // 시작 시간 -> 종료 시간 (서로 겹치지 않는 구간)
+        TreeMap<LocalDateTime, LocalDateTime> occupied = new TreeMap<>();
+
+        for (ScreeningTimeDto time : screeningQueryRepository.getScheduledScreeningTimes(theaterId, from, to)) {
+            occupied.merge(time.startTime(), time.endTime(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+
+        List<ScreeningCandidateDto> accepted = new ArrayList<>();
+
+        for (ScreeningCandidateDto candidate : candidates) {
+            // 후보 종료 전에 시작하는 구간 중 가장 늦게 시작하는 구간이 후보 시작 이후에 끝나면 겹침
+            Map.Entry<LocalDateTime, LocalDateTime> before = occupied.lowerEntry(candidate.endTime());
+
+            if (before != null && before.getValue().isAfter(candidate.startTime())) {
+                failures.add(failedRow(candidate.index(), ErrorCode.DUPLICATE_THEATER_SCREENING_TIME));
+                continue;
+            }
+
+            occupied.put(candidate.startTime(), candidate.endTime());
+            accepted.add(candidate);
+        }
+
+        return accepted;
+    }
 
-        screeningRepository.updateStatusToEnded(now, ended, scheduled);
+    private BulkRegisterScreeningResponse.FailedRow failedRow(int index, ErrorCode errorCode) {
+        return new BulkRegisterScreeningResponse.FailedRow(index, errorCode.getCode(), errorCode.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.ScreeningTimeDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상영관 하루 상영 시간표 (영업일 05:00 ~ 익일 02:00 에 시작하는 상영 예정 회차)
+ * <p>
+ * 시작/종료 시각을 epoch 분(int) 배열로 보관해 빈 시간 계산 중에는 LocalDateTime 을 만들지 않는다.
+ * 시작 시각 오름차순이며, 생성 이후 변경하지 않는다. (변경 시 새로 적재)
+ * </p>
+ */
+public final class TheaterTimeline {
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private TheaterTimeline(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    // 시작 시각 오름차순 목록으로 생성
+    public static TheaterTimeline of(List<ScreeningTimeDto> times) {
+        int[] starts = new int[times.size()];
+        int[] ends = new int[times.size()];
+
+        for (int i = 0; i < times.size(); i++) {
+            starts[i] = toEpochMinute(times.get(i).startTime());
+            ends[i] = toEpochMinute(times.get(i).endTime());
+        }
+
+        return new TheaterTimeline(starts, ends);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    // 상영 가능 시작 시각 (open 부터 상영 사이 빈 구간을 intervalMinutes 간격으로 나눔)
+    public List<LocalDateTime> availableStartTimes(LocalDateTime open, LocalDateTime last,
+                                                   Duration totalDuration, int intervalMinutes) {
+        final int lastMinute = toEpochMinute(last);
+        final int total = (int) totalDuration.toMinutes();
+
+        List<LocalDateTime> candidates = new ArrayList<>();
+        int prevEnd = toEpochMinute(open);
+
+        // open ~ 예약된 마지막 상영 시간까지
+        for (int i = 0; i < starts.length; i++) {
+            while (prevEnd + total < starts[i] && prevEnd < lastMinute) {
+                candidates.add(toLocalDateTime(prevEnd));
+                prevEnd += intervalMinutes;
+            }
+
+            prevEnd = ends[i];
+        }
+
+        // 예약된 마지막 상영 시간 ~ last
+        while (prevEnd + total < lastMinute) {
+            candidates.add(toLocalDateTime(prevEnd));
+            prevEnd += intervalMinutes;
+        }
+
+        return candidates;
+    }
+
+    // 시간대 변환 없이 분 단위 산술용으로만 사용
+    private static int toEpochMinute(LocalDateTime time) {
+        return (int) (time.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+}
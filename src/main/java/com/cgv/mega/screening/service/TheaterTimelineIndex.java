@@ -0,0 +1,119 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.TheaterTimelineChangedEvent;
+import com.cgv.mega.screening.repository.ScreeningQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상영관/영업일별 상영 시간표 로컬 인덱스
+ * <p>
+ * - 상영 등록/취소가 커밋되면 Redis 버전 카운터(theater-timeline:version:{theaterId}:{date})를 올리고,
+ *   조회 시 버전이 바뀐 경우에만 DB 에서 다시 적재한다.
+ * - 레플리카에서 적재된 경우 커밋 직후 변경이 빠질 수 있어 적재 후 1분이 지나면 다시 적재한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TheaterTimelineIndex {
+
+    private static final String VERSION_KEY_PREFIX = "theater-timeline:version:";
+
+    // 영업일 시작 (이전 시작은 전날 영업일의 심야 상영)
+    private static final LocalTime OPERATING_DAY_START = LocalTime.of(5, 0);
+
+    private final ScreeningQueryRepository screeningQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<String, TimelineSnapshot> timelines = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public TheaterTimeline get(Long theaterId, LocalDate date) {
+        String key = key(theaterId, date);
+
+        return resolve(theaterId, date, key, parseVersion(redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + key)));
+    }
+
+    // 여러 상영관 조회 (버전은 한 번에 조회)
+    public Map<Long, TheaterTimeline> getAll(List<Long> theaterIds, LocalDate date) {
+        List<String> keys = theaterIds.stream()
+                .map(theaterId -> key(theaterId, date))
+                .toList();
+
+        List<String> versions = redisTemplate.opsForValue().multiGet(
+                keys.stream().map(key -> VERSION_KEY_PREFIX + key).toList());
+
+        Map<Long, TheaterTimeline> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < theaterIds.size(); i++) {
+            long version = parseVersion(versions == null ? null : versions.get(i));
+
+            result.put(theaterIds.get(i), resolve(theaterIds.get(i), date, keys.get(i), version));
+        }
+
+        return result;
+    }
+
+    // 상영 등록/취소 커밋 후 모든 노드의 시간표 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void theaterTimelineChangedEventHandler(TheaterTimelineChangedEvent event) {
+        bumpVersion(event.theaterId(), operatingDate(event.startTime()));
+    }
+
+    public void bumpVersion(Long theaterId, LocalDate date) {
+        String key = key(theaterId, date);
+
+        redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + key);
+        timelines.invalidate(key);
+    }
+
+    // 상영 시작 시간이 속한 영업일
+    public static LocalDate operatingDate(LocalDateTime startTime) {
+        return startTime.toLocalTime().isBefore(OPERATING_DAY_START)
+                ? startTime.toLocalDate().minusDays(1)
+                : startTime.toLocalDate();
+    }
+
+    private TheaterTimeline resolve(Long theaterId, LocalDate date, String key, long version) {
+        TimelineSnapshot cached = timelines.getIfPresent(key);
+
+        if (cached != null && cached.version() == version) {
+            return cached.timeline();
+        }
+
+        TimelineSnapshot snapshot = new TimelineSnapshot(
+                version, TheaterTimeline.of(screeningQueryRepository.getReservedScreening(theaterId, date)));
+
+        // 동시에 적재된 경우 더 높은 버전 유지
+        timelines.asMap().merge(key, snapshot,
+                (old, fresh) -> fresh.version() >= old.version() ? fresh : old);
+
+        return snapshot.timeline();
+    }
+
+    private long parseVersion(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private String key(Long theaterId, LocalDate date) {
+        return theaterId + ":" + date;
+    }
+
+    private record TimelineSnapshot(long version, TheaterTimeline timeline) {
+    }
+}
@@ -21,7 +21,7 @@ public class TheaterService {
     private final TheaterRepository theaterRepository;
     private final SeatQueryRepository seatQueryRepository;
 
-    @Cacheable(cacheNames = "theaters", cacheManager = "caffeineCacheManager")
+    @Cacheable(cacheNames = "theaters", key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public TheaterListResponse getAllTheaterInfo() {
         List<Theater> theaters = theaterRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
@@ -2,6 +2,10 @@ package com.cgv.mega.user.repository;
 
 import com.cgv.mega.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +14,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByPhoneNumber(String phoneNumber);
 
     Optional<User> findByEmail(String email);
+
+    // 비밀번호 해시 갱신 (그 사이 비밀번호가 바뀌었으면 반영하지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+                update User u
+                   set u.password = :newPassword
+                 where u.id = :userId
+                   and u.password = :currentPassword
+            """)
+    int updatePasswordIfUnchanged(
+            @Param("userId") Long userId,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword
+    );
 }
@@ -2,6 +2,7 @@ package com.cgv.mega.user.service;
 
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.common.security.PasswordHasher;
 import com.cgv.mega.user.dto.ChangePasswordRequest;
 import com.cgv.mega.user.dto.ChangePhoneNumberRequest;
 import com.cgv.mega.user.dto.RegisterUserRequest;
@@ -9,7 +10,6 @@ import com.cgv.mega.user.dto.UserInfoResponse;
 import com.cgv.mega.user.entity.User;
 import com.cgv.mega.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     // 회원가입
-    @Transactional
+    // 해시는 트랜잭션(DB 커넥션) 없이 기다리고, 저장만 짧은 트랜잭션으로 (중복은 unique 제약이 최종 보장)
     public void registerUser(RegisterUserRequest request) {
         // 사용자 이메일 중복 체크
         if (userRepository.existsByEmail(request.email())) {
@@ -36,7 +36,7 @@ public class UserService {
         User user = User.createUser(
                 request.name(),
                 request.email(),
-                passwordEncoder.encode(request.password()),
+                passwordHasher.encode(request.password()),
                 request.phoneNumber()
         );
 
@@ -51,16 +51,23 @@ public class UserService {
     }
 
     // 비밀번호 변경
-    @Transactional
+    // 검증/해시는 트랜잭션(DB 커넥션) 없이 기다리고, 변경은 조건부 update 한 번으로
     public void changePassword(Long userId, ChangePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.currentPassword(), user.getPassword())) {
+        String currentPassword = user.getPassword();
+
+        if (!passwordHasher.matches(request.currentPassword(), currentPassword)) {
             throw new CustomException(ErrorCode.INCORRECT_PASSWORD);
         }
 
-        user.changePassword(passwordEncoder.encode(request.newPassword()));
+        String newPassword = passwordHasher.encode(request.newPassword());
+
+        // 검증한 비밀번호가 그 사이 바뀌었으면 (다른 요청이 먼저 변경) 덮어쓰지 않음
+        if (userRepository.updatePasswordIfUnchanged(userId, currentPassword, newPassword) == 0) {
+            throw new CustomException(ErrorCode.INCORRECT_PASSWORD);
+        }
     }
 
     // 휴대폰 번호 변경
@@ -0,0 +1,17 @@
+-- 아웃박스 이벤트 테이블 (Redis / Elasticsearch 후처리)
+CREATE TABLE outbox_events
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,                              -- 식별자 ID
+    event_type      VARCHAR(50) NOT NULL,                                           -- 이벤트 타입
+    payload         TEXT        NOT NULL,                                           -- 이벤트 내용 (JSON)
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',                         -- 처리 상태
+    retry_count     INT         NOT NULL DEFAULT 0,                                 -- 재시도 횟수
+    last_error      TEXT,                                                           -- 마지막 실패 사유
+    next_attempt_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,                 -- 다음 처리 시각
+    created_at      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,                 -- 생성 시각
+    updated_at      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 수정 시각
+
+    CONSTRAINT chk_outbox_events_status CHECK (status IN ('PENDING', 'FAILED')),
+
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
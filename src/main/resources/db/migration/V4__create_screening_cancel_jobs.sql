@@ -0,0 +1,24 @@
+-- 상영 취소 작업 테이블 (예약 묶음별 환불을 백그라운드에서 처리)
+CREATE TABLE screening_cancel_jobs
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,                              -- 식별자 ID
+    screening_id    BIGINT      NOT NULL,                                           -- 상영 식별자 ID
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',                         -- 작업 상태
+    total_count     INT         NOT NULL DEFAULT 0,                                 -- 취소 대상 예약 묶음 수
+    processed_count INT         NOT NULL DEFAULT 0,                                 -- 취소 완료된 예약 묶음 수
+    failed_count    INT         NOT NULL DEFAULT 0,                                 -- 마지막 시도에서 실패한 예약 묶음 수
+    attempt_count   INT         NOT NULL DEFAULT 0,                                 -- 시도 횟수
+    last_error      TEXT,                                                           -- 마지막 실패 사유
+    next_attempt_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,                 -- 다음 실행 시각
+    lease_until     DATETIME,                                                       -- 실행 중인 노드의 점유 만료 시각
+    created_at      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,                 -- 생성 시각
+    updated_at      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 수정 시각
+
+    CONSTRAINT fk_screening_cancel_jobs_screening FOREIGN KEY (screening_id) REFERENCES screenings(id),
+
+    CONSTRAINT uq_screening_cancel_jobs_screening UNIQUE (screening_id),
+
+    CONSTRAINT chk_screening_cancel_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+
+    INDEX idx_screening_cancel_jobs_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,3 @@
+-- 상영 취소 작업 점유 토큰 (점유를 잃은 노드의 진행/완료 기록을 막음)
+ALTER TABLE screening_cancel_jobs
+    ADD COLUMN lease_token VARCHAR(36) AFTER lease_until; -- 실행 중인 노드의 점유 토큰
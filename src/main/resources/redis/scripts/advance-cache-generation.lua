@@ -0,0 +1,12 @@
+-- 캐시 키 세대 올리기 (변경/삭제 전에 호출, 이전 세대로 시작한 조회 결과는 저장/사용하지 않음)
+-- KEYS[1] : cache-generation:{cacheName}        (캐시 전체 삭제 세대)
+-- KEYS[2] : cache-generation:{cacheName}:{key}  (키 세대)
+-- ARGV[1] : 키 세대 TTL (ms)
+-- return  : '{캐시 전체 세대}:{키 세대}'
+
+local keyGeneration = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+
+local cacheGeneration = redis.call('GET', KEYS[1]) or '0'
+
+return cacheGeneration .. ':' .. keyGeneration
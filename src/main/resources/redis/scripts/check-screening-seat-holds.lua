@@ -0,0 +1,22 @@
+-- 요청 좌석이 모두 해당 사용자의 유효한 홀드인지 확인
+-- KEYS[1]   : seat-hold:{screeningId}:owners
+-- KEYS[2]   : seat-hold:{screeningId}:expiry
+-- ARGV[1]   : 사용자 ID
+-- ARGV[2]   : 현재 시각 (ms)
+-- ARGV[3..] : screeningSeatId
+-- return    : 1 모두 본인 홀드, 0 그 외
+
+local now = tonumber(ARGV[2])
+
+for i = 3, #ARGV do
+    if redis.call('HGET', KEYS[1], ARGV[i]) ~= ARGV[1] then
+        return 0
+    end
+
+    local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[i])
+    if not expireAt or tonumber(expireAt) <= now then
+        return 0
+    end
+end
+
+return 1
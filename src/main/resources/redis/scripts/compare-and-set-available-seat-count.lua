@@ -0,0 +1,22 @@
+-- 잔여 좌석 카운터를 DB 값으로 기록 (DB 조회 후 증감이 없었을 때만)
+-- KEYS[1] : available-seat:{screeningId}
+-- KEYS[2] : available-seat:{screeningId}:version
+-- ARGV[1] : DB 에서 센 잔여 좌석 수
+-- ARGV[2] : DB 조회 전에 읽은 버전 (없었으면 빈 문자열)
+-- ARGV[3] : 유지 시간 (ms)
+-- ARGV[4] : 1 = 키가 없을 때만 (조회 시 채움), 0 = 덮어씀 (보정)
+-- return  : 1 기록, 0 그 사이 증감이 있었거나 (버전 변경) 이미 채워져 있음
+
+local version = redis.call('GET', KEYS[2]) or ''
+
+if version ~= ARGV[2] then
+    return 0
+end
+
+if ARGV[4] == '1' and redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+
+return 1
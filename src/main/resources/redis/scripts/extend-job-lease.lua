@@ -0,0 +1,11 @@
+-- 작업 점유 연장 (본인이 잡은 점유만 연장)
+-- KEYS[1] : job-lease:{name}
+-- ARGV[1] : 점유 토큰
+-- ARGV[2] : 연장할 점유 시간 (ms)
+-- return  : 1 연장, 0 이미 만료되었거나 다른 노드의 점유
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+return 0
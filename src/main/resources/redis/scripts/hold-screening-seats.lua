@@ -0,0 +1,38 @@
+-- 좌석 일괄 홀드 (all-or-nothing)
+-- KEYS[1]   : seat-hold:{screeningId}:owners (hash, screeningSeatId -> userId)
+-- KEYS[2]   : seat-hold:{screeningId}:expiry (zset, screeningSeatId / score = 만료 시각 ms)
+-- ARGV[1]   : 홀드 요청 사용자 ID
+-- ARGV[2]   : 현재 시각 (ms)
+-- ARGV[3]   : 홀드 TTL (ms)
+-- ARGV[4..] : screeningSeatId
+-- return    : 1 성공, 0 다른 사용자가 홀드한 좌석 존재
+-- 만료된 홀드는 여기서 지우지 않음 (만료 이벤트 발행을 위해 sweeper가 정리)
+
+local now = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+
+local function isLive(seat)
+    local expireAt = redis.call('ZSCORE', KEYS[2], seat)
+    return expireAt and tonumber(expireAt) > now
+end
+
+for i = 4, #ARGV do
+    local owner = redis.call('HGET', KEYS[1], ARGV[i])
+    if owner and owner ~= ARGV[1] and isLive(ARGV[i]) then
+        return 0
+    end
+end
+
+for i = 4, #ARGV do
+    -- 이미 본인이 홀드한 좌석은 기존 만료 시각 유지
+    if not (redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[1] and isLive(ARGV[i])) then
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[1])
+        redis.call('ZADD', KEYS[2], now + ttl, ARGV[i])
+    end
+end
+
+-- 만료 후 sweeper가 정리할 수 있도록 TTL 두 배로 키 유지
+redis.call('PEXPIRE', KEYS[1], ttl * 2)
+redis.call('PEXPIRE', KEYS[2], ttl * 2)
+
+return 1
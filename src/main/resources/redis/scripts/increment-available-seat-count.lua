@@ -0,0 +1,16 @@
+-- 잔여 좌석 카운터 증감 (키가 있을 때만, 버전은 항상 올림)
+-- KEYS[1] : available-seat:{screeningId}
+-- KEYS[2] : available-seat:{screeningId}:version
+-- ARGV[1] : 증감 값
+-- ARGV[2] : 버전 유지 시간 (ms)
+-- return  : 증감 후 값, 키가 없으면 nil (조회 시 DB 값으로 채움)
+
+-- DB 값을 읽는 중인 채우기/보정이 이 증감을 덮어쓰지 않도록 버전을 바꿈
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[2])
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('INCRBY', KEYS[1], ARGV[1])
+end
+
+return nil
@@ -0,0 +1,10 @@
+-- 캐시 원본 조회 락 해제 (본인이 잡은 락만 삭제)
+-- KEYS[1] : cache-load-lock:{cacheName}:{key}
+-- ARGV[1] : 락 토큰
+-- return  : 1 해제, 0 이미 만료되었거나 다른 노드의 락
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,10 @@
+-- 작업 점유 해제 (본인이 잡은 점유만 삭제)
+-- KEYS[1] : job-lease:{name}
+-- ARGV[1] : 점유 토큰
+-- return  : 1 해제, 0 이미 만료되었거나 다른 노드의 점유
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,31 @@
+-- 사용자 좌석 홀드 해제
+-- KEYS[1]   : seat-hold:{screeningId}:owners
+-- KEYS[2]   : seat-hold:{screeningId}:expiry
+-- ARGV[1]   : 사용자 ID
+-- ARGV[2..] : 해제할 screeningSeatId (없으면 해당 사용자의 홀드 전체 해제)
+-- return    : 해제된 screeningSeatId 목록
+
+local seats = {}
+
+if #ARGV > 1 then
+    for i = 2, #ARGV do
+        seats[#seats + 1] = ARGV[i]
+    end
+else
+    local entries = redis.call('HGETALL', KEYS[1])
+    for i = 1, #entries, 2 do
+        seats[#seats + 1] = entries[i]
+    end
+end
+
+local released = {}
+
+for _, seat in ipairs(seats) do
+    if redis.call('HGET', KEYS[1], seat) == ARGV[1] then
+        redis.call('HDEL', KEYS[1], seat)
+        redis.call('ZREM', KEYS[2], seat)
+        released[#released + 1] = seat
+    end
+end
+
+return released
@@ -0,0 +1,14 @@
+-- 만료된 좌석 홀드 정리
+-- KEYS[1] : seat-hold:{screeningId}:owners
+-- KEYS[2] : seat-hold:{screeningId}:expiry
+-- ARGV[1] : 현재 시각 (ms)
+-- return  : 정리된 screeningSeatId 목록 (여러 노드가 동시에 실행해도 한 노드만 받음)
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+
+if #expired > 0 then
+    redis.call('HDEL', KEYS[1], unpack(expired))
+    redis.call('ZREM', KEYS[2], unpack(expired))
+end
+
+return expired
@@ -0,0 +1,33 @@
+-- 토큰 버킷 (모든 버킷에 토큰이 남아 있을 때만 각 버킷에서 1개씩 차감)
+-- KEYS[i]      : 버킷 (hash, tokens / updated_at)
+-- ARGV[1]      : 현재 시각 (ms)
+-- ARGV[2i]     : KEYS[i] 버킷 용량
+-- ARGV[2i + 1] : KEYS[i] 초당 충전량
+-- return       : 0 허용, i 토큰이 없는 버킷 (KEYS 순번)
+
+local now = tonumber(ARGV[1])
+local buckets = {}
+
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[2 * i])
+    local rate = tonumber(ARGV[2 * i + 1])
+    local state = redis.call('HMGET', KEYS[i], 'tokens', 'updated_at')
+
+    local tokens = tonumber(state[1]) or capacity
+    local updatedAt = tonumber(state[2]) or now
+    tokens = math.min(capacity, tokens + math.max(0, now - updatedAt) * rate / 1000)
+
+    if tokens < 1 then
+        return i
+    end
+
+    -- 가득 찰 때까지 걸리는 시간이 지나면 새 버킷과 같으므로 삭제
+    buckets[i] = { tokens = tokens - 1, ttl = math.ceil(capacity / rate * 1000) }
+end
+
+for i = 1, #KEYS do
+    redis.call('HSET', KEYS[i], 'tokens', tostring(buckets[i].tokens), 'updated_at', ARGV[1])
+    redis.call('PEXPIRE', KEYS[i], buckets[i].ttl)
+end
+
+return 0
@@ -42,7 +42,7 @@ public class AuthControllerTest {
             LoginRequest request = new LoginRequest("a@b.com", "rawPassword");
             TokenResponse tokenResponse = new TokenResponse("access-token", "refresh-token");
 
-            given(authService.login(any(LoginRequest.class))).willReturn(tokenResponse);
+            given(authService.login(any(LoginRequest.class), any())).willReturn(tokenResponse);
 
             mockMvc.perform(post("/api/auth/login")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -66,7 +66,7 @@ public class AuthControllerTest {
         @Test
         void 서비스에서_401예외_던질_경우_실패() throws Exception {
             LoginRequest request = new LoginRequest("a@b.com", "rawPassword");
-            given(authService.login(any(LoginRequest.class))).willThrow(new CustomException(ErrorCode.LOGIN_FAIL));
+            given(authService.login(any(LoginRequest.class), any())).willThrow(new CustomException(ErrorCode.LOGIN_FAIL));
 
             mockMvc.perform(post("/api/auth/login")
                             .contentType(MediaType.APPLICATION_JSON)
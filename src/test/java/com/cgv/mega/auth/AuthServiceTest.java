@@ -7,6 +7,8 @@ import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.auth.enums.TokenStatus;
 import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.common.security.JwtTokenProvider;
+import com.cgv.mega.common.security.LogoutTokenRegistry;
+import com.cgv.mega.common.security.PasswordHasher;
 import com.cgv.mega.user.entity.User;
 import com.cgv.mega.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,28 +21,35 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "127.0.0.1";
+
     @Mock private UserRepository userRepository;
     @Mock private JwtTokenProvider jwtTokenProvider;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private PasswordHasher passwordHasher;
+    @Mock private LoginRateLimiter loginRateLimiter;
     @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private LogoutTokenRegistry logoutTokenRegistry;
 
     @InjectMocks private AuthService authService;
 
@@ -60,7 +69,7 @@ class AuthServiceTest {
             LoginRequest request = new LoginRequest("a@b.com", "rawPassword");
 
             given(userRepository.findByEmail(request.email())).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(request.password(), user.getPassword())).willReturn(true);
+            given(passwordHasher.matches(request.password(), user.getPassword())).willReturn(true);
             given(jwtTokenProvider.generateAccessToken(any(JwtPayloadDto.class))).willReturn("access-token");
             given(jwtTokenProvider.generateRefreshToken(any(JwtPayloadDto.class))).willReturn("refresh-token");
             given(jwtTokenProvider.getRefreshTokenExpiration()).willReturn(600000L);
@@ -68,7 +77,7 @@ class AuthServiceTest {
             ValueOperations<String, String> ops = mock(ValueOperations.class);
             given(redisTemplate.opsForValue()).willReturn(ops);
 
-            TokenResponse response = authService.login(request);
+            TokenResponse response = authService.login(request, CLIENT_IP);
 
             assertThat(response.accessToken()).isEqualTo("access-token");
             assertThat(response.refreshToken()).isEqualTo("refresh-token");
@@ -81,7 +90,7 @@ class AuthServiceTest {
 
             given(userRepository.findByEmail(request.email())).willReturn(Optional.empty());
 
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                     .isInstanceOf(CustomException.class)
                     .satisfies(exception -> {
                         CustomException ex = (CustomException) exception;
@@ -95,9 +104,9 @@ class AuthServiceTest {
         void 비밀번호_오류_실패_401반환() {
             LoginRequest request = new LoginRequest("a@b.com", "wrongPassword");
             given(userRepository.findByEmail(request.email())).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(request.password(), user.getPassword())).willReturn(false);
+            given(passwordHasher.matches(request.password(), user.getPassword())).willReturn(false);
 
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                     .isInstanceOf(CustomException.class)
                     .satisfies(exception -> {
                         CustomException ex = (CustomException) exception;
@@ -106,6 +115,45 @@ class AuthServiceTest {
                         assertThat(ex.getErrorCode().getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED);
                     });
         }
+
+        @Test
+        void 시도_제한_초과시_429반환() {
+            LoginRequest request = new LoginRequest("a@b.com", "rawPassword");
+            willThrow(new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS))
+                    .given(loginRateLimiter).acquire(CLIENT_IP, request.email());
+
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(exception -> {
+                        CustomException ex = (CustomException) exception;
+
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+                        assertThat(ex.getErrorCode().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    });
+
+            then(userRepository).shouldHaveNoInteractions();
+            then(passwordHasher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 이전_cost_해시는_로그인_후_재해시() {
+            LoginRequest request = new LoginRequest("a@b.com", "rawPassword");
+
+            given(userRepository.findByEmail(request.email())).willReturn(Optional.of(user));
+            given(passwordHasher.matches(request.password(), user.getPassword())).willReturn(true);
+            given(passwordHasher.needsUpgrade(user.getPassword())).willReturn(true);
+            given(redisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+
+            // 재해시 결과를 바로 저장하도록
+            willAnswer(invocation -> {
+                invocation.<Consumer<String>>getArgument(1).accept("upgradedPassword");
+                return null;
+            }).given(passwordHasher).upgrade(eq(request.password()), any());
+
+            authService.login(request, CLIENT_IP);
+
+            verify(userRepository).updatePasswordIfUnchanged(user.getId(), "encodedPassword", "upgradedPassword");
+        }
     }
 
     @Nested
@@ -119,12 +167,9 @@ class AuthServiceTest {
             given(jwtTokenProvider.getTokenExpiration(accessToken)).willReturn(future);
             given(jwtTokenProvider.tokenToHash(accessToken)).willReturn(Optional.of("hashed-token"));
 
-            ValueOperations<String, String> ops = mock(ValueOperations.class);
-            given(redisTemplate.opsForValue()).willReturn(ops);
-
             authService.logout(accessToken);
 
-            verify(ops).set(eq("hashed-token"), eq("logout"), anyLong(), eq(TimeUnit.MILLISECONDS));
+            verify(logoutTokenRegistry).revoke("hashed-token", future.getTime());
         }
     }
 
@@ -0,0 +1,64 @@
+package com.cgv.mega.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class CacheLoadCoordinatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ThreadPoolTaskExecutor cacheRefreshExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheLoadCoordinator = new CacheLoadCoordinator(redisTemplate, cacheRefreshExecutor, meterRegistry);
+    }
+
+    @Nested
+    class 다른_노드_조회_대기 {
+        @Test
+        void 채워지면_바로_반환() {
+            AtomicInteger lookups = new AtomicInteger();
+
+            String value = cacheLoadCoordinator.await("theaters",
+                    () -> lookups.incrementAndGet() < 2 ? null : "loaded-by-other");
+
+            assertThat(value).isEqualTo("loaded-by-other");
+            assertThat(meterRegistry.get("cache.load.await").tags("cache", "theaters", "outcome", "hit")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void 최대_300ms_후_포기() {
+            long start = System.nanoTime();
+
+            String value = cacheLoadCoordinator.await("theaters", () -> null);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(value).isNull();
+            assertThat(elapsedMillis).isBetween(250L, 1_000L);
+            assertThat(meterRegistry.get("cache.load.await").tags("cache", "theaters", "outcome", "timeout")
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+}
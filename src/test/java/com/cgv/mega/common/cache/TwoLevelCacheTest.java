@@ -0,0 +1,237 @@
+package com.cgv.mega.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private CacheLoadCoordinator cacheLoadCoordinator;
+
+    private final CacheSpec spec = new CacheSpec(
+            Duration.ofMinutes(1), 100, Duration.ofMinutes(10), Duration.ofMinutes(2));
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private Cache remoteCache;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        localCache = Caffeine.newBuilder().maximumSize(100).build();
+        remoteCache = spy(new ConcurrentMapCache("theaters", false));
+        twoLevelCache = new TwoLevelCache(
+                "theaters", spec, localCache, remoteCache, cacheInvalidationPublisher, cacheLoadCoordinator);
+    }
+
+    @Nested
+    class 조회 {
+        @Test
+        void L1_적중시_L2_조회하지_않음() {
+            localCache.put("all", "local");
+
+            assertThat(twoLevelCache.get("all").get()).isEqualTo("local");
+            verify(remoteCache, never()).get(any());
+        }
+
+        @Test
+        void L2_적중시_L1_채움() {
+            remoteCache.put("all", new CacheEnvelope("remote", System.currentTimeMillis() + 60_000, 0, null));
+
+            assertThat(twoLevelCache.get("all").get()).isEqualTo("remote");
+            assertThat(localCache.getIfPresent("all")).isEqualTo("remote");
+        }
+
+        @Test
+        void 갱신_시각이_지난_값은_그대로_반환하고_백그라운드_갱신() {
+            remoteCache.put("all", new CacheEnvelope("stale", System.currentTimeMillis() - 1, 0, null));
+
+            String value = twoLevelCache.get("all", () -> "fresh");
+
+            assertThat(value).isEqualTo("stale");
+            verify(cacheLoadCoordinator).refreshAsync(eq("theaters"), eq("all"), eq("stale"), any());
+        }
+
+        @Test
+        void 다른_노드가_조회중이면_결과를_기다려_사용() {
+            AtomicInteger loadCount = new AtomicInteger();
+
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn(null);
+            given(cacheLoadCoordinator.await(eq("theaters"), any())).willReturn(
+                    new CacheEnvelope("loaded-by-other", System.currentTimeMillis() + 60_000, 0, null));
+
+            String value = twoLevelCache.get("all", () -> {
+                loadCount.incrementAndGet();
+                return "loaded";
+            });
+
+            assertThat(value).isEqualTo("loaded-by-other");
+            assertThat(loadCount.get()).isZero();
+            verify(cacheLoadCoordinator).recordCoalesced("theaters", "remote");
+        }
+
+        @Test
+        void 다른_노드_결과를_기다리는_동안_L1_무효화를_막지_않음() {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn(null);
+            given(cacheLoadCoordinator.await(eq("theaters"), any())).willAnswer(invocation -> {
+                // 대기 중 같은 키 무효화가 바로 끝나야 함 (Caffeine compute 밖에서 대기)
+                executor.submit(() -> twoLevelCache.evictLocal("all")).get(1, TimeUnit.SECONDS);
+                return new CacheEnvelope("loaded-by-other", System.currentTimeMillis() + 60_000, 0, null);
+            });
+
+            String value = twoLevelCache.get("all", () -> "loaded");
+
+            executor.shutdown();
+
+            // 조회 중 무효화가 있었으므로 L1 에 채우지 않음
+            assertThat(value).isEqualTo("loaded-by-other");
+            assertThat(localCache.getIfPresent("all")).isNull();
+        }
+
+        @Test
+        void 원본_조회_실패는_기다리던_스레드에도_전달() throws Exception {
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn("token");
+
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            Future<String> first = executor.submit(() -> twoLevelCache.get("all", () -> {
+                loading.countDown();
+                release.await();
+                throw new IllegalStateException("db down");
+            }));
+            loading.await();
+
+            Future<String> second = executor.submit(() -> twoLevelCache.get("all", () -> "loaded"));
+            verify(cacheLoadCoordinator, timeout(1_000)).recordCoalesced("theaters", "local");
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+
+            executor.shutdown();
+
+            assertThat(localCache.getIfPresent("all")).isNull();
+        }
+
+        @Test
+        void 세대가_바뀐_L2_값은_miss로_처리() {
+            remoteCache.put("all", new CacheEnvelope("old", System.currentTimeMillis() + 60_000, 0, "0:1"));
+
+            given(cacheLoadCoordinator.generation("theaters", "all")).willReturn("0:2");
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn("token");
+
+            String value = twoLevelCache.get("all", () -> "fresh");
+
+            assertThat(value).isEqualTo("fresh");
+            assertThat(((CacheEnvelope) remoteCache.get("all").get()).generation()).isEqualTo("0:2");
+        }
+
+        @Test
+        void 조회_중_삭제되면_L2에_저장하지_않음() {
+            // 조회 시작 시 세대 1, 조회 중 삭제로 세대 2
+            given(cacheLoadCoordinator.generation("theaters", "all")).willReturn("0:1", "0:2");
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn("token");
+
+            String value = twoLevelCache.get("all", () -> "loaded");
+
+            assertThat(value).isEqualTo("loaded");
+            assertThat(remoteCache.get("all")).isNull();
+        }
+
+        @Test
+        void 동시_miss는_원본_한번만_호출() throws Exception {
+            given(cacheLoadCoordinator.tryLock("theaters", "all")).willReturn("token");
+
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return twoLevelCache.get("all", () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(100);
+                        return "loaded";
+                    });
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+
+            executor.shutdown();
+
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(((CacheEnvelope) remoteCache.get("all").get()).value()).isEqualTo("loaded");
+            verify(cacheLoadCoordinator).recordLoad("theaters");
+            verify(cacheLoadCoordinator).unlock("theaters", "all", "token");
+        }
+    }
+
+    @Nested
+    class 변경 {
+        @Test
+        void 삭제시_양쪽_삭제_후_무효화_발행() {
+            twoLevelCache.put("all", "value");
+
+            twoLevelCache.evict("all");
+
+            assertThat(localCache.getIfPresent("all")).isNull();
+            assertThat(remoteCache.get("all")).isNull();
+            verify(cacheLoadCoordinator, times(2)).advanceGeneration(eq("theaters"), eq("all"), any());
+            verify(cacheInvalidationPublisher, times(2)).publish("theaters", "all");
+        }
+
+        @Test
+        void 다른_노드_무효화는_L1만_삭제() {
+            twoLevelCache.put("all", "value");
+
+            twoLevelCache.evictLocal("all");
+
+            assertThat(localCache.getIfPresent("all")).isNull();
+            assertThat(((CacheEnvelope) remoteCache.get("all").get()).value()).isEqualTo("value");
+        }
+
+        @Test
+        void 전체_삭제시_키_없이_발행() {
+            twoLevelCache.clear();
+
+            verify(cacheLoadCoordinator).advanceCacheGeneration("theaters");
+            verify(cacheInvalidationPublisher).publish("theaters", null);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.cgv.mega.common.datasource;
+
+import com.cgv.mega.common.dto.UserDataChangedEvent;
+import com.cgv.mega.common.enums.Role;
+import com.cgv.mega.common.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesTrackerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(redisTemplate, Duration.ofSeconds(5));
+
+        CustomUserDetails user = new CustomUserDetails(1L, "user@test.com", "user", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @Nested
+    class primary_고정_여부 {
+        @Test
+        void 같은_요청에서는_Redis_한번만_조회() {
+            startRequest();
+            given(redisTemplate.hasKey("primary-sticky:1")).willReturn(false);
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+
+            then(redisTemplate).should(times(1)).hasKey("primary-sticky:1");
+        }
+
+        @Test
+        void 요청이_바뀌면_다시_조회() {
+            given(redisTemplate.hasKey("primary-sticky:1")).willReturn(false, true);
+
+            startRequest();
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+
+            startRequest();
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isTrue();
+
+            then(redisTemplate).should(times(2)).hasKey("primary-sticky:1");
+        }
+
+        @Test
+        void 이_노드에서_변경한_사용자는_Redis_조회_없이_primary() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            readYourWritesTracker.userDataChangedEventHandler(new UserDataChangedEvent(1L));
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isTrue();
+            then(redisTemplate).should(never()).hasKey(anyString());
+            then(valueOperations).should().set("primary-sticky:1", "1", Duration.ofSeconds(5));
+        }
+
+        @Test
+        void 요청_중_변경이_커밋되면_이후_읽기는_primary() {
+            startRequest();
+            given(redisTemplate.hasKey("primary-sticky:1")).willReturn(false);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+
+            readYourWritesTracker.userDataChangedEventHandler(new UserDataChangedEvent(1L));
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isTrue();
+        }
+
+        @Test
+        void Redis_장애시_primary() {
+            given(redisTemplate.hasKey(any())).willThrow(new IllegalStateException("redis down"));
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isTrue();
+        }
+
+        @Test
+        void 비로그인_요청은_replica() {
+            SecurityContextHolder.clearContext();
+
+            assertThat(readYourWritesTracker.isStickyToPrimary()).isFalse();
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.cgv.mega.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        verify(replicaLagMonitor, never()).isReplicaAvailable();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaAvailable()).willReturn(true);
+        given(readYourWritesTracker.isStickyToPrimary()).willReturn(false);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.REPLICA);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read-only").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void replica_지연시_primary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaAvailable()).willReturn(false);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+    }
+
+    @Test
+    void 최근_변경한_사용자는_primary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isReplicaAvailable()).willReturn(true);
+        given(readYourWritesTracker.isStickyToPrimary()).willReturn(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.PRIMARY);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "primary", "reason", "read-your-writes").count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cgv.mega.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalJobLeaseTest {
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private LocalJobLease localJobLease;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+
+        localJobLease = new LocalJobLease(clock);
+    }
+
+    @Test
+    void 점유중이면_다른_점유_실패() {
+        String token = localJobLease.tryAcquire("job", Duration.ofMinutes(1));
+
+        assertThat(token).isNotNull();
+        assertThat(localJobLease.tryAcquire("job", Duration.ofMinutes(1))).isNull();
+    }
+
+    @Test
+    void 점유_만료시_다른_노드가_점유() {
+        String token = localJobLease.tryAcquire("job", Duration.ofMinutes(1));
+
+        millis.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        String other = localJobLease.tryAcquire("job", Duration.ofMinutes(1));
+
+        assertThat(other).isNotNull().isNotEqualTo(token);
+        assertThat(localJobLease.extend("job", token, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    void 본인_점유만_연장_및_해제() {
+        String token = localJobLease.tryAcquire("job", Duration.ofMinutes(1));
+
+        assertThat(localJobLease.extend("job", "other", Duration.ofMinutes(1))).isFalse();
+        assertThat(localJobLease.extend("job", token, Duration.ofMinutes(1))).isTrue();
+
+        localJobLease.release("job", "other");
+        assertThat(localJobLease.tryAcquire("job", Duration.ofMinutes(1))).isNull();
+
+        localJobLease.release("job", token);
+        assertThat(localJobLease.tryAcquire("job", Duration.ofMinutes(1))).isNotNull();
+    }
+}
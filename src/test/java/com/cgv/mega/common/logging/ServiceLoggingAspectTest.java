@@ -0,0 +1,111 @@
+package com.cgv.mega.common.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceLoggingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceLoggingAspect serviceLoggingAspect;
+
+    record SeatMap(Long screeningId, List<Integer> seats) {
+    }
+
+    record Login(String email, String password) {
+    }
+
+    static class SampleService {
+        public SeatMap getSeatMap(Long screeningId) {
+            return null;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        // getSeatMap 은 호출 로그 제외 (실행 시간만 기록)
+        serviceLoggingAspect = new ServiceLoggingAspect(meterRegistry,
+                new ServiceLoggingProperties(1.0, 100, Map.of("SampleService.getSeatMap", 0.0)));
+    }
+
+    private void givenSignature() throws NoSuchMethodException {
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(SampleService.class.getMethod("getSeatMap", Long.class));
+    }
+
+    @Nested
+    class 실행_시간_기록 {
+        @Test
+        void 성공_호출은_success_타이머에_기록() throws Throwable {
+            givenSignature();
+            SeatMap seatMap = new SeatMap(1L, List.of(1, 2));
+            given(joinPoint.proceed()).willReturn(seatMap);
+
+            Object result = serviceLoggingAspect.logServiceMethods(joinPoint);
+
+            assertThat(result).isSameAs(seatMap);
+            assertThat(meterRegistry.get("service.method")
+                    .tags("class", "SampleService", "method", "getSeatMap", "outcome", "success")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void 예외는_error_타이머에_기록_후_그대로_던짐() throws Throwable {
+            givenSignature();
+            given(joinPoint.getArgs()).willReturn(new Object[]{1L});
+            given(joinPoint.proceed()).willThrow(new IllegalStateException("fail"));
+
+            assertThatThrownBy(() -> serviceLoggingAspect.logServiceMethods(joinPoint))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(meterRegistry.get("service.method")
+                    .tags("class", "SampleService", "method", "getSeatMap", "outcome", "error")
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class 인자_변환 {
+        @Test
+        void 최대_길이에서_자름() {
+            List<Integer> seats = IntStream.range(0, 10_000).boxed().toList();
+
+            String rendered = LogArgumentRenderer.render(new SeatMap(1L, seats), 50);
+
+            assertThat(rendered)
+                    .hasSize(53)
+                    .startsWith("SeatMap[screeningId=1, seats=size=10000[0, 1, ")
+                    .endsWith("...");
+        }
+
+        @Test
+        void 비밀번호_컴포넌트는_가림() {
+            String rendered = LogArgumentRenderer.render(new Object[]{new Login("a@b.com", "rawPassword")}, 100);
+
+            assertThat(rendered).isEqualTo("[Login[email=a@b.com, password=****]]");
+        }
+    }
+}
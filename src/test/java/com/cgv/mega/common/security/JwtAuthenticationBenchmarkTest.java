@@ -0,0 +1,117 @@
+package com.cgv.mega.common.security;
+
+import com.cgv.mega.auth.dto.JwtPayloadDto;
+import com.cgv.mega.auth.dto.VerifiedToken;
+import com.cgv.mega.auth.enums.TokenStatus;
+import com.cgv.mega.common.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import javax.crypto.SecretKey;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtAuthenticationFilter 토큰 인증 단계 벤치마크 (JMH, ./gradlew benchmarkTest)
+ * <p>
+ * - legacyFilterPath : 기존 필터 경로 (getTokenStatus + parseToken 으로 두 번 파싱, 매번 parser 생성, String.format 해시)
+ * - singleParse      : 재사용 parser 로 한 번 파싱
+ * - verifyCacheHit   : 검증 결과 캐시 적중 (해시 + 캐시 조회)
+ * 로그아웃 확인(Redis GET)은 네트워크 왕복이라 측정 대상에서 제외한다.
+ * Gradle 테스트 워커의 클래스패스를 fork 된 JVM 이 물려받지 못하므로 같은 JVM 에서 실행한다. (forks = 0)
+ * </p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmarkTest {
+
+    private static final String SECRET_KEY = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 1000L * 60 * 30, 1000L * 60 * 60);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+        accessToken = jwtTokenProvider.generateAccessToken(new JwtPayloadDto(1L, "a@b.com", "user", Role.USER));
+
+        // 캐시 적중 측정을 위해 미리 검증
+        jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public Object legacyFilterPath() throws Exception {
+        if (legacyParse(accessToken) == null) {
+            return null;
+        }
+
+        Claims claims = legacyParse(accessToken);
+
+        return new Object[]{JwtPayloadDto.fromClaims(claims), legacyHash(accessToken)};
+    }
+
+    @Benchmark
+    public TokenStatus singleParse() {
+        return jwtTokenProvider.getTokenStatus(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCacheHit() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Test
+    void 토큰_인증_벤치마크() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthenticationBenchmarkTest.class.getName() + ".*")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        results.forEach(result -> System.out.printf("%s : %.1f ns/op%n",
+                result.getParams().getBenchmark(), result.getPrimaryResult().getScore()));
+
+        assertThat(results).hasSize(3);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private String legacyHash(String token) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hashBytes = digest.digest(token.getBytes());
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hashBytes) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+}
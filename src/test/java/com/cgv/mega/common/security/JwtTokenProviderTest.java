@@ -1,6 +1,7 @@
 package com.cgv.mega.common.security;
 
 import com.cgv.mega.auth.dto.JwtPayloadDto;
+import com.cgv.mega.auth.dto.VerifiedToken;
 import com.cgv.mega.common.enums.Role;
 import com.cgv.mega.auth.enums.TokenStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,4 +105,39 @@ class JwtTokenProviderTest {
         assertThat(hash).isPresent();
         assertThat(hash.get()).hasSize(64);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 토큰_검증_결과_캐시() {
+        String accessToken = jwtTokenProvider.generateAccessToken(dto);
+
+        VerifiedToken first = jwtTokenProvider.verify(accessToken);
+        VerifiedToken second = jwtTokenProvider.verify(accessToken);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(first.payload()).isEqualTo(dto);
+        assertThat(first.hash()).isEqualTo(jwtTokenProvider.tokenToHash(accessToken).orElseThrow());
+    }
+
+    @Test
+    void 유효하지_않은_토큰_검증_실패() {
+        String accessToken = jwtTokenProvider.generateAccessToken(dto);
+
+        assertThat(jwtTokenProvider.verify(accessToken + "asdfa")).isNull();
+    }
+
+    @Test
+    void 만료된_토큰_검증_실패() throws InterruptedException {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+        JwtTokenProvider shortProvider = new JwtTokenProvider(secretKey, 1000L, 1000L);
+
+        String accessToken = shortProvider.generateAccessToken(dto);
+
+        assertThat(shortProvider.verify(accessToken)).isNotNull();
+
+        // JWT 만료 시각은 초 단위
+        Thread.sleep(2000);
+
+        assertThat(shortProvider.verify(accessToken)).isNull();
+    }
+}
@@ -0,0 +1,159 @@
+package com.cgv.mega.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LogoutTokenRegistryTest {
+
+    private static final String REVOKED = "a".repeat(64);
+    private static final String OTHER = "b".repeat(64);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogoutTokenRegistry logoutTokenRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logoutTokenRegistry = new LogoutTokenRegistry(redisTemplate, meterRegistry, 1000, 0.001);
+    }
+
+    private void givenRebuilt(Set<String> hashes) {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range("logout:tokens", 0, -1)).willReturn(hashes);
+
+        logoutTokenRegistry.rebuild();
+    }
+
+    @Nested
+    class 폐기_여부_조회 {
+        @Test
+        void filter_구성_전에는_Redis_조회() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(OTHER)).willReturn(null);
+
+            assertThat(logoutTokenRegistry.isRevoked(OTHER)).isFalse();
+            then(valueOperations).should().get(OTHER);
+        }
+
+        @Test
+        void filter_에_없으면_Redis_조회_없이_통과() {
+            givenRebuilt(Set.of(REVOKED));
+
+            assertThat(logoutTokenRegistry.isRevoked(OTHER)).isFalse();
+            then(redisTemplate).should(never()).opsForValue();
+
+            assertThat(meterRegistry.counter("auth.logout.filter.lookup", "result", "negative").count()).isEqualTo(1);
+        }
+
+        @Test
+        void filter_에_있으면_Redis_로_확인() {
+            givenRebuilt(Set.of(REVOKED));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(REVOKED)).willReturn("logout");
+
+            assertThat(logoutTokenRegistry.isRevoked(REVOKED)).isTrue();
+            assertThat(meterRegistry.counter("auth.logout.filter.lookup", "result", "revoked").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class 토큰_폐기 {
+        @Test
+        void Redis_기록_후_filter_추가_및_발행() {
+            givenRebuilt(Set.of());
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            long expiresAt = System.currentTimeMillis() + 60_000;
+            logoutTokenRegistry.revoke(REVOKED, expiresAt);
+
+            then(valueOperations).should().set(eq(REVOKED), eq("logout"), anyLong(), eq(TimeUnit.MILLISECONDS));
+            then(zSetOperations).should().add("logout:tokens", REVOKED, expiresAt);
+            then(redisTemplate).should().convertAndSend(LogoutTokenRegistry.CHANNEL, REVOKED);
+
+            given(valueOperations.get(REVOKED)).willReturn("logout");
+            assertThat(logoutTokenRegistry.isRevoked(REVOKED)).isTrue();
+            assertThat(meterRegistry.get("auth.logout.filter.size").gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        void 만료된_토큰은_기록하지_않음() {
+            logoutTokenRegistry.revoke(REVOKED, System.currentTimeMillis() - 1);
+
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    class 재구성 {
+        @Test
+        void 만료된_해시_정리_후_남은_해시로_구성() {
+            givenRebuilt(Set.of(REVOKED));
+
+            then(zSetOperations).should().removeRangeByScore(eq("logout:tokens"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+            assertThat(meterRegistry.get("auth.logout.filter.size").gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        void 실패시_기존_filter_유지() {
+            givenRebuilt(Set.of(REVOKED));
+            given(zSetOperations.range("logout:tokens", 0, -1)).willThrow(new IllegalStateException("redis down"));
+
+            logoutTokenRegistry.rebuild();
+
+            assertThat(logoutTokenRegistry.isRevoked(OTHER)).isFalse();
+            then(redisTemplate).should(never()).opsForValue();
+        }
+    }
+
+    @Test
+    void 오탐률_설정값_이내() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        Random random = new Random(42);
+        byte[] bytes = new byte[32];
+
+        for (int i = 0; i < 10_000; i++) {
+            random.nextBytes(bytes);
+            bloomFilter.put(HexFormat.of().formatHex(bytes));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            random.nextBytes(bytes);
+            if (bloomFilter.mightContain(HexFormat.of().formatHex(bytes))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,98 @@
+package com.cgv.mega.common.security;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private PasswordHasher passwordHasher(int strength) {
+        return new PasswordHasher(new BCryptPasswordEncoder(strength), executor, meterRegistry, Duration.ofSeconds(3));
+    }
+
+    @Test
+    void 전용_풀에서_해시_및_검증() {
+        PasswordHasher passwordHasher = passwordHasher(4);
+
+        String encoded = passwordHasher.encode("rawPassword");
+
+        assertThat(passwordHasher.matches("rawPassword", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrongPassword", encoded)).isFalse();
+        assertThat(meterRegistry.timer("auth.password.hash", "operation", "encode").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("auth.password.hash", "operation", "matches").count()).isEqualTo(2);
+    }
+
+    @Test
+    void 대기열이_가득_차면_429() throws InterruptedException {
+        PasswordHasher passwordHasher = passwordHasher(4);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // 유일한 worker 점유
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        assertThatThrownBy(() -> passwordHasher.encode("rawPassword"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(exception -> assertThat(((CustomException) exception).getErrorCode())
+                        .isEqualTo(ErrorCode.PASSWORD_HASH_BUSY));
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    void 낮은_cost_해시는_새_cost_로_재해시() throws Exception {
+        String legacy = new BCryptPasswordEncoder(4).encode("rawPassword");
+        PasswordHasher passwordHasher = passwordHasher(5);
+        CompletableFuture<String> upgraded = new CompletableFuture<>();
+
+        assertThat(passwordHasher.needsUpgrade(legacy)).isTrue();
+
+        passwordHasher.upgrade("rawPassword", upgraded::complete);
+
+        String encoded = upgraded.get(3, TimeUnit.SECONDS);
+        assertThat(encoded).startsWith("$2a$05$");
+        assertThat(passwordHasher.matches("rawPassword", encoded)).isTrue();
+        assertThat(passwordHasher.needsUpgrade(encoded)).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.cgv.mega.common.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 API 경로 판단 벤치마크 (JMH, ./gradlew benchmarkTest)
+ * <p>
+ * - streamAntPath : 기존 방식 (route 목록 stream + AntPathMatcher)
+ * - compiledTrie  : PublicRouteMatcher (메서드별 세그먼트 트리)
+ * 공개/비공개, 얕은/깊은 경로를 섞은 요청 묶음을 한 번씩 판단한다.
+ * </p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRouteMatcherBenchmarkTest {
+
+    private List<PermitPass> routes;
+    private PublicRouteMatcher publicRouteMatcher;
+    private List<MockHttpServletRequest> requests;
+
+    @Setup
+    public void setUp() {
+        routes = PublicRoutes.ROUTES;
+        publicRouteMatcher = new PublicRouteMatcher(routes);
+        requests = List.of(
+                new MockHttpServletRequest("GET", "/api/screenings/15/seats"),
+                new MockHttpServletRequest("GET", "/api/movies/3"),
+                new MockHttpServletRequest("POST", "/api/reservations"),
+                new MockHttpServletRequest("GET", "/api/users/me"),
+                new MockHttpServletRequest("POST", "/api/auth/login"),
+                new MockHttpServletRequest("GET", "/api/admin/screenings/15/cancel-job")
+        );
+    }
+
+    @Benchmark
+    public void streamAntPath(Blackhole blackhole) {
+        for (MockHttpServletRequest request : requests) {
+            blackhole.consume(routes.stream().anyMatch(route -> route.matches(request)));
+        }
+    }
+
+    @Benchmark
+    public void compiledTrie(Blackhole blackhole) {
+        for (MockHttpServletRequest request : requests) {
+            blackhole.consume(publicRouteMatcher.matches(request));
+        }
+    }
+
+    @Test
+    void 공개_API_경로_판단_벤치마크() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PublicRouteMatcherBenchmarkTest.class.getName() + ".*")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        results.forEach(result -> System.out.printf("%s : %.1f ns/op%n",
+                result.getParams().getBenchmark(), result.getPrimaryResult().getScore()));
+
+        assertThat(results).hasSize(2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cgv.mega.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicRouteMatcherTest {
+
+    private final PublicRouteMatcher publicRouteMatcher = new PublicRouteMatcher(PublicRoutes.ROUTES);
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+
+    @Test
+    void 기존_AntPathMatcher_결과와_동일() {
+        List<String> paths = List.of(
+                "/api/auth/login", "/api/auth/refresh", "/api/auth/logout", "/api/users", "/api/users/me",
+                "/api/movies", "/api/movies/", "/api/movies/1", "/api/movies/1/reviews", "/api/moviesX",
+                "/api/theaters", "/api/theaters/", "/api/theaters/1",
+                "/api/screenings/movies", "/api/screenings/1", "/api/screenings/1/", "/api/screenings/1/seats",
+                "/api/screenings/1/seats/stream", "/api/screenings/1/seats/2", "/api/screenings",
+                "/api//theaters", "/api/admin/screenings", "/actuator/health", "/actuator/health/readiness",
+                "/actuator/metrics", "/actuator/prometheus", "/", ""
+        );
+
+        for (String method : List.of("GET", "POST", "DELETE")) {
+            for (String path : paths) {
+                MockHttpServletRequest request = request(method, path);
+                boolean expected = PublicRoutes.ROUTES.stream().anyMatch(route -> route.matches(request));
+
+                assertThat(publicRouteMatcher.matches(request))
+                        .as("%s %s", method, path)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void 헬스_체크만_공개() {
+        assertThat(publicRouteMatcher.matches(request("GET", "/actuator/health"))).isTrue();
+        assertThat(publicRouteMatcher.matches(request("GET", "/actuator/health/liveness"))).isTrue();
+        assertThat(publicRouteMatcher.matches(request("GET", "/actuator/prometheus"))).isFalse();
+        assertThat(publicRouteMatcher.matches(request("GET", "/actuator/metrics"))).isFalse();
+    }
+
+    @Test
+    void 메서드_미지정_route_는_모든_메서드_허용() {
+        PublicRouteMatcher matcher = new PublicRouteMatcher(List.of(new PermitPass(null, "/api/health")));
+
+        assertThat(matcher.matches(request("GET", "/api/health"))).isTrue();
+        assertThat(matcher.matches(request("POST", "/api/health"))).isTrue();
+        assertThat(matcher.matches(request("POST", "/api/health/1"))).isFalse();
+    }
+
+    @Test
+    void 지원하지_않는_패턴은_시작시_실패() {
+        assertThatThrownBy(() -> new PublicRouteMatcher(List.of(new PermitPass(HttpMethod.GET, "/api/**/seats"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PublicRouteMatcher(List.of(new PermitPass(HttpMethod.GET, "/api/movies/{id}"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,260 @@
+package com.cgv.mega.outbox.service;
+
+import com.cgv.mega.movie.dto.MovieCreatedEvent;
+import com.cgv.mega.movie.dto.MovieDeletedEvent;
+import com.cgv.mega.movie.entity.Movie;
+import com.cgv.mega.movie.repository.MovieRepository;
+import com.cgv.mega.movie.repository.MovieSearchRepository;
+import com.cgv.mega.outbox.entity.OutboxEvent;
+import com.cgv.mega.outbox.enums.OutboxEventType;
+import com.cgv.mega.outbox.enums.OutboxStatus;
+import com.cgv.mega.outbox.repository.OutboxEventRepository;
+import com.cgv.mega.reservation.dto.DeleteScreeningSeatKeyEvent;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private MovieSearchRepository movieSearchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, screeningSeatHoldRepository,
+                movieRepository, movieSearchRepository, objectMapper, transactionTemplate, meterRegistry);
+
+        // 콜백 실행 중에만 트랜잭션 안으로 표시
+        willAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        }).given(transactionTemplate).execute(any());
+        lenient().doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 홀드_삭제_상영회차별로_묶어서_처리() throws Exception {
+        OutboxEvent e1 = event(1L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(10L)));
+        OutboxEvent e2 = event(2L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(11L)));
+        OutboxEvent e3 = event(3L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(2L, Set.of(20L)));
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(e1, e2, e3));
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<Map<Long, Set<Long>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(screeningSeatHoldRepository).deleteAll(captor.capture());
+
+        assertThat(captor.getValue()).containsOnly(
+                Map.entry(1L, Set.of(10L, 11L)),
+                Map.entry(2L, Set.of(20L)));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(e1, e2, e3));
+    }
+
+    @Test
+    void 영화별_마지막_이벤트만_반영() throws Exception {
+        OutboxEvent index = event(1L, OutboxEventType.MOVIE_INDEX, new MovieCreatedEvent(1L));
+        OutboxEvent delete = event(2L, OutboxEventType.MOVIE_DELETE, new MovieDeletedEvent(1L));
+        OutboxEvent other = event(3L, OutboxEventType.MOVIE_INDEX, new MovieCreatedEvent(2L));
+
+        Movie movie = Movie.createMovie("혹성탈출", 150, "혹성탈출 설명", "escape.png");
+        ReflectionTestUtils.setField(movie, "id", 2L);
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(index, delete, other));
+        given(movieRepository.findAllByIdInWithGenresAndTypes(List.of(2L))).willReturn(List.of(movie));
+
+        outboxRelay.relay();
+
+        verify(movieSearchRepository).saveAll(anyList());
+        verify(movieSearchRepository).deleteAllById(List.of(1L));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(index, delete, other));
+    }
+
+    @Test
+    void 삭제된_영화의_늦은_색인_이벤트는_문서_삭제() throws Exception {
+        // 삭제 이벤트가 먼저 처리된 뒤 재시도로 늦게 처리되는 색인 이벤트
+        OutboxEvent retriedIndex = event(1L, OutboxEventType.MOVIE_INDEX, new MovieCreatedEvent(1L));
+
+        Movie movie = Movie.createMovie("혹성탈출", 150, "혹성탈출 설명", "escape.png");
+        ReflectionTestUtils.setField(movie, "id", 1L);
+        movie.deactivate();
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(retriedIndex));
+        given(movieRepository.findAllByIdInWithGenresAndTypes(List.of(1L))).willReturn(List.of(movie));
+
+        outboxRelay.relay();
+
+        verify(movieSearchRepository, never()).saveAll(anyList());
+        verify(movieSearchRepository).deleteAllById(List.of(1L));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(retriedIndex));
+    }
+
+    @Test
+    void 처리_실패시_재시도_예약() throws Exception {
+        OutboxEvent hold = event(1L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(10L)));
+        OutboxEvent movie = event(2L, OutboxEventType.MOVIE_DELETE, new MovieDeletedEvent(1L));
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(hold, movie));
+        given(outboxEventRepository.findAllById(Set.of(2L))).willReturn(List.of(movie));
+        willThrow(new RuntimeException("es down")).given(movieSearchRepository).deleteAllById(any());
+
+        outboxRelay.relay();
+
+        // Redis 묶음은 성공, ES 묶음만 재시도
+        verify(outboxEventRepository).deleteAllInBatch(List.of(hold));
+        assertThat(movie.getRetryCount()).isEqualTo(1);
+        assertThat(movie.getLastError()).isEqualTo("es down");
+        assertThat(movie.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    void 잘못된_payload_는_해당_이벤트만_재시도() throws Exception {
+        OutboxEvent valid = event(1L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(10L)));
+        OutboxEvent invalid = OutboxEvent.createOutboxEvent(OutboxEventType.SCREENING_SEAT_HOLD_DELETE, "not-json");
+        ReflectionTestUtils.setField(invalid, "id", 2L);
+        ReflectionTestUtils.setField(invalid, "createdAt", LocalDateTime.now());
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(valid, invalid));
+        given(outboxEventRepository.findAllById(Set.of(2L))).willReturn(List.of(invalid));
+
+        outboxRelay.relay();
+
+        verify(screeningSeatHoldRepository).deleteAll(Map.of(1L, Set.of(10L)));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(valid));
+        assertThat(invalid.getRetryCount()).isEqualTo(1);
+        assertThat(valid.getRetryCount()).isZero();
+    }
+
+    @Test
+    void bulk_항목_오류는_해당_영화_이벤트만_재시도() throws Exception {
+        OutboxEvent rejected = event(1L, OutboxEventType.MOVIE_INDEX, new MovieCreatedEvent(1L));
+        OutboxEvent indexed = event(2L, OutboxEventType.MOVIE_INDEX, new MovieCreatedEvent(2L));
+
+        Movie movie1 = Movie.createMovie("혹성탈출", 150, "혹성탈출 설명", "escape.png");
+        Movie movie2 = Movie.createMovie("인터스텔라", 169, "인터스텔라 설명", "interstellar.png");
+        ReflectionTestUtils.setField(movie1, "id", 1L);
+        ReflectionTestUtils.setField(movie2, "id", 2L);
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(rejected, indexed));
+        given(movieRepository.findAllByIdInWithGenresAndTypes(List.of(1L, 2L))).willReturn(List.of(movie1, movie2));
+        given(outboxEventRepository.findAllById(Set.of(1L))).willReturn(List.of(rejected));
+        willThrow(new BulkFailureException("bulk failed",
+                Map.of("1", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception"))))
+                .given(movieSearchRepository).saveAll(anyList());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of(indexed));
+        assertThat(rejected.getRetryCount()).isEqualTo(1);
+        assertThat(rejected.getLastError()).contains("mapper_parsing_exception");
+    }
+
+    @Test
+    void 점유_후_트랜잭션_밖에서_발행() throws Exception {
+        OutboxEvent hold = event(1L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(10L)));
+        LocalDateTime before = LocalDateTime.now();
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(hold));
+        willAnswer(invocation -> {
+            assertThat(inTransaction).isFalse();
+            return null;
+        }).given(screeningSeatHoldRepository).deleteAll(any());
+
+        outboxRelay.relay();
+
+        // 점유 동안 다른 노드의 처리 대상에서 빠짐
+        assertThat(hold.getNextAttemptAt()).isAfter(before.plusSeconds(30));
+        verify(screeningSeatHoldRepository).deleteAll(any());
+        verify(outboxEventRepository).deleteAllInBatch(List.of(hold));
+    }
+
+    @Test
+    void 점유한_가장_오래된_이벤트로_지연_기록() throws Exception {
+        OutboxEvent oldest = event(1L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(10L)));
+        OutboxEvent newer = event(2L, OutboxEventType.SCREENING_SEAT_HOLD_DELETE, new DeleteScreeningSeatKeyEvent(1L, Set.of(11L)));
+        ReflectionTestUtils.setField(oldest, "createdAt", LocalDateTime.now().minusSeconds(30));
+
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of(oldest, newer));
+
+        outboxRelay.relay();
+
+        assertThat(meterRegistry.get("outbox.relay.lag").timeGauge().value(TimeUnit.SECONDS)).isBetween(29.0, 60.0);
+    }
+
+    @Test
+    void 처리_대상_없으면_무시() {
+        given(outboxEventRepository.findRelayTargets(any(), anyInt())).willReturn(List.of());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    private OutboxEvent event(Long id, OutboxEventType type, Object payload) throws Exception {
+        OutboxEvent event = OutboxEvent.createOutboxEvent(type, objectMapper.writeValueAsString(payload));
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "createdAt", LocalDateTime.now());
+        return event;
+    }
+}
@@ -2,7 +2,10 @@ package com.cgv.mega.payment.controller;
 
 import com.cgv.mega.common.enums.Role;
 import com.cgv.mega.payment.dto.PaymentCompleteRequest;
+import com.cgv.mega.payment.dto.PaymentStatusResponse;
+import com.cgv.mega.payment.enums.PaymentStatus;
 import com.cgv.mega.payment.service.PaymentService;
+import com.cgv.mega.payment.service.PaymentVerificationService;
 import com.cgv.mega.util.CustomMockUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +20,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PaymentController.class)
@@ -32,6 +39,9 @@ class PaymentControllerTest {
     @MockitoBean
     private PaymentService paymentService;
 
+    @MockitoBean
+    private PaymentVerificationService paymentVerificationService;
+
     @Nested
     class 결제_검증 {
 
@@ -63,4 +73,38 @@ class PaymentControllerTest {
                     .andDo(print());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 비동기_결제_검증 {
+
+        @Test
+        @CustomMockUser(id = 1L, name = "user", email = "a@b.com", role = Role.USER)
+        void 접수_성공_202반환() throws Exception {
+            PaymentCompleteRequest request = new PaymentCompleteRequest("payment-id",
+                    BigDecimal.valueOf(20000), 5L
+            );
+
+            given(paymentVerificationService.requestVerification(anyLong(), any(PaymentCompleteRequest.class)))
+                    .willReturn(new PaymentStatusResponse("payment-id", PaymentStatus.READY));
+
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/payments/complete/async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.data.status").value("READY"))
+                    .andDo(print());
+        }
+
+        @Test
+        @CustomMockUser(id = 1L, name = "user", email = "a@b.com", role = Role.USER)
+        void 상태_조회_성공() throws Exception {
+            given(paymentService.getPaymentStatus(1L, "payment-id"))
+                    .willReturn(new PaymentStatusResponse("payment-id", PaymentStatus.COMPLETED));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/payments/{paymentId}/status", "payment-id"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                    .andDo(print());
+        }
+    }
+}
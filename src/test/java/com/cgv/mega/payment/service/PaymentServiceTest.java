@@ -29,8 +29,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,6 +44,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +59,12 @@ class PaymentServiceTest {
     @Mock
     private PortOneClient portOneClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -129,6 +139,9 @@ class PaymentServiceTest {
             request = new PaymentCompleteRequest(
                     payment.getPaymentId(), response.amount().total(), reservationGroup.getId()
             );
+
+            willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                    .given(transactionTemplate).execute(any());
         }
 
         @Test
@@ -137,6 +150,7 @@ class PaymentServiceTest {
                     .willReturn(Optional.of(reservationGroup));
             given(paymentRepository.findByPaymentId(payment.getPaymentId())).willReturn(Optional.of(payment));
             given(portOneClient.getPaymentInfo(request.paymentId())).willReturn(response);
+            given(paymentRepository.findByPaymentIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
 
             paymentService.verifyAndCompletePayment(userId, request);
 
@@ -214,6 +228,7 @@ class PaymentServiceTest {
                     .willReturn(Optional.of(reservationGroup));
             given(paymentRepository.findByPaymentId(payment.getPaymentId())).willReturn(Optional.of(payment));
             given(portOneClient.getPaymentInfo(request.paymentId())).willReturn(response);
+            given(paymentRepository.findByPaymentIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
 
             assertThatThrownBy(() -> paymentService.verifyAndCompletePayment(userId, request))
                     .isInstanceOf(CustomException.class)
@@ -237,6 +252,7 @@ class PaymentServiceTest {
                     .willReturn(Optional.of(reservationGroup));
             given(paymentRepository.findByPaymentId(payment.getPaymentId())).willReturn(Optional.of(payment));
             given(portOneClient.getPaymentInfo(request.paymentId())).willReturn(response);
+            given(paymentRepository.findByPaymentIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
 
             assertThatThrownBy(() -> paymentService.verifyAndCompletePayment(userId, request))
                     .isInstanceOf(CustomException.class)
@@ -260,6 +276,7 @@ class PaymentServiceTest {
                     .willReturn(Optional.of(reservationGroup));
             given(paymentRepository.findByPaymentId(payment.getPaymentId())).willReturn(Optional.of(payment));
             given(portOneClient.getPaymentInfo(request.paymentId())).willReturn(response);
+            given(paymentRepository.findByPaymentIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
 
             assertThatThrownBy(() -> paymentService.verifyAndCompletePayment(userId, request))
                     .isInstanceOf(CustomException.class)
@@ -271,6 +288,102 @@ class PaymentServiceTest {
         }
     }
 
+    @Nested
+    class 동기_검증_중_워커가_먼저_확정 {
+        @Test
+        void 잠금_후_재확인하여_상태를_바꾸지_않음() {
+            Payment payment = Payment.createPayment(reservationGroup,
+                    "테스터", "01012341234", "a@b.com",
+                    "payment-id", BigDecimal.valueOf(reservationGroup.getTotalPrice())
+            );
+            PortOnePaymentResponse cancelled = new PortOnePaymentResponse(
+                    "payment-id", "order-uid", "CANCELLED",
+                    new PortOnePaymentResponse.Amount(BigDecimal.valueOf(reservationGroup.getTotalPrice()), BigDecimal.ZERO),
+                    new PortOnePaymentResponse.Method("card", "SAMSUNG", "123412341234", 0),
+                    null, null, null
+            );
+            PaymentCompleteRequest request = new PaymentCompleteRequest(
+                    payment.getPaymentId(), BigDecimal.valueOf(reservationGroup.getTotalPrice()), reservationGroup.getId());
+
+            willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                    .given(transactionTemplate).execute(any());
+            given(reservationGroupRepository.findByIdAndUserId(reservationGroup.getId(), userId))
+                    .willReturn(Optional.of(reservationGroup));
+            given(paymentRepository.findByPaymentId(payment.getPaymentId())).willReturn(Optional.of(payment));
+            given(paymentRepository.findByPaymentIdForUpdate(payment.getPaymentId())).willReturn(Optional.of(payment));
+
+            // 포트원 조회 중 비동기 워커가 결제 완료 처리
+            given(portOneClient.getPaymentInfo(request.paymentId())).willAnswer(invocation -> {
+                ReflectionTestUtils.setField(payment, "status", PaymentStatus.COMPLETED);
+                reservationGroup.successReservation();
+                return cancelled;
+            });
+
+            paymentService.verifyAndCompletePayment(userId, request);
+
+            // 실패 처리(좌석 반환) 없이 워커가 확정한 상태 유지
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(reservationGroup.getStatus()).isEqualTo(ReservationStatus.PAID);
+        }
+    }
+
+    @Nested
+    class 검증_결과_반영 {
+        private Payment payment;
+
+        @BeforeEach
+        void setUp() {
+            payment = Payment.createPayment(reservationGroup,
+                    "테스터", "01012341234", "a@b.com",
+                    "payment-id", BigDecimal.valueOf(reservationGroup.getTotalPrice())
+            );
+        }
+
+        private PortOnePaymentResponse response(String status, long amount) {
+            return new PortOnePaymentResponse(
+                    "payment-id", "order-uid", status,
+                    new PortOnePaymentResponse.Amount(BigDecimal.valueOf(amount), BigDecimal.ZERO),
+                    new PortOnePaymentResponse.Method("card", "SAMSUNG", "123412341234", 0),
+                    null, null, null
+            );
+        }
+
+        @Test
+        void 반영_성공() {
+            given(paymentRepository.findByPaymentIdForUpdate("payment-id")).willReturn(Optional.of(payment));
+
+            PaymentStatus status = paymentService.applyVerificationResult(
+                    "payment-id", response("PAID", reservationGroup.getTotalPrice()));
+
+            assertThat(status).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(reservationGroup.getStatus()).isEqualTo(ReservationStatus.PAID);
+        }
+
+        @Test
+        void 금액_불일치_실패_상태로_반영() {
+            given(paymentRepository.findByPaymentIdForUpdate("payment-id")).willReturn(Optional.of(payment));
+
+            PaymentStatus status = paymentService.applyVerificationResult(
+                    "payment-id", response("PAID", 1L));
+
+            assertThat(status).isEqualTo(PaymentStatus.FAILED);
+            assertThat(payment.getFailReason()).isEqualTo("amount mismatch");
+        }
+
+        @Test
+        void 이미_확정된_결제는_변경없음() {
+            payment.failedPayment("failed_payment");
+
+            given(paymentRepository.findByPaymentIdForUpdate("payment-id")).willReturn(Optional.of(payment));
+
+            PaymentStatus status = paymentService.applyVerificationResult(
+                    "payment-id", response("PAID", reservationGroup.getTotalPrice()));
+
+            assertThat(status).isEqualTo(PaymentStatus.FAILED);
+            assertThat(payment.getPaidAmount()).isNull();
+        }
+    }
+
     @Nested
     class 결제_취소 {
         private Payment payment;
@@ -0,0 +1,70 @@
+package com.cgv.mega.payment.service;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.payment.dto.PaymentCompleteRequest;
+import com.cgv.mega.payment.dto.PaymentStatusResponse;
+import com.cgv.mega.payment.enums.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentVerificationServiceTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentVerificationWorker paymentVerificationWorker;
+
+    @InjectMocks
+    private PaymentVerificationService paymentVerificationService;
+
+    private final PaymentCompleteRequest request =
+            new PaymentCompleteRequest("payment-id", BigDecimal.valueOf(20000), 5L);
+
+    @Test
+    void 대기중인_결제_검증_접수() {
+        given(paymentService.getVerifiablePaymentStatus(1L, request)).willReturn(PaymentStatus.READY);
+
+        PaymentStatusResponse response = paymentVerificationService.requestVerification(1L, request);
+
+        assertThat(response.status()).isEqualTo(PaymentStatus.READY);
+        verify(paymentVerificationWorker).verify("payment-id");
+    }
+
+    @Test
+    void 이미_확정된_결제는_접수하지_않음() {
+        given(paymentService.getVerifiablePaymentStatus(1L, request)).willReturn(PaymentStatus.COMPLETED);
+
+        PaymentStatusResponse response = paymentVerificationService.requestVerification(1L, request);
+
+        assertThat(response.status()).isEqualTo(PaymentStatus.COMPLETED);
+        verify(paymentVerificationWorker, never()).verify(anyString());
+    }
+
+    @Test
+    void 워커_큐_초과_503반환() {
+        given(paymentService.getVerifiablePaymentStatus(1L, request)).willReturn(PaymentStatus.READY);
+        willThrow(new TaskRejectedException("full")).given(paymentVerificationWorker).verify("payment-id");
+
+        assertThatThrownBy(() -> paymentVerificationService.requestVerification(1L, request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PAYMENT_VERIFICATION_BUSY);
+    }
+}
@@ -0,0 +1,151 @@
+package com.cgv.mega.payment.service;
+
+import com.cgv.mega.common.config.WebClientConfig;
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.payment.dto.PortOneCancelRequest;
+import com.cgv.mega.payment.dto.PortOnePaymentResponse;
+import com.cgv.mega.payment.dto.RefundResult;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 stub 서버(MockWebServer)로 공유 WebClient 설정 검증
+class PortOneClientTest {
+
+    private MockWebServer server;
+    private ConnectionProvider connectionProvider;
+    private PortOneClient portOneClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", server.url("/").toString());
+        ReflectionTestUtils.setField(config, "maxConnections", 2);
+        ReflectionTestUtils.setField(config, "pendingAcquireTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "responseTimeout", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(config, "maxInMemorySize", DataSize.ofKilobytes(256));
+
+        connectionProvider = config.portOneConnectionProvider();
+        WebClient webClient = config.portOneWebClient(WebClient.builder(), connectionProvider);
+
+        portOneClient = new PortOneClient(webClient);
+        ReflectionTestUtils.setField(portOneClient, "apiSecret", "test-secret");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        server.shutdown();
+    }
+
+    @Nested
+    class 결제_조회 {
+        @Test
+        void 조회_성공() throws InterruptedException {
+            server.enqueue(jsonResponse("""
+                    {"id":"payment-1","status":"PAID","amount":{"total":15000}}
+                    """));
+
+            PortOnePaymentResponse response = portOneClient.getPaymentInfo("payment-1");
+
+            assertThat(response.id()).isEqualTo("payment-1");
+            assertThat(response.amount().total()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+
+            RecordedRequest request = server.takeRequest();
+            assertThat(request.getPath()).isEqualTo("/payments/payment-1");
+            assertThat(request.getHeader(HttpHeaders.AUTHORIZATION)).isEqualTo("PortOne test-secret");
+            assertThat(request.getHeader(HttpHeaders.ACCEPT_ENCODING)).contains("gzip");
+        }
+
+        @Test
+        void 연속_호출시_커넥션_재사용() throws InterruptedException {
+            server.enqueue(jsonResponse("{\"id\":\"payment-1\"}"));
+            server.enqueue(jsonResponse("{\"id\":\"payment-2\"}"));
+
+            portOneClient.getPaymentInfo("payment-1");
+            portOneClient.getPaymentInfo("payment-2");
+
+            // 같은 커넥션에서 처리된 요청은 sequenceNumber 가 증가
+            assertThat(server.takeRequest().getSequenceNumber()).isEqualTo(0);
+            assertThat(server.takeRequest().getSequenceNumber()).isEqualTo(1);
+        }
+
+        @Test
+        void 응답_지연시_타임아웃_502반환() {
+            server.enqueue(jsonResponse("{\"id\":\"payment-1\"}")
+                    .setHeadersDelay(2, TimeUnit.SECONDS));
+
+            assertThatThrownBy(() -> portOneClient.getPaymentInfo("payment-1"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
+
+        @Test
+        void 오류_응답시_502반환() {
+            server.enqueue(new MockResponse().setResponseCode(500));
+
+            assertThatThrownBy(() -> portOneClient.getPaymentInfo("payment-1"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
+    }
+
+    @Nested
+    class 환불 {
+        @Test
+        void 환불_성공() throws InterruptedException {
+            server.enqueue(jsonResponse("""
+                    {"cancellation":{"status":"SUCCEEDED","totalAmount":15000}}
+                    """));
+
+            RefundResult result = portOneClient.refundPayment("payment-1", new PortOneCancelRequest(15000L, "환불"));
+
+            assertThat(result.success()).isTrue();
+            assertThat(result.cancelledAmount()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+            assertThat(server.takeRequest().getPath()).isEqualTo("/payments/payment-1/cancel");
+        }
+
+        @Test
+        void 환불_실패_상태() {
+            server.enqueue(jsonResponse("""
+                    {"cancellation":{"status":"FAILED","totalAmount":15000}}
+                    """));
+
+            RefundResult result = portOneClient.refundPayment("payment-1", new PortOneCancelRequest(15000L, "환불"));
+
+            assertThat(result.isFailure()).isTrue();
+        }
+    }
+
+    private MockResponse jsonResponse(String body) {
+        return new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
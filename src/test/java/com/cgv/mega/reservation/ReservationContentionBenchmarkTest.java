@@ -0,0 +1,210 @@
+package com.cgv.mega.reservation;
+
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.containers.TestContainerManager;
+import com.cgv.mega.movie.entity.Movie;
+import com.cgv.mega.movie.enums.MovieType;
+import com.cgv.mega.reservation.dto.ReservationRequest;
+import com.cgv.mega.reservation.enums.SeatLockMode;
+import com.cgv.mega.reservation.service.ReservationService;
+import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import com.cgv.mega.theater.entity.Theater;
+import com.cgv.mega.theater.repository.TheaterRepository;
+import com.cgv.mega.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 예약 잠금 방식 경합 벤치마크 (./gradlew benchmarkTest)
+ * <p>
+ * 사용자별로 2좌석씩 홀드한 뒤 같은 요청을 동시에 두 번(더블 클릭) 보내
+ * SELECT ... FOR UPDATE 방식과 조건부 update 방식의 지연 시간을 비교한다.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationContentionBenchmarkTest {
+
+    private static final int SEATS_PER_BOOKING = 2;
+    private static final int DUPLICATE_REQUESTS = 2;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
+
+    @Autowired
+    private TheaterRepository theaterRepository;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.startRedis();
+        TestContainerManager.startElasticSearch();
+
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+        TestContainerManager.registerElasticsearch(registry);
+    }
+
+    @Test
+    void 비관적_락_vs_조건부_update() throws Exception {
+        Movie movie = testDataFactory.createMovie("벤치마크");
+        Theater theater = theaterRepository.findById(1L)
+                .orElseThrow();
+
+        BenchmarkResult pessimistic = run(SeatLockMode.PESSIMISTIC, movie, theater, 1);
+        BenchmarkResult optimistic = run(SeatLockMode.OPTIMISTIC, movie, theater, 2);
+
+        System.out.println(pessimistic);
+        System.out.println(optimistic);
+
+        // 두 방식 모두 중복 요청 중 정확히 하나만 성공해야 함
+        assertThat(pessimistic.succeeded()).isEqualTo(pessimistic.bookings());
+        assertThat(optimistic.succeeded()).isEqualTo(optimistic.bookings());
+    }
+
+    private BenchmarkResult run(SeatLockMode mode, Movie movie, Theater theater, int sequence) throws InterruptedException {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(reservationService), "seatLockMode", mode);
+
+        Screening screening = testDataFactory.createScreening(
+                movie, theater, LocalDateTime.of(2026, 11, 11, 8, 0).plusHours(sequence * 4L), sequence, MovieType.TWO_D);
+        testDataFactory.initializeScreeningSeat(screening, theater);
+
+        List<Long> screeningSeatIds = jdbcTemplate.queryForList(
+                "SELECT id FROM screening_seats WHERE screening_id = ? ORDER BY id", Long.class, screening.getId());
+
+        int bookings = screeningSeatIds.size() / SEATS_PER_BOOKING;
+
+        List<Runnable> tasks = new ArrayList<>();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger succeeded = new AtomicInteger();
+
+        for (int i = 0; i < bookings; i++) {
+            Long userId = (long) (i + 1);
+            Set<Long> seats = Set.copyOf(screeningSeatIds.subList(i * SEATS_PER_BOOKING, (i + 1) * SEATS_PER_BOOKING));
+
+            screeningSeatHoldRepository.hold(screening.getId(), userId, seats);
+
+            for (int r = 0; r < DUPLICATE_REQUESTS; r++) {
+                tasks.add(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        reservationService.createReservation(userId, screening.getId(), new ReservationRequest(seats));
+                        succeeded.incrementAndGet();
+                    } catch (CustomException ignored) {
+                        // 중복 요청 실패 (이미 예약됨)
+                    } finally {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+
+        Collections.shuffle(tasks);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+
+        for (Runnable task : tasks) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        ready.countDown();
+        done.await(2, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+
+        executor.shutdown();
+
+        return BenchmarkResult.of(mode, bookings, succeeded.get(), latencies, elapsed);
+    }
+
+    @AfterEach
+    void clear() {
+        ReflectionTestUtils.setField(
+                AopTestUtils.getUltimateTargetObject(reservationService), "seatLockMode", SeatLockMode.PESSIMISTIC);
+
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("TRUNCATE TABLE reservations");
+        jdbcTemplate.execute("TRUNCATE TABLE reservation_groups");
+        jdbcTemplate.execute("TRUNCATE TABLE screening_seats");
+        jdbcTemplate.execute("TRUNCATE TABLE screenings");
+        jdbcTemplate.execute("TRUNCATE TABLE movies");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+    }
+
+    private record BenchmarkResult(SeatLockMode mode, int bookings, int succeeded,
+                                   double p50Ms, double p99Ms, double throughput) {
+
+        static BenchmarkResult of(SeatLockMode mode, int bookings, int succeeded, List<Long> latencies, long elapsedNanos) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            return new BenchmarkResult(
+                    mode,
+                    bookings,
+                    succeeded,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.size() / (elapsedNanos / 1_000_000_000.0)
+            );
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s] bookings=%d succeeded=%d p50=%.2fms p99=%.2fms throughput=%.1f req/s",
+                    mode, bookings, succeeded, p50Ms, p99Ms, throughput);
+        }
+    }
+}
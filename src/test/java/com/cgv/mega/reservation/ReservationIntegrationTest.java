@@ -19,6 +19,7 @@ import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.repository.SeatRepository;
@@ -34,7 +35,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Commit;
@@ -96,7 +96,7 @@ public class ReservationIntegrationTest {
     private ObjectMapper objectMapper;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
@@ -182,8 +182,7 @@ public class ReservationIntegrationTest {
         @Commit
         void 예약_성공() throws Exception {
             // 예약 홀드 가정
-            redisTemplate.opsForValue().set("seat:" + ss1.getId(), user.getId(), Duration.ofMinutes(5));
-            redisTemplate.opsForValue().set("seat:" + ss2.getId(), user.getId(), Duration.ofMinutes(5));
+            screeningSeatHoldRepository.hold(screening.getId(), user.getId(), Set.of(ss1.getId(), ss2.getId()));
 
             ReservationRequest request = new ReservationRequest(Set.of(ss1.getId(), ss2.getId()));
 
@@ -220,11 +219,7 @@ public class ReservationIntegrationTest {
                     .atMost(Duration.ofSeconds(5))
                     .pollInterval(Duration.ofMillis(300))
                     .untilAsserted(() -> {
-                        Object redisSeat1 = redisTemplate.opsForValue().get("seat:" + ss1.getId());
-                        Object redisSeat2 = redisTemplate.opsForValue().get("seat:" + ss2.getId());
-
-                        assertThat(redisSeat1).isNull();
-                        assertThat(redisSeat2).isNull();
+                        assertThat(screeningSeatHoldRepository.getHeldSeatIds(screening.getId())).isEmpty();
                     });
 
             assertThat(reservationGroupRepository.findAll()).hasSize(1);
@@ -236,8 +231,7 @@ public class ReservationIntegrationTest {
         @Test
         @Transactional
         void 비로그인_401반환() throws Exception {
-            redisTemplate.opsForValue().set("seat:" + ss1.getId(), user.getId(), Duration.ofMinutes(5));
-            redisTemplate.opsForValue().set("seat:" + ss2.getId(), user.getId(), Duration.ofMinutes(5));
+            screeningSeatHoldRepository.hold(screening.getId(), user.getId(), Set.of(ss1.getId(), ss2.getId()));
 
             ReservationRequest request = new ReservationRequest(Set.of(ss1.getId(), ss2.getId()));
 
@@ -319,6 +313,60 @@ public class ReservationIntegrationTest {
                     .andDo(print());
         }
 
+        @Test
+        void 커서_조회_성공() throws Exception {
+            ReservationGroup reservationGroup1 = ReservationGroup.createReservationGroup(user.getId());
+            reservationGroup1.addReservation(ss1);
+            reservationGroup1.addReservation(ss2);
+
+            ReservationGroup reservationGroup2 = ReservationGroup.createReservationGroup(user.getId());
+            reservationGroup2.addReservation(ss3);
+            reservationGroup2.successReservation();
+
+            reservationGroupRepository.saveAll(List.of(reservationGroup1, reservationGroup2));
+
+            // 같은 상영이면 예약 그룹 ID 내림차순
+            mockMvc.perform(get("/api/reservations/cursor")
+                            .header("Authorization", userToken)
+                            .param("size", "1")
+                            .param("withTotal", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].reservationGroupId").value(reservationGroup2.getId()))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.totalElements").value(2))
+                    .andDo(
+                            document("reservation-reserve-cursor-list",
+                                    requestHeaders(
+                                            headerWithName("Authorization").description("JWT Access Token (Bearer)")
+                                    ),
+                                    queryParameters(
+                                            parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                            parameterWithName("size").description("한 페이지 크기(기본 10)").optional(),
+                                            parameterWithName("withTotal").description("전체 개수 포함 여부(기본 false)").optional()
+                                    ),
+                                    responseFields(
+                                            fieldWithPath("status").description("응답 코드"),
+                                            fieldWithPath("message").description("응답 메시지"),
+                                            fieldWithPath("data.content[].reservationGroupId").description("예약-그룹 식별자 ID"),
+                                            fieldWithPath("data.content[].title").description("영화 제목"),
+                                            fieldWithPath("data.content[].movieType").description("영화 타입(2D, 3D)"),
+                                            fieldWithPath("data.content[].startTime").description("시작 시간"),
+                                            fieldWithPath("data.content[].theaterName").description("상영관 이름"),
+                                            fieldWithPath("data.content[].theaterType").description("상영관 타입(4DX, IMAX 등)"),
+                                            fieldWithPath("data.content[].seats[].seatNumber").description("좌석 번호"),
+                                            fieldWithPath("data.content[].seats[].seatType").description("좌석 타입(NORMAL, PREMIUM, ROOM)"),
+                                            fieldWithPath("data.content[].reservationStatus").description("예약 상태"),
+                                            fieldWithPath("data.content[].totalPrice").description("총 가격"),
+                                            fieldWithPath("data.content[].posterUrl").description("포스터 이미지 URL"),
+                                            fieldWithPath("data.content[].updatedAt").description("예약 상태 변경 시간"),
+                                            fieldWithPath("data.nextCursor").description("다음 페이지 커서 (마지막 페이지면 null)").optional(),
+                                            fieldWithPath("data.hasNext").description("다음 페이지 여부"),
+                                            fieldWithPath("data.totalElements").description("전체 예약 수 (withTotal=true 일 때만)").optional()
+                                    )
+                            ))
+                    .andDo(print());
+        }
+
         @Test
         void 비로그인_401반환() throws Exception {
             mockMvc.perform(MockMvcRequestBuilders.get("/api/reservations"))
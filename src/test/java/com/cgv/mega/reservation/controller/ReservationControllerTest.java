@@ -2,6 +2,7 @@ package com.cgv.mega.reservation.controller;
 
 import com.cgv.mega.booking.dto.BookingResponse;
 import com.cgv.mega.booking.service.BookingService;
+import com.cgv.mega.common.dto.CursorResponse;
 import com.cgv.mega.common.dto.PageResponse;
 import com.cgv.mega.common.enums.Role;
 import com.cgv.mega.reservation.dto.ReservationDetailResponse;
@@ -142,6 +143,36 @@ class ReservationControllerTest {
         }
     }
 
+    @Nested
+    class 예약_목록_커서_조회 {
+        @Test
+        @CustomMockUser(id = 1L, name = "user", email = "a@b.com", role = Role.USER)
+        void 성공() throws Exception {
+            List<ReservationListResponse> content = List.of(
+                    new ReservationListResponse(
+                            reservationGroupId, "title", "2D",
+                            LocalDateTime.of(2026, 11, 11, 10, 0),
+                            "1관", "4DX",
+                            List.of(new ReservationListResponse.SeatInfo("A2", "일반")),
+                            "예약완료", 15000, "title.png", null
+                    )
+            );
+
+            CursorResponse<ReservationListResponse> response =
+                    new CursorResponse<>(content, "next-cursor", true, null);
+
+            given(reservationService.getReservationListByCursor(userId, null, 5, false)).willReturn(response);
+
+            mockMvc.perform(get("/api/reservations/cursor")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].title").value("title"))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class 예약_취소 {
         @Test
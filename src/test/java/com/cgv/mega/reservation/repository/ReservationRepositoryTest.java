@@ -10,6 +10,7 @@ import com.cgv.mega.movie.enums.MovieType;
 import com.cgv.mega.movie.repository.MovieRepository;
 import com.cgv.mega.payment.entity.Payment;
 import com.cgv.mega.payment.repository.PaymentRepository;
+import com.cgv.mega.reservation.dto.ReservationCursor;
 import com.cgv.mega.reservation.dto.ReservationDetailDto;
 import com.cgv.mega.reservation.dto.ReservationListDto;
 import com.cgv.mega.reservation.entity.ReservationGroup;
@@ -177,4 +178,33 @@ class ReservationRepositoryTest {
         assertThat(reservationList.getContent().get(0).title()).isEqualTo(movie.getTitle());
         assertThat(reservationList.getContent().get(1).title()).isEqualTo(movie.getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 예약_목록_조회_예약_그룹_단위로_페이징() {
+        Page<ReservationListDto> reservationList = reservationQueryRepository.getReservationList(
+                user.getId(), PageRequest.of(0, 1)
+        );
+
+        assertThat(reservationList.getTotalElements()).isEqualTo(2);
+        assertThat(reservationList.getContent()).hasSize(1);
+        assertThat(reservationList.getContent().get(0).seatDtoList()).hasSize(2);
+    }
+
+    @Test
+    void 커서_이후_예약_그룹_ID_조회() {
+        // 같은 상영이면 예약 그룹 ID 내림차순
+        List<Long> firstPage = reservationQueryRepository.getReservationGroupIds(user.getId(), null, 1);
+
+        assertThat(firstPage).containsExactly(reservationGroup2.getId());
+
+        ReservationCursor cursor = new ReservationCursor(screening.getStartTime(), reservationGroup2.getId());
+        List<Long> secondPage = reservationQueryRepository.getReservationGroupIds(user.getId(), cursor, 1);
+
+        assertThat(secondPage).containsExactly(reservationGroup1.getId());
+
+        List<ReservationListDto> details = reservationQueryRepository.getReservationListByIds(secondPage);
+
+        assertThat(details).hasSize(1);
+        assertThat(details.get(0).seatDtoList()).hasSize(2);
+    }
+}
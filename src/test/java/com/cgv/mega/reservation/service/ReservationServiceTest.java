@@ -1,5 +1,6 @@
 package com.cgv.mega.reservation.service;
 
+import com.cgv.mega.common.dto.CursorResponse;
 import com.cgv.mega.common.dto.PageResponse;
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
@@ -10,11 +11,13 @@ import com.cgv.mega.payment.service.PaymentService;
 import com.cgv.mega.reservation.dto.*;
 import com.cgv.mega.reservation.entity.ReservationGroup;
 import com.cgv.mega.reservation.enums.ReservationStatus;
+import com.cgv.mega.reservation.enums.SeatLockMode;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
 import com.cgv.mega.reservation.repository.ReservationQueryRepository;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.screening.service.ScreeningSeatService;
 import com.cgv.mega.seat.entity.Seat;
@@ -35,8 +38,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -51,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,10 +74,7 @@ class ReservationServiceTest {
     private ScreeningRepository screeningRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
@@ -130,8 +129,7 @@ class ReservationServiceTest {
             given(screeningSeatRepository.findByIdInAndScreeningIdForUpdate(Set.of(seatA1.getId(), seatA2.getId()), screening.getId()))
                     .willReturn(List.of(seatA1, seatA2));
 
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.multiGet(anyList())).willReturn(List.of(String.valueOf(userId), String.valueOf(userId)));
+            given(screeningSeatHoldRepository.isHeldBy(screeningId, userId, Set.of(1L, 2L))).willReturn(true);
 
             given(reservationGroupRepository.save(any(ReservationGroup.class)))
                     .willAnswer(invocation -> {
@@ -146,8 +144,7 @@ class ReservationServiceTest {
             verify(screeningRepository).findById(screeningId);
             verify(screeningSeatRepository).findByIdInAndScreeningIdForUpdate(
                     Set.of(seatA1.getId(), seatA2.getId()), screeningId);
-            verify(redisTemplate).opsForValue();
-            verify(valueOperations).multiGet(anyList());
+            verify(screeningSeatHoldRepository).isHeldBy(screeningId, userId, Set.of(1L, 2L));
             verify(screeningSeatService).reserveScreeningSeat(List.of(seatA1, seatA2));
             verify(reservationGroupRepository).save(any(ReservationGroup.class));
             verify(eventPublisher).publishEvent(any(DeleteScreeningSeatKeyEvent.class));
@@ -158,6 +155,30 @@ class ReservationServiceTest {
             assertThat(result.getTotalPrice()).isEqualTo(2000);
         }
 
+        @Test
+        void 조건부_update_모드_예약_성공() {
+            ReflectionTestUtils.setField(reservationService, "seatLockMode", SeatLockMode.OPTIMISTIC);
+
+            Long userId = 1L;
+            Long screeningId = screening.getId();
+            ReservationRequest request = new ReservationRequest(Set.of(1L, 2L));
+
+            given(screeningRepository.findById(screening.getId())).willReturn(Optional.of(screening));
+            given(screeningSeatHoldRepository.isHeldBy(screeningId, userId, Set.of(1L, 2L))).willReturn(true);
+            given(screeningSeatService.reserveAvailableScreeningSeats(screeningId, Set.of(1L, 2L)))
+                    .willReturn(List.of(seatA1, seatA2));
+            given(reservationGroupRepository.save(any(ReservationGroup.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            ReservationGroup result = reservationService.createReservation(userId, screeningId, request);
+
+            verify(screeningSeatRepository, never()).findByIdInAndScreeningIdForUpdate(anySet(), anyLong());
+            verify(screeningSeatService).reserveAvailableScreeningSeats(screeningId, Set.of(1L, 2L));
+
+            assertThat(result.getReservations()).hasSize(2);
+            assertThat(result.getTotalPrice()).isEqualTo(2000);
+        }
+
         @Test
         void 상영회차_없음_404반환() {
             Long userId = 1L;
@@ -219,8 +240,7 @@ class ReservationServiceTest {
             given(screeningSeatRepository.findByIdInAndScreeningIdForUpdate(Set.of(seatA1.getId(), seatA2.getId()), screening.getId()))
                     .willReturn(List.of(seatA1, seatA2));
 
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.multiGet(anyList())).willReturn(List.of(String.valueOf(1651446L), String.valueOf(1234231L)));
+            given(screeningSeatHoldRepository.isHeldBy(screeningId, userId, Set.of(1L, 2L))).willReturn(false);
 
             assertThatThrownBy(() -> reservationService.createReservation(userId, screeningId, request))
                     .isInstanceOf(CustomException.class)
@@ -264,6 +284,92 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    class 예약_목록_커서_조회 {
+        private ReservationListDto listDto(Long reservationGroupId) {
+            return new ReservationListDto(
+                    reservationGroupId, movie.getTitle(), screening.getMovieType(), screening.getStartTime(),
+                    theater.getName(), theater.getType(),
+                    List.of(new ReservationListDto.SeatDto(a1.getRowLabel(), a1.getColNumber(), a1.getType())),
+                    ReservationStatus.PAID, 15000, movie.getPosterUrl(),
+                    LocalDateTime.of(2026, 11, 11, 15, 0)
+            );
+        }
+
+        @Test
+        void 다음_페이지가_있으면_마지막_예약으로_커서_생성() {
+            Long userId = 1L;
+
+            given(reservationQueryRepository.getReservationGroupIds(userId, null, 3)).willReturn(List.of(30L, 20L, 10L));
+            given(reservationQueryRepository.getReservationListByIds(List.of(30L, 20L)))
+                    .willReturn(List.of(listDto(30L), listDto(20L)));
+
+            CursorResponse<ReservationListResponse> response =
+                    reservationService.getReservationListByCursor(userId, null, 2, false);
+
+            assertThat(response.content()).hasSize(2);
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.totalElements()).isNull();
+            assertThat(ReservationCursor.decode(response.nextCursor()))
+                    .isEqualTo(new ReservationCursor(screening.getStartTime(), 20L));
+            verify(reservationQueryRepository, never()).countReservationGroups(anyLong());
+        }
+
+        @Test
+        void 마지막_페이지면_커서_없음() {
+            Long userId = 1L;
+            ReservationCursor cursor = new ReservationCursor(screening.getStartTime(), 20L);
+
+            given(reservationQueryRepository.getReservationGroupIds(userId, cursor, 3)).willReturn(List.of(10L));
+            given(reservationQueryRepository.getReservationListByIds(List.of(10L))).willReturn(List.of(listDto(10L)));
+            given(reservationQueryRepository.countReservationGroups(userId)).willReturn(3L);
+
+            CursorResponse<ReservationListResponse> response =
+                    reservationService.getReservationListByCursor(userId, cursor.encode(), 2, true);
+
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
+            assertThat(response.totalElements()).isEqualTo(3L);
+        }
+
+        @Test
+        void 최대_크기를_넘으면_최대_크기만큼_조회() {
+            Long userId = 1L;
+
+            given(reservationQueryRepository.getReservationGroupIds(userId, null, 101)).willReturn(List.of(10L));
+            given(reservationQueryRepository.getReservationListByIds(List.of(10L))).willReturn(List.of(listDto(10L)));
+
+            CursorResponse<ReservationListResponse> response =
+                    reservationService.getReservationListByCursor(userId, null, 1_000, false);
+
+            assertThat(response.content()).hasSize(1);
+            assertThat(response.hasNext()).isFalse();
+        }
+
+        @Test
+        void 크기가_1보다_작으면_400반환() {
+            assertThatThrownBy(() -> reservationService.getReservationListByCursor(1L, null, 0, false))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_PAGE_SIZE);
+
+            assertThatThrownBy(() -> reservationService.getReservationListByCursor(1L, null, -1, false))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_PAGE_SIZE);
+
+            verify(reservationQueryRepository, never()).getReservationGroupIds(anyLong(), any(), anyInt());
+        }
+
+        @Test
+        void 잘못된_커서_400반환() {
+            assertThatThrownBy(() -> reservationService.getReservationListByCursor(1L, "invalid", 2, false))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
     @Nested
     class 상영_취소로_예약_전체_취소 {
         @Test
@@ -274,6 +380,43 @@ class ReservationServiceTest {
 
             assertThat(reservationGroup.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
         }
+
+        @Test
+        void 예약_묶음_ID로_취소_성공() {
+            ReservationGroup reservationGroup = ReservationGroup.createReservationGroup(1L);
+            ReflectionTestUtils.setField(reservationGroup, "id", 99L);
+
+            given(reservationGroupRepository.findByIdForUpdate(99L)).willReturn(Optional.of(reservationGroup));
+
+            reservationService.cancelReservationByScreeningCancel(99L);
+
+            assertThat(reservationGroup.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        }
+
+        @Test
+        void 이미_취소된_예약_묶음은_환불하지_않음() {
+            ReservationGroup reservationGroup = ReservationGroup.createReservationGroup(1L);
+            ReflectionTestUtils.setField(reservationGroup, "id", 99L);
+            ReflectionTestUtils.setField(reservationGroup, "status", ReservationStatus.CANCELLED);
+
+            given(reservationGroupRepository.findByIdForUpdate(99L)).willReturn(Optional.of(reservationGroup));
+
+            reservationService.cancelReservationByScreeningCancel(99L);
+
+            verify(paymentService, never()).cancelPaymentByAdmin(any());
+        }
+
+        @Test
+        void 예약_묶음_없음_404반환() {
+            given(reservationGroupRepository.findByIdForUpdate(99L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> reservationService.cancelReservationByScreeningCancel(99L))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(exception -> {
+                        CustomException ex = (CustomException) exception;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_NOT_FOUND);
+                    });
+        }
     }
 
     @Nested
@@ -3,20 +3,21 @@ package com.cgv.mega.screening;
 import com.cgv.mega.containers.TestContainerManager;
 import com.cgv.mega.movie.entity.Movie;
 import com.cgv.mega.movie.enums.MovieType;
-import com.cgv.mega.payment.dto.PortOneCancelRequest;
-import com.cgv.mega.payment.dto.RefundResult;
 import com.cgv.mega.payment.entity.Payment;
 import com.cgv.mega.payment.enums.PaymentStatus;
 import com.cgv.mega.payment.repository.PaymentRepository;
 import com.cgv.mega.payment.service.PortOneClient;
 import com.cgv.mega.reservation.entity.ReservationGroup;
-import com.cgv.mega.reservation.enums.ReservationStatus;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
+import com.cgv.mega.screening.dto.BulkRegisterScreeningRequest;
 import com.cgv.mega.screening.dto.RegisterScreeningRequest;
 import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
 import com.cgv.mega.screening.entity.ScreeningSeat;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.repository.ScreeningCancelJobRepository;
 import com.cgv.mega.screening.repository.ScreeningRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.seat.entity.Seat;
@@ -35,6 +36,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -45,12 +47,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItems;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -96,6 +96,9 @@ public class AdminScreeningIntegrationTest {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private ScreeningCancelJobRepository screeningCancelJobRepository;
+
     @MockitoBean
     private PortOneClient portOneClient;
 
@@ -185,6 +188,37 @@ public class AdminScreeningIntegrationTest {
                     .andDo(print());
         }
 
+        @Test
+        void 전체_상영관_조회_성공() throws Exception {
+            mockMvc.perform(get("/api/admin/screenings/available-times")
+                            .param("movieId", monster.getId().toString())
+                            .param("date", "2026-11-11")
+                            .header("Authorization", adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.theaters[?(@.theaterId == " + theater.getId() + ")].availableTime[*]",
+                            hasItems(
+                                    "2026-11-11T05:00:00",
+                                    "2026-11-11T13:50:00")
+                    ))
+                    .andDo(document("screening-register-available-time-list-all-theaters",
+                            queryParameters(
+                                    parameterWithName("movieId").description("영화 식별자 ID"),
+                                    parameterWithName("date").description("조회할 날짜")
+                            ),
+                            requestHeaders(
+                                    headerWithName("Authorization").description("JWT Access Token (Bearer)")
+                            ),
+                            responseFields(
+                                    fieldWithPath("status").description("응답 코드"),
+                                    fieldWithPath("message").description("응답 메시지"),
+                                    fieldWithPath("data.theaters[].theaterId").description("상영관 식별자 ID"),
+                                    fieldWithPath("data.theaters[].theaterName").description("상영관 이름"),
+                                    fieldWithPath("data.theaters[].availableTime[]").description("상영 등록 가능한 시간들")
+                            )
+                    ))
+                    .andDo(print());
+        }
+
         @Test
         void 파라미터_타입_오류_400반환() throws Exception {
             mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/screenings")
@@ -290,6 +324,55 @@ public class AdminScreeningIntegrationTest {
         }
     }
 
+    @Nested
+    class 상영_회차_일괄_등록 {
+        @Test
+        void 등록_성공_실패행_반환() throws Exception {
+            BulkRegisterScreeningRequest request = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(
+                            interstellar.getId(), MovieType.TWO_D, theater.getId(),
+                            LocalDateTime.of(2026, 11, 11, 14, 20)),
+                    new RegisterScreeningRequest(
+                            interstellar.getId(), MovieType.TWO_D, theater.getId(),
+                            LocalDateTime.of(2026, 11, 11, 8, 20))
+            ));
+
+            mockMvc.perform(post("/api/admin/screenings/bulk")
+                            .header("Authorization", adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.registeredCount").value(1))
+                    .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                    .andExpect(jsonPath("$.data.failures[0].code").value("DUPLICATE_THEATER_SCREENING_TIME"))
+                    .andDo(document("screening-register-bulk",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("JWT Access Token (Bearer)")
+                            ),
+                            requestFields(
+                                    fieldWithPath("screenings[].movieId").description("영화 식별자 ID"),
+                                    fieldWithPath("screenings[].movieType").description("영화 타입(2D, 3D)"),
+                                    fieldWithPath("screenings[].theaterId").description("상영관 식별자 ID"),
+                                    fieldWithPath("screenings[].startTime").description("상영 시작 시간")
+                            ),
+                            responseFields(
+                                    fieldWithPath("status").description("응답 코드"),
+                                    fieldWithPath("message").description("응답 메시지"),
+                                    fieldWithPath("data.requestedCount").description("요청한 상영 회차 수"),
+                                    fieldWithPath("data.registeredCount").description("등록된 상영 회차 수"),
+                                    fieldWithPath("data.failures[].index").description("실패한 행의 위치 (0부터)"),
+                                    fieldWithPath("data.failures[].code").description("실패 코드"),
+                                    fieldWithPath("data.failures[].message").description("실패 사유")
+                            )
+                    ))
+                    .andDo(print());
+
+            int size = screeningRepository.findAll()
+                    .size();
+
+            assertThat(size).isEqualTo(5);
+        }
+    }
     @Nested
     class 특정_영화의_상영회차_목록_조회 {
         @Test
@@ -509,16 +592,11 @@ public class AdminScreeningIntegrationTest {
 
         @Test
         void 상영_취소_성공() throws Exception {
-            RefundResult result = new RefundResult(
-                    true, BigDecimal.valueOf(2000), null
-            );
-
-            given(portOneClient.refundPayment(anyString(), any(PortOneCancelRequest.class)))
-                    .willReturn(result);
-
             mockMvc.perform(delete("/api/admin/screenings/{screeningId}", screening.getId())
                     .header("Authorization", adminToken))
-                    .andExpect(status().isOk())
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.data.status").value("PENDING"))
+                    .andExpect(jsonPath("$.data.totalCount").value(1))
                     .andDo(document("screening-cancel-admin",
                             requestHeaders(
                                     headerWithName("Authorization").description("JWT Access Token (Bearer)")
@@ -526,28 +604,69 @@ public class AdminScreeningIntegrationTest {
                             pathParameters(
                                     parameterWithName("screeningId").description("상영회차 식별자 ID")
                             ),
-                            responseFields(
-                                    fieldWithPath("status").description("HTTP 응답 코드"),
-                                    fieldWithPath("message").description("응답 메시지")
-                            )
+                            responseFields(cancelJobFields())
                     ))
                     .andDo(print());
 
-            Payment cancelledPayment = paymentRepository.findById(payment.getId())
+            Screening cancelledScreening = screeningRepository.findById(screening.getId())
                     .orElseThrow();
 
-            ReservationGroup cancelledReservationGroup = reservationGroupRepository.findById(reservationGroup.getId())
+            ScreeningCancelJob job = screeningCancelJobRepository.findByScreeningId(screening.getId())
                     .orElseThrow();
 
-            Screening cancelledScreening = screeningRepository.findById(screening.getId())
-                    .orElseThrow();
+            assertThat(cancelledScreening.getStatus()).isEqualTo(ScreeningStatus.CANCELED);
+
+            // 환불은 커밋 후 작업에서 처리 (테스트 트랜잭션은 커밋되지 않아 대기 상태)
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.PENDING);
+            assertThat(job.getTotalCount()).isEqualTo(1);
+            assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                    .isEqualTo(PaymentStatus.COMPLETED);
+        }
 
-            assertThat(cancelledPayment.getRefundAmount()).isEqualTo(BigDecimal.valueOf(reservationGroup.getTotalPrice()));
-            assertThat(cancelledPayment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        @Test
+        void 상영_취소_작업_조회_성공() throws Exception {
+            mockMvc.perform(delete("/api/admin/screenings/{screeningId}", screening.getId())
+                            .header("Authorization", adminToken))
+                    .andExpect(status().isAccepted());
 
-            assertThat(cancelledReservationGroup.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+            mockMvc.perform(get("/api/admin/screenings/{screeningId}/cancel-job", screening.getId())
+                            .header("Authorization", adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.screeningId").value(screening.getId()))
+                    .andDo(document("screening-cancel-job-admin",
+                            requestHeaders(
+                                    headerWithName("Authorization").description("JWT Access Token (Bearer)")
+                            ),
+                            pathParameters(
+                                    parameterWithName("screeningId").description("상영회차 식별자 ID")
+                            ),
+                            responseFields(cancelJobFields())
+                    ))
+                    .andDo(print());
+        }
 
-            assertThat(cancelledScreening.getStatus()).isEqualTo(ScreeningStatus.CANCELED);
+        @Test
+        void 상영_취소_작업_없음_404반환() throws Exception {
+            mockMvc.perform(get("/api/admin/screenings/{screeningId}/cancel-job", screening.getId())
+                            .header("Authorization", adminToken))
+                    .andExpect(status().isNotFound())
+                    .andDo(print());
+        }
+
+        private List<FieldDescriptor> cancelJobFields() {
+            return List.of(
+                    fieldWithPath("status").description("HTTP 응답 코드"),
+                    fieldWithPath("message").description("응답 메시지"),
+                    fieldWithPath("data.jobId").description("상영 취소 작업 식별자 ID"),
+                    fieldWithPath("data.screeningId").description("상영회차 식별자 ID"),
+                    fieldWithPath("data.status").description("작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)"),
+                    fieldWithPath("data.totalCount").description("취소 대상 예약 묶음 수"),
+                    fieldWithPath("data.processedCount").description("취소 완료된 예약 묶음 수"),
+                    fieldWithPath("data.failedCount").description("마지막 시도에서 실패한 예약 묶음 수"),
+                    fieldWithPath("data.attemptCount").description("시도 횟수"),
+                    fieldWithPath("data.lastError").optional().description("마지막 실패 사유"),
+                    fieldWithPath("data.nextAttemptAt").description("다음 실행 시각")
+            );
         }
 
         @Test
@@ -6,6 +6,7 @@ import com.cgv.mega.movie.enums.MovieType;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
 import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.repository.SeatRepository;
@@ -20,7 +21,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -28,8 +28,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -59,7 +59,7 @@ public class ScreeningIntegrationTest {
     private ScreeningSeatRepository screeningSeatRepository;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Autowired
     private SeatRepository seatRepository;
@@ -208,7 +208,7 @@ public class ScreeningIntegrationTest {
             ScreeningSeat holdSeat = screeningSeatRepository.findByScreeningIdAndSeatId(screening.getId(), seat2.getId())
                     .orElseThrow();
 
-            redisTemplate.opsForValue().set("seat:" + holdSeat.getId(), "user", Duration.ofMinutes(5));
+            screeningSeatHoldRepository.hold(screening.getId(), 999L, Set.of(holdSeat.getId()));
 
             reservedSeat.reserveScreeningSeat();
 
@@ -0,0 +1,169 @@
+package com.cgv.mega.screening;
+
+import com.cgv.mega.containers.TestContainerManager;
+import com.cgv.mega.movie.entity.Movie;
+import com.cgv.mega.movie.enums.MovieType;
+import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatBulkRepository;
+import com.cgv.mega.seat.entity.Seat;
+import com.cgv.mega.seat.repository.SeatRepository;
+import com.cgv.mega.theater.entity.Theater;
+import com.cgv.mega.theater.repository.TheaterRepository;
+import com.cgv.mega.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상영 회차-좌석 저장 방식 벤치마크 (./gradlew benchmarkTest)
+ * <p>
+ * 같은 상영관으로 상영회차를 반복 등록하며
+ * JPA cascade(IDENTITY, 좌석별 insert) 방식과 JDBC multi-row INSERT 방식의 등록 시간을 비교한다.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ScreeningSeatInsertBenchmarkTest {
+
+    private static final int WARM_UP = 5;
+    private static final int ROUNDS = 30;
+    private static final int BASE_PRICE = 10000;
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    @Autowired
+    private ScreeningSeatBulkRepository screeningSeatBulkRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private TheaterRepository theaterRepository;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.startRedis();
+        TestContainerManager.startElasticSearch();
+
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+        TestContainerManager.registerElasticsearch(registry);
+    }
+
+    @Test
+    void JPA_cascade_vs_multi_row_insert() {
+        Theater theater = theaterRepository.findById(1L)
+                .orElseThrow();
+        Set<Seat> seats = seatRepository.findByTheaterId(theater.getId());
+
+        BenchmarkResult cascade = run("JPA_CASCADE", theater, seats, 0, (screening, seatSet) -> {
+            screening.initializeSeats(seatSet, BASE_PRICE);
+            screeningRepository.saveAndFlush(screening);
+        });
+
+        BenchmarkResult bulk = run("JDBC_MULTI_ROW", theater, seats, WARM_UP + ROUNDS, (screening, seatSet) -> {
+            screeningRepository.saveAndFlush(screening);
+            screeningSeatBulkRepository.insertAll(screening, seatSet, BASE_PRICE);
+        });
+
+        System.out.println(cascade);
+        System.out.println(bulk);
+
+        // 두 방식 모두 상영회차마다 상영관의 모든 좌석이 저장되어야 함
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM screening_seats", Integer.class);
+        assertThat(total).isEqualTo(seats.size() * (WARM_UP + ROUNDS) * 2);
+
+        // 두 방식의 가격 계산 결과가 같아야 함
+        Integer distinctPrices = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT seat_id, price) FROM screening_seats", Integer.class);
+        assertThat(distinctPrices).isEqualTo(seats.size());
+    }
+
+    private BenchmarkResult run(String name, Theater theater, Set<Seat> seats, int offset,
+                                BiConsumer<Screening, Set<Seat>> register) {
+        Movie movie = testDataFactory.createMovie(name);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> latencies = new ArrayList<>();
+
+        for (int i = 0; i < WARM_UP + ROUNDS; i++) {
+            // 상영 시간이 겹치지 않도록 4시간 간격으로 등록
+            LocalDateTime startTime = LocalDateTime.of(2026, 11, 11, 8, 0).plusHours((offset + i) * 4L);
+            Screening screening = Screening.createScreening(
+                    movie, theater, startTime, startTime.plusMinutes(160), i + 1, MovieType.TWO_D);
+
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> register.accept(screening, seats));
+            long elapsed = System.nanoTime() - start;
+
+            if (i >= WARM_UP) {
+                latencies.add(elapsed);
+            }
+        }
+
+        return BenchmarkResult.of(name, seats.size(), latencies);
+    }
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("TRUNCATE TABLE screening_seats");
+        jdbcTemplate.execute("TRUNCATE TABLE screenings");
+        jdbcTemplate.execute("TRUNCATE TABLE movies");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+    }
+
+    private record BenchmarkResult(String name, int seatsPerScreening, double p50Ms, double p99Ms, double avgMs) {
+
+        static BenchmarkResult of(String name, int seatsPerScreening, List<Long> latencies) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            return new BenchmarkResult(
+                    name,
+                    seatsPerScreening,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0
+            );
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.cgv.mega.movie.enums.MovieType;
 import com.cgv.mega.screening.dto.ScreeningSeatHoldDto;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.repository.SeatRepository;
@@ -22,7 +23,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -31,7 +31,6 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -68,7 +67,7 @@ public class ScreeningSeatIntegrationTest {
     private ObjectMapper objectMapper;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Autowired
     private SeatRepository seatRepository;
@@ -162,13 +161,8 @@ public class ScreeningSeatIntegrationTest {
                     ))
                     .andDo(print());
 
-            for (Long screeningSeatId : req.screeningSeatIds()) {
-                String key = "seat:" + screeningSeatId;
-
-                Object value = redisTemplate.opsForValue().get(key);
-
-                assertThat(value).isEqualTo(user.getId().toString());
-            }
+            assertThat(screeningSeatHoldRepository.isHeldBy(screening.getId(), user.getId(), req.screeningSeatIds()))
+                    .isTrue();
         }
 
         @Test
@@ -189,11 +183,7 @@ public class ScreeningSeatIntegrationTest {
         void 홀드_취소_성공() throws Exception {
             ScreeningSeatHoldDto req = new ScreeningSeatHoldDto(Set.of(screeningSeat1.getId(), screeningSeat2.getId(), screeningSeat3.getId()));
 
-            for (Long screeningSeatId : req.screeningSeatIds()) {
-                String key = "seat:" + screeningSeatId;
-
-                redisTemplate.opsForValue().set(key, user.getId().toString(), Duration.ofMinutes(5));
-            }
+            screeningSeatHoldRepository.hold(screening.getId(), user.getId(), req.screeningSeatIds());
 
             mockMvc.perform(delete("/api/screenings/{screeningId}/seats/hold", screening.getId())
                             .contentType(MediaType.APPLICATION_JSON)
@@ -217,13 +207,7 @@ public class ScreeningSeatIntegrationTest {
                     ))
                     .andDo(print());
 
-            for (Long screeningSeatId : req.screeningSeatIds()) {
-                String key = "seat:" + screeningSeatId;
-
-                Object value = redisTemplate.opsForValue().get(key);
-
-                assertThat(value).isNull();
-            }
+            assertThat(screeningSeatHoldRepository.getHeldSeatIds(screening.getId())).isEmpty();
         }
 
         @Test
@@ -2,8 +2,13 @@ package com.cgv.mega.screening.controller;
 
 import com.cgv.mega.movie.enums.MovieType;
 import com.cgv.mega.screening.dto.AvailableScreeningResponse;
+import com.cgv.mega.screening.dto.BulkRegisterScreeningRequest;
+import com.cgv.mega.screening.dto.BulkRegisterScreeningResponse;
 import com.cgv.mega.screening.dto.MovieScreeningForAdminResponse;
 import com.cgv.mega.screening.dto.RegisterScreeningRequest;
+import com.cgv.mega.screening.dto.ScreeningCancelJobResponse;
+import com.cgv.mega.screening.dto.TheaterAvailableScreeningResponse;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
 import com.cgv.mega.screening.service.ScreeningSeatService;
 import com.cgv.mega.screening.service.ScreeningService;
@@ -87,6 +92,38 @@ class AdminScreeningControllerTest {
         }
     }
 
+    @Nested
+    class 전체_상영관_상영_가능_시간_조회 {
+        @Test
+        void 조회_성공() throws Exception {
+            TheaterAvailableScreeningResponse response = new TheaterAvailableScreeningResponse(List.of(
+                    new TheaterAvailableScreeningResponse.TheaterAvailableTime(
+                            1L, "1관", List.of(LocalDateTime.of(2026, 11, 11, 5, 0))),
+                    new TheaterAvailableScreeningResponse.TheaterAvailableTime(
+                            2L, "2관", List.of())
+            ));
+
+            given(screeningService.getAvailableScreeningTimes(anyLong(), any())).willReturn(response);
+
+            mockMvc.perform(get("/api/admin/screenings/available-times")
+                            .param("movieId", "1")
+                            .param("date", "2026-11-11"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.theaters[0].theaterId").value(1))
+                    .andExpect(jsonPath("$.data.theaters[0].availableTime[0]").value("2026-11-11T05:00:00"))
+                    .andExpect(jsonPath("$.data.theaters[1].availableTime").isEmpty())
+                    .andDo(print());
+        }
+
+        @Test
+        void 필수값_누락_400반환() throws Exception {
+            mockMvc.perform(get("/api/admin/screenings/available-times")
+                            .param("date", "2026-11-11"))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class 상영_회차_등록 {
         @Test
@@ -118,6 +155,57 @@ class AdminScreeningControllerTest {
         }
     }
 
+    @Nested
+    class 상영_회차_일괄_등록 {
+        @Test
+        void 등록_성공_실패행_반환() throws Exception {
+            BulkRegisterScreeningResponse response = new BulkRegisterScreeningResponse(2, 1, List.of(
+                    new BulkRegisterScreeningResponse.FailedRow(1, "DUPLICATE_THEATER_SCREENING_TIME", "해당 시간에 상영 예정인 영화가 있습니다.")
+            ));
+
+            given(screeningService.registerScreenings(any(BulkRegisterScreeningRequest.class))).willReturn(response);
+
+            BulkRegisterScreeningRequest request = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, LocalDateTime.of(2026, 11, 11, 8, 0)),
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, LocalDateTime.of(2026, 11, 11, 8, 30))
+            ));
+
+            mockMvc.perform(post("/api/admin/screenings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.requestedCount").value(2))
+                    .andExpect(jsonPath("$.data.registeredCount").value(1))
+                    .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                    .andExpect(jsonPath("$.data.failures[0].code").value("DUPLICATE_THEATER_SCREENING_TIME"))
+                    .andDo(print());
+        }
+
+        @Test
+        void 빈_목록_400반환() throws Exception {
+            BulkRegisterScreeningRequest request = new BulkRegisterScreeningRequest(List.of());
+
+            mockMvc.perform(post("/api/admin/screenings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+
+        @Test
+        void 행_필수값_누락_400반환() throws Exception {
+            BulkRegisterScreeningRequest request = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(1L, null, 1L, LocalDateTime.of(2026, 11, 11, 8, 0))
+            ));
+
+            mockMvc.perform(post("/api/admin/screenings/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class 특정_영화의_상영회차_목록_조회 {
         @Test
@@ -189,10 +277,15 @@ class AdminScreeningControllerTest {
     class 상영_취소 {
         @Test
         void 취소_성공() throws Exception {
-            willDoNothing().given(screeningService).cancelScreening(anyLong());
+            ScreeningCancelJobResponse response = new ScreeningCancelJobResponse(
+                    7L, 1L, ScreeningCancelJobStatus.PENDING, 2, 0, 0, 0, null, LocalDateTime.now());
+
+            given(screeningService.cancelScreening(anyLong())).willReturn(response);
 
             mockMvc.perform(delete("/api/admin/screenings/{screeningId}", 1L))
-                    .andExpect(status().isOk())
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.data.jobId").value(7L))
+                    .andExpect(jsonPath("$.data.status").value("PENDING"))
                     .andDo(print());
         }
 
@@ -202,5 +295,19 @@ class AdminScreeningControllerTest {
                     .andExpect(status().isBadRequest())
                     .andDo(print());
         }
+
+        @Test
+        void 취소_작업_조회_성공() throws Exception {
+            ScreeningCancelJobResponse response = new ScreeningCancelJobResponse(
+                    7L, 1L, ScreeningCancelJobStatus.COMPLETED, 2, 2, 0, 1, null, LocalDateTime.now());
+
+            given(screeningService.getScreeningCancelJob(1L)).willReturn(response);
+
+            mockMvc.perform(get("/api/admin/screenings/{screeningId}/cancel-job", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.data.processedCount").value(2))
+                    .andDo(print());
+        }
     }
 }
\ No newline at end of file
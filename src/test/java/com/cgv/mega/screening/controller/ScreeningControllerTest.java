@@ -6,6 +6,7 @@ import com.cgv.mega.screening.dto.ScreeningDateMovieResponse;
 import com.cgv.mega.screening.dto.ScreeningSeatResponse;
 import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.service.ScreeningSeatStreamService;
 import com.cgv.mega.screening.service.ScreeningService;
 import com.cgv.mega.seat.enums.SeatType;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +39,9 @@ class ScreeningControllerTest {
     @MockitoBean
     private ScreeningService screeningService;
 
+    @MockitoBean
+    private ScreeningSeatStreamService screeningSeatStreamService;
+
     @Nested
     class 상영중인_영화_목록_조회 {
         @Test
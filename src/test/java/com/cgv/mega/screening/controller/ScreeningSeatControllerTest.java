@@ -83,7 +83,7 @@ class ScreeningSeatControllerTest {
         void 홀드_성공() throws Exception {
             ScreeningSeatHoldDto req = new ScreeningSeatHoldDto(Set.of(1L, 2L, 3L));
 
-            willDoNothing().given(screeningSeatService).cancelHoldScreeningSeat(1L, req);
+            willDoNothing().given(screeningSeatService).cancelHoldScreeningSeat(1L, 1L, req);
 
             mockMvc.perform(delete("/api/screenings/{screeningId}/seats/hold", 1L)
                             .contentType(MediaType.APPLICATION_JSON)
@@ -29,9 +29,11 @@ import org.springframework.test.context.DynamicPropertySource;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -149,6 +151,23 @@ class ScreeningQueryRepositoryTest {
         assertThat(newMovieSequence).isEqualTo(1);
     }
 
+    @Test
+    void 구간과_겹치는_상영_시간_조회() {
+        List<ScreeningTimeDto> times = screeningQueryRepository.getScheduledScreeningTimes(
+                theater.getId(), LocalDateTime.of(2026, 11, 11, 8, 0), LocalDateTime.of(2026, 11, 11, 10, 0));
+
+        assertThat(times)
+                .extracting(ScreeningTimeDto::startTime)
+                .containsExactly(LocalDateTime.of(2026, 11, 11, 6, 0), LocalDateTime.of(2026, 11, 11, 9, 0));
+    }
+
+    @Test
+    void 영화별_마지막_상영_회차_조회() {
+        Map<Long, Integer> sequences = screeningQueryRepository.getMaxMovieSequences(List.of(movie.getId(), 123L));
+
+        assertThat(sequences).containsOnly(entry(movie.getId(), 3));
+    }
+
     @Test
     void 상영중인_영화_목록_조회() {
         LocalDate existsDate = LocalDate.of(2026, 11, 11);
@@ -199,4 +218,48 @@ class ScreeningQueryRepositoryTest {
         assertThat(screeningSeat.get(1).colNumber()).isEqualTo(2);
         assertThat(screeningSeat.get(1).status()).isEqualTo(ScreeningSeatStatus.AVAILABLE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 상영회차_예약불가_좌석_상태_조회() {
+        Seat seat = seatRepository.findByTheaterIdAndRowLabelAndColNumber(
+                        theater.getId(), "A", 1)
+                .orElseThrow();
+
+        ScreeningSeat reservedSeat = screeningSeatRepository.findByScreeningIdAndSeatId(screening1.getId(), seat.getId())
+                .orElseThrow();
+
+        reservedSeat.reserveScreeningSeat();
+
+        List<ScreeningSeatStatusDto> unavailableSeats = screeningQueryRepository.getUnavailableScreeningSeats(screening1.getId());
+
+        assertThat(unavailableSeats).hasSize(1);
+        assertThat(unavailableSeats.get(0).screeningSeatId()).isEqualTo(reservedSeat.getId());
+        assertThat(unavailableSeats.get(0).status()).isEqualTo(ScreeningSeatStatus.RESERVED);
+    }
+
+    @Test
+    void 상영회차별_예약가능_좌석_수_조회() {
+        int totalSeats = seatRepository.findByTheaterId(theater.getId()).size();
+
+        Seat seat = seatRepository.findByTheaterIdAndRowLabelAndColNumber(
+                        theater.getId(), "A", 1)
+                .orElseThrow();
+
+        screeningSeatRepository.findByScreeningIdAndSeatId(screening1.getId(), seat.getId())
+                .orElseThrow()
+                .reserveScreeningSeat();
+
+        List<ScreeningSeatCountDto> counts = screeningQueryRepository.countAvailableSeats(
+                List.of(screening1.getId(), screening2.getId()));
+
+        assertThat(counts).hasSize(2);
+        assertThat(counts)
+                .filteredOn(dto -> dto.screeningId().equals(screening1.getId()))
+                .extracting(ScreeningSeatCountDto::availableSeatCount)
+                .containsExactly((long) totalSeats - 1);
+        assertThat(counts)
+                .filteredOn(dto -> dto.screeningId().equals(screening2.getId()))
+                .extracting(ScreeningSeatCountDto::availableSeatCount)
+                .containsExactly((long) totalSeats);
+    }
+}
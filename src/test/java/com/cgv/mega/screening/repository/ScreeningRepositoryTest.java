@@ -19,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -102,10 +103,22 @@ public class ScreeningRepositoryTest {
         em.flush();
         em.clear();
 
-        screeningRepository.updateStatusToEnded(
-                LocalDateTime.now(), ScreeningStatus.ENDED, ScreeningStatus.SCHEDULED
+        // 시작 시간 순으로 chunk 크기만큼 조회
+        List<Long> firstChunk = screeningRepository.findIdsToEnd(
+                LocalDateTime.now(), ScreeningStatus.SCHEDULED, PageRequest.of(0, 1));
+
+        List<Long> targetIds = screeningRepository.findIdsToEnd(
+                LocalDateTime.now(), ScreeningStatus.SCHEDULED, PageRequest.of(0, 10));
+
+        assertThat(firstChunk).containsExactly(pastScreen.getId());
+        assertThat(targetIds).containsExactly(pastScreen.getId(), pastScreen2.getId());
+
+        int updated = screeningRepository.updateStatusToEnded(
+                targetIds, ScreeningStatus.ENDED, ScreeningStatus.SCHEDULED
         );
 
+        assertThat(updated).isEqualTo(2);
+
         em.flush();
         em.clear();
 
@@ -0,0 +1,217 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.datasource.PrimaryReads;
+import com.cgv.mega.common.lock.JobLease;
+import com.cgv.mega.screening.dto.ScreeningSeatCountDto;
+import com.cgv.mega.screening.repository.ScreeningQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableSeatCounterTest {
+
+    private static final String TTL_MILLIS = String.valueOf(Duration.ofDays(1).toMillis());
+
+    @Mock
+    private ScreeningQueryRepository screeningQueryRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JobLease jobLease;
+
+    @Mock
+    private PrimaryReads primaryReads;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private AvailableSeatCounter availableSeatCounter;
+
+    // compare-and-set 스크립트에 전달된 키/인자 (호출 순서대로)
+    private List<List<String>> compareAndSetCalls;
+
+    @BeforeEach
+    void setUp() {
+        availableSeatCounter = new AvailableSeatCounter(screeningQueryRepository, redisTemplate, jobLease, primaryReads);
+        lenient().when(primaryReads.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        compareAndSetCalls = new ArrayList<>();
+    }
+
+    // 한 번에 전송된 compare-and-set 결과
+    private void givenCompareAndSet(Object... results) {
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+        willAnswer(invocation -> {
+            compareAndSetCalls.add(Arrays.stream(invocation.getArguments())
+                    .skip(3)
+                    .map(arg -> new String((byte[]) arg, StandardCharsets.UTF_8))
+                    .toList());
+            return null;
+        }).given(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), anyInt(), any(byte[][].class));
+
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of(results);
+        });
+    }
+
+    @Nested
+    class 잔여_좌석_조회 {
+        @Test
+        void 키가_있으면_DB_조회_없음() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of("available-seat:1"))).willReturn(Arrays.asList("10"));
+
+            assertThat(availableSeatCounter.getAvailableSeatCounts(List.of(1L))).isEqualTo(Map.of(1L, 10L));
+
+            then(screeningQueryRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 키가_없으면_DB_조회_전에_읽은_버전으로_채움() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of("available-seat:1"))).willReturn(Arrays.asList((String) null));
+            given(valueOperations.multiGet(List.of("available-seat:1:version"))).willReturn(Arrays.asList("3"));
+            given(screeningQueryRepository.countAvailableSeats(List.of(1L)))
+                    .willReturn(List.of(new ScreeningSeatCountDto(1L, 7L)));
+            givenCompareAndSet(1L);
+
+            assertThat(availableSeatCounter.getAvailableSeatCounts(List.of(1L))).isEqualTo(Map.of(1L, 7L));
+
+            InOrder inOrder = inOrder(valueOperations, screeningQueryRepository);
+            inOrder.verify(valueOperations).multiGet(List.of("available-seat:1:version"));
+            inOrder.verify(screeningQueryRepository).countAvailableSeats(List.of(1L));
+
+            // 채우는 값은 primary 에서 조회
+            then(primaryReads).should().read(any());
+
+            // 키가 없고 버전이 3 그대로일 때만 기록
+            assertThat(compareAndSetCalls).containsExactly(
+                    List.of("available-seat:1", "available-seat:1:version", "7", "3", TTL_MILLIS, "1"));
+        }
+
+        @Test
+        void 채우는_중_증감이_있으면_기록하지_않고_DB_값만_반환() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of("available-seat:1"))).willReturn(Arrays.asList((String) null));
+            given(valueOperations.multiGet(List.of("available-seat:1:version"))).willReturn(Arrays.asList((String) null));
+            given(screeningQueryRepository.countAvailableSeats(List.of(1L))).willReturn(List.of());
+
+            // DB 조회 중 증감으로 버전이 생겨 스크립트가 건너뜀
+            givenCompareAndSet(0L);
+
+            assertThat(availableSeatCounter.getAvailableSeatCounts(List.of(1L))).isEqualTo(Map.of(1L, 0L));
+            assertThat(compareAndSetCalls).containsExactly(
+                    List.of("available-seat:1", "available-seat:1:version", "0", "", TTL_MILLIS, "1"));
+        }
+    }
+
+    @Nested
+    class 증감 {
+        @Test
+        void 값과_버전_키를_함께_전달() {
+            availableSeatCounter.increment(1L, -2);
+
+            then(redisTemplate).should().execute(any(RedisScript.class),
+                    eq(List.of("available-seat:1", "available-seat:1:version")), eq("-2"), eq(TTL_MILLIS));
+        }
+
+        @Test
+        void 증감이_0이면_호출하지_않음() {
+            availableSeatCounter.increment(1L, 0);
+
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    class 보정 {
+        @Test
+        void 다른_노드가_실행중이면_건너뜀() {
+            given(jobLease.tryAcquire(eq("available-seat-reconcile"), any())).willReturn(null);
+
+            assertThat(availableSeatCounter.reconcile(LocalDateTime.now())).isZero();
+
+            then(screeningQueryRepository).shouldHaveNoInteractions();
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 버전이_그대로인_카운터만_덮어쓰고_오차를_셈() {
+            LocalDateTime now = LocalDateTime.now();
+
+            given(jobLease.tryAcquire(eq("available-seat-reconcile"), any())).willReturn("token");
+            given(screeningQueryRepository.getUpcomingScreeningIds(now)).willReturn(List.of(1L, 2L));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(
+                    "available-seat:1", "available-seat:2", "available-seat:1:version", "available-seat:2:version")))
+                    .willReturn(Arrays.asList("5", "4", "3", null));
+            given(screeningQueryRepository.countAvailableSeats(List.of(1L, 2L))).willReturn(List.of(
+                    new ScreeningSeatCountDto(1L, 7L), new ScreeningSeatCountDto(2L, 9L)));
+
+            // 2번은 보정 중 증감이 있어 건너뜀
+            givenCompareAndSet(1L, 0L);
+
+            assertThat(availableSeatCounter.reconcile(now)).isEqualTo(1);
+
+            // 값/버전은 DB 조회 전에 읽음
+            InOrder inOrder = inOrder(valueOperations, screeningQueryRepository);
+            inOrder.verify(valueOperations).multiGet(any());
+            inOrder.verify(screeningQueryRepository).countAvailableSeats(List.of(1L, 2L));
+
+            assertThat(compareAndSetCalls).containsExactly(
+                    List.of("available-seat:1", "available-seat:1:version", "7", "3", TTL_MILLIS, "0"),
+                    List.of("available-seat:2", "available-seat:2:version", "9", "", TTL_MILLIS, "0"));
+
+            then(jobLease).should().release("available-seat-reconcile", "token");
+        }
+
+        @Test
+        void 실패해도_점유_해제() {
+            LocalDateTime now = LocalDateTime.now();
+
+            given(jobLease.tryAcquire(eq("available-seat-reconcile"), any())).willReturn("token");
+            given(screeningQueryRepository.getUpcomingScreeningIds(now)).willThrow(new IllegalStateException("db down"));
+
+            assertThatThrownBy(() -> availableSeatCounter.reconcile(now))
+                    .isInstanceOf(IllegalStateException.class);
+
+            then(jobLease).should().release("available-seat-reconcile", "token");
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.reservation.enums.ReservationStatus;
+import com.cgv.mega.reservation.repository.ReservationGroupRepository;
+import com.cgv.mega.reservation.service.ReservationService;
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
+import com.cgv.mega.screening.repository.ScreeningCancelJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningCancelJobRunnerTest {
+
+    @Mock
+    private ScreeningCancelJobRepository screeningCancelJobRepository;
+
+    @Mock
+    private ReservationGroupRepository reservationGroupRepository;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ScreeningCancelJobRunner screeningCancelJobRunner;
+    private ScreeningCancelJob job;
+
+    @BeforeEach
+    void setUp() {
+        screeningCancelJobRunner = new ScreeningCancelJobRunner(
+                screeningCancelJobRepository, reservationGroupRepository, reservationService,
+                transactionTemplate, new SyncTaskExecutor(), new SyncTaskExecutor());
+
+        job = ScreeningCancelJob.createScreeningCancelJob(50L, 2);
+        ReflectionTestUtils.setField(job, "id", 7L);
+    }
+
+    // 점유 후 상태 (claim 쿼리 결과 반영), remaining : 시도 종료 시점에 남은 예약 묶음
+    private void givenClaimed(int attemptCount, List<Long> remaining) {
+        ReflectionTestUtils.setField(job, "attemptCount", attemptCount);
+
+        willAnswer(invocation -> {
+            ReflectionTestUtils.setField(job, "status", ScreeningCancelJobStatus.RUNNING);
+            ReflectionTestUtils.setField(job, "leaseToken", invocation.<String>getArgument(1));
+            return 1;
+        }).given(screeningCancelJobRepository).claim(eq(7L), anyString(), any(), any());
+        given(screeningCancelJobRepository.findById(7L)).willReturn(Optional.of(job));
+        given(reservationGroupRepository.findIdsByScreeningIdAndStatusNot(50L, ReservationStatus.CANCELLED))
+                .willReturn(List.of(1L, 2L), remaining);
+
+        // 진행 상황 기록 (recordProgress 쿼리 결과 반영, 토큰이 다르면 0)
+        willAnswer(invocation -> {
+            if (!job.isLeasedBy(invocation.getArgument(1))) {
+                return 0;
+            }
+            ReflectionTestUtils.setField(job, "processedCount", job.getProcessedCount() + invocation.<Integer>getArgument(2));
+            ReflectionTestUtils.setField(job, "failedCount", job.getFailedCount() + invocation.<Integer>getArgument(3));
+            return 1;
+        }).given(screeningCancelJobRepository).recordProgress(eq(7L), anyString(), anyInt(), anyInt());
+
+        lenient().when(screeningCancelJobRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(job));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Nested
+    class 작업_실행 {
+        @Test
+        void 모든_예약_묶음_취소시_완료() {
+            givenClaimed(1, List.of());
+
+            screeningCancelJobRunner.run(7L);
+
+            then(reservationService).should().cancelReservationByScreeningCancel(1L);
+            then(reservationService).should().cancelReservationByScreeningCancel(2L);
+            then(screeningCancelJobRepository).should(times(2)).recordProgress(eq(7L), anyString(), eq(1), eq(0));
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.COMPLETED);
+            assertThat(job.getProcessedCount()).isEqualTo(2);
+            assertThat(job.getLeaseUntil()).isNull();
+            assertThat(job.getLeaseToken()).isNull();
+        }
+
+        @Test
+        void 일부_실패시_나머지는_취소하고_재시도_대기() {
+            givenClaimed(1, List.of(2L));
+
+            willThrow(new CustomException(ErrorCode.PAYMENT_REFUND_FAILED))
+                    .given(reservationService).cancelReservationByScreeningCancel(2L);
+
+            screeningCancelJobRunner.run(7L);
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.PENDING);
+            assertThat(job.getProcessedCount()).isEqualTo(1);
+            assertThat(job.getFailedCount()).isEqualTo(1);
+            assertThat(job.getLastError()).contains("reservationGroupId = 2");
+            assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        }
+
+        @Test
+        void 최대_시도_초과시_실패() {
+            givenClaimed(5, List.of(1L, 2L));
+
+            willThrow(new CustomException(ErrorCode.PAYMENT_REFUND_FAILED))
+                    .given(reservationService).cancelReservationByScreeningCancel(anyLong());
+
+            screeningCancelJobRunner.run(7L);
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.FAILED);
+            assertThat(job.getFailedCount()).isEqualTo(2);
+        }
+
+        @Test
+        void 다른_노드가_실행중이면_건너뜀() {
+            given(screeningCancelJobRepository.claim(eq(7L), anyString(), any(), any())).willReturn(0);
+
+            screeningCancelJobRunner.run(7L);
+
+            then(screeningCancelJobRepository).should(never()).findById(anyLong());
+            then(reservationService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 점유를_잃으면_남은_예약_묶음과_완료_처리를_건너뜀() {
+            givenClaimed(1, List.of());
+
+            // 첫 예약 묶음 처리 중 점유 만료 후 다른 노드가 다시 점유
+            willAnswer(invocation -> {
+                ReflectionTestUtils.setField(job, "leaseToken", "other-node");
+                return null;
+            }).given(reservationService).cancelReservationByScreeningCancel(1L);
+
+            screeningCancelJobRunner.run(7L);
+
+            then(reservationService).should(never()).cancelReservationByScreeningCancel(2L);
+            then(transactionTemplate).shouldHaveNoInteractions();
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.RUNNING);
+            assertThat(job.getLeaseToken()).isEqualTo("other-node");
+            assertThat(job.getProcessedCount()).isZero();
+        }
+
+        @Test
+        void 완료_처리는_점유_토큰이_같을_때만_반영() {
+            givenClaimed(1, List.of());
+
+            // 모든 예약 묶음 처리 후 완료 처리 전에 점유 만료, 다른 노드가 다시 점유
+            given(screeningCancelJobRepository.findByIdForUpdate(7L)).willAnswer(invocation -> {
+                ReflectionTestUtils.setField(job, "leaseToken", "other-node");
+                return Optional.of(job);
+            });
+
+            screeningCancelJobRunner.run(7L);
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.RUNNING);
+            assertThat(job.getLeaseToken()).isEqualTo("other-node");
+            assertThat(job.getProcessedCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class 작업_재개 {
+        @Test
+        void 실행_대상_작업을_이어서_실행() {
+            given(screeningCancelJobRepository.findRunnableJobIds(any())).willReturn(List.of(7L));
+            givenClaimed(2, List.of());
+
+            screeningCancelJobRunner.resume();
+
+            assertThat(job.getStatus()).isEqualTo(ScreeningCancelJobStatus.COMPLETED);
+        }
+    }
+}
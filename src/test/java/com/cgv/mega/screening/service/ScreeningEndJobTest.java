@@ -0,0 +1,123 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.lock.LocalJobLease;
+import com.cgv.mega.screening.dto.ScreeningsEndedEvent;
+import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.repository.ScreeningRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningEndJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 11, 11, 10, 0);
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LocalJobLease jobLease;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jobLease = new LocalJobLease();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ScreeningEndJob screeningEndJob(int chunkSize, int maxChunks) {
+        return new ScreeningEndJob(screeningRepository, transactionTemplate, jobLease, eventPublisher,
+                meterRegistry, chunkSize, maxChunks, Duration.ofMinutes(4));
+    }
+
+    private void givenTransaction() {
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void chunk_단위로_나눠_종료() {
+        givenTransaction();
+        given(screeningRepository.findIdsToEnd(eq(NOW), eq(ScreeningStatus.SCHEDULED), any()))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(screeningRepository.updateStatusToEnded(anyList(), eq(ScreeningStatus.ENDED), eq(ScreeningStatus.SCHEDULED)))
+                .willReturn(2, 1);
+
+        int ended = screeningEndJob(2, 100).run(NOW);
+
+        assertThat(ended).isEqualTo(3);
+        then(screeningRepository).should().updateStatusToEnded(List.of(1L, 2L), ScreeningStatus.ENDED, ScreeningStatus.SCHEDULED);
+        then(screeningRepository).should().updateStatusToEnded(List.of(3L), ScreeningStatus.ENDED, ScreeningStatus.SCHEDULED);
+
+        // chunk 마다 후속 정리 이벤트 발행
+        then(eventPublisher).should().publishEvent(new ScreeningsEndedEvent(List.of(1L, 2L)));
+        then(eventPublisher).should().publishEvent(new ScreeningsEndedEvent(List.of(3L)));
+
+        assertThat(meterRegistry.counter("screening.end.ended").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("screening.end.chunks").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("screening.end.run").count()).isEqualTo(1);
+
+        // 실행이 끝나면 점유 해제
+        assertThat(jobLease.tryAcquire("screening-end", Duration.ofMinutes(1))).isNotNull();
+    }
+
+    @Test
+    void 대상_없으면_이벤트_발행하지_않음() {
+        givenTransaction();
+        given(screeningRepository.findIdsToEnd(eq(NOW), eq(ScreeningStatus.SCHEDULED), any()))
+                .willReturn(List.of());
+
+        int ended = screeningEndJob(2, 100).run(NOW);
+
+        assertThat(ended).isZero();
+        then(screeningRepository).should(never()).updateStatusToEnded(anyList(), any(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 최대_chunk_수까지만_처리() {
+        givenTransaction();
+        given(screeningRepository.findIdsToEnd(eq(NOW), eq(ScreeningStatus.SCHEDULED), any()))
+                .willReturn(List.of(1L, 2L), List.of(3L, 4L));
+        given(screeningRepository.updateStatusToEnded(anyList(), eq(ScreeningStatus.ENDED), eq(ScreeningStatus.SCHEDULED)))
+                .willReturn(2);
+
+        int ended = screeningEndJob(2, 2).run(NOW);
+
+        assertThat(ended).isEqualTo(4);
+        then(screeningRepository).should(times(2)).findIdsToEnd(eq(NOW), eq(ScreeningStatus.SCHEDULED), any());
+    }
+
+    @Test
+    void 다른_노드가_실행중이면_건너뜀() {
+        jobLease.tryAcquire("screening-end", Duration.ofMinutes(4));
+
+        int ended = screeningEndJob(2, 100).run(NOW);
+
+        assertThat(ended).isZero();
+        assertThat(meterRegistry.counter("screening.end.skipped").count()).isEqualTo(1);
+        then(screeningRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,46 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.SeatHoldExpiredEvent;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningSeatHoldSweeperTest {
+
+    @Mock
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ScreeningSeatHoldSweeper screeningSeatHoldSweeper;
+
+    @Test
+    void 만료된_홀드만_이벤트_발행() {
+        given(screeningSeatHoldRepository.getActiveScreeningIds()).willReturn(Set.of(1L, 2L));
+        given(screeningSeatHoldRepository.sweepExpired(eq(1L), anyLong())).willReturn(Set.of(10L, 11L));
+        given(screeningSeatHoldRepository.sweepExpired(eq(2L), anyLong())).willReturn(Collections.emptySet());
+
+        screeningSeatHoldSweeper.sweepExpiredHolds();
+
+        verify(eventPublisher, times(1)).publishEvent(any(SeatHoldExpiredEvent.class));
+        verify(eventPublisher).publishEvent(new SeatHoldExpiredEvent(1L, Set.of(10L, 11L)));
+        verify(screeningSeatHoldRepository).removeInactiveScreenings(anyLong());
+    }
+}
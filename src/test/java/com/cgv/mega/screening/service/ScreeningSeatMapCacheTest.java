@@ -0,0 +1,134 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.datasource.PrimaryReads;
+import com.cgv.mega.screening.dto.ScreeningSeatDto;
+import com.cgv.mega.screening.dto.ScreeningSeatStatusDto;
+import com.cgv.mega.screening.enums.ScreeningSeatStatus;
+import com.cgv.mega.screening.repository.ScreeningQueryRepository;
+import com.cgv.mega.seat.enums.SeatType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningSeatMapCacheTest {
+
+    @Mock
+    private ScreeningQueryRepository screeningQueryRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PrimaryReads primaryReads;
+
+    @InjectMocks
+    private ScreeningSeatMapCache screeningSeatMapCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(primaryReads.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Nested
+    class 좌석_배치_조회 {
+        @Test
+        void 최초_한번만_DB_조회() {
+            List<ScreeningSeatDto> rows = List.of(
+                    new ScreeningSeatDto(1L, "A", 1, SeatType.NORMAL, ScreeningSeatStatus.AVAILABLE, 10000)
+            );
+
+            given(screeningQueryRepository.getScreeningSeat(1L)).willReturn(rows);
+
+            screeningSeatMapCache.getLayout(1L);
+            List<ScreeningSeatDto> layout = screeningSeatMapCache.getLayout(1L);
+
+            assertThat(layout).isEqualTo(rows);
+            verify(screeningQueryRepository, times(1)).getScreeningSeat(1L);
+        }
+
+        @Test
+        void 좌석_없으면_캐시하지_않음() {
+            given(screeningQueryRepository.getScreeningSeat(1L)).willReturn(Collections.emptyList());
+
+            assertThat(screeningSeatMapCache.getLayout(1L)).isEmpty();
+            assertThat(screeningSeatMapCache.getLayout(1L)).isEmpty();
+
+            verify(screeningQueryRepository, times(2)).getScreeningSeat(1L);
+        }
+    }
+
+    @Nested
+    class 좌석_상태_조회 {
+        @Test
+        void 버전_동일하면_재조회_없음() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.getAndExpire("seat-map:version:1", Duration.ofDays(1))).willReturn("3");
+            given(screeningQueryRepository.getUnavailableScreeningSeats(1L))
+                    .willReturn(List.of(new ScreeningSeatStatusDto(2L, ScreeningSeatStatus.RESERVED)));
+
+            screeningSeatMapCache.getUnavailableStatuses(1L);
+            Map<Long, ScreeningSeatStatus> statuses = screeningSeatMapCache.getUnavailableStatuses(1L);
+
+            assertThat(statuses).containsEntry(2L, ScreeningSeatStatus.RESERVED);
+            verify(screeningQueryRepository, times(1)).getUnavailableScreeningSeats(1L);
+
+            // 스냅샷은 primary 에서 조회
+            verify(primaryReads, times(1)).read(any());
+        }
+
+        @Test
+        void 버전_변경시_재조회() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.getAndExpire("seat-map:version:1", Duration.ofDays(1))).willReturn("3", "4");
+            given(screeningQueryRepository.getUnavailableScreeningSeats(1L))
+                    .willReturn(List.of(new ScreeningSeatStatusDto(2L, ScreeningSeatStatus.RESERVED)))
+                    .willReturn(List.of(new ScreeningSeatStatusDto(2L, ScreeningSeatStatus.FIXING)));
+
+            screeningSeatMapCache.getUnavailableStatuses(1L);
+            Map<Long, ScreeningSeatStatus> statuses = screeningSeatMapCache.getUnavailableStatuses(1L);
+
+            assertThat(statuses).containsEntry(2L, ScreeningSeatStatus.FIXING);
+            verify(screeningQueryRepository, times(2)).getUnavailableScreeningSeats(1L);
+        }
+
+        @Test
+        void 버전_증가() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            screeningSeatMapCache.bumpVersion(1L);
+
+            verify(valueOperations).increment("seat-map:version:1");
+            verify(redisTemplate).expire("seat-map:version:1", Duration.ofDays(1));
+        }
+
+        @Test
+        void 종료된_상영회차_버전_키_삭제() {
+            screeningSeatMapCache.evict(List.of(1L, 2L));
+
+            verify(redisTemplate).delete(List.of("seat-map:version:1", "seat-map:version:2"));
+        }
+    }
+}
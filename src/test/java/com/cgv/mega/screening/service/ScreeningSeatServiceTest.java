@@ -4,11 +4,15 @@ import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.movie.entity.Movie;
 import com.cgv.mega.movie.enums.MovieType;
+import com.cgv.mega.screening.dto.ScreeningSeatChangedEvent;
+import com.cgv.mega.screening.dto.ScreeningSeatHoldChangedEvent;
 import com.cgv.mega.screening.dto.ScreeningSeatHoldDto;
 import com.cgv.mega.screening.entity.Screening;
 import com.cgv.mega.screening.entity.ScreeningSeat;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.screening.repository.ScreeningSeatRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.entity.SeatFixture;
@@ -23,8 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -52,10 +55,10 @@ class ScreeningSeatServiceTest {
     private ScreeningRepository screeningRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ApplicationEventPublisher eventPublisher;
 
     private Screening screening;
     private Movie movie;
@@ -114,6 +117,7 @@ class ScreeningSeatServiceTest {
             screeningSeatService.fixingScreeningSeat(1L);
 
             assertThat(screeningSeat.getStatus()).isEqualTo(ScreeningSeatStatus.FIXING);
+            verify(eventPublisher).publishEvent(any(ScreeningSeatChangedEvent.class));
         }
 
         @Test
@@ -196,15 +200,12 @@ class ScreeningSeatServiceTest {
 
             given(screeningRepository.findById(anyLong())).willReturn(Optional.of(screening));
             given(screeningSeatRepository.findByIdInAndScreeningId(any(), anyLong())).willReturn(screeningSeats);
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get(anyString())).willReturn(null);
-            given(valueOperations.setIfAbsent(anyString(), anyString(), any())).willReturn(true);
+            given(screeningSeatHoldRepository.hold(anyLong(), anyLong(), anyCollection())).willReturn(true);
 
             screeningSeatService.holdScreeningSeat(1L, 10L, req);
 
-            verify(valueOperations, times(3))
-                    .setIfAbsent(anyString(), eq("1"), any());
-
+            verify(screeningSeatHoldRepository, times(1)).hold(10L, 1L, Set.of(1L, 2L, 3L));
+            verify(eventPublisher).publishEvent(any(ScreeningSeatHoldChangedEvent.class));
         }
 
         @Test
@@ -266,15 +267,7 @@ class ScreeningSeatServiceTest {
 
             given(screeningRepository.findById(anyLong())).willReturn(Optional.of(screening));
             given(screeningSeatRepository.findByIdInAndScreeningId(any(), anyLong())).willReturn(screeningSeats);
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-
-            given(valueOperations.get("seat:1")).willReturn(null);
-            given(valueOperations.setIfAbsent(eq("seat:1"), eq("1"), any()))
-                    .willReturn(true);
-
-            given(valueOperations.get("seat:2")).willReturn("2");
-            given(valueOperations.setIfAbsent(eq("seat:2"), eq("1"), any()))
-                    .willReturn(false);
+            given(screeningSeatHoldRepository.hold(anyLong(), anyLong(), anyCollection())).willReturn(false);
 
             assertThatThrownBy(() -> screeningSeatService.holdScreeningSeat(1L, 10L, req))
                     .isInstanceOf(CustomException.class)
@@ -285,7 +278,7 @@ class ScreeningSeatServiceTest {
                         assertThat(ex.getErrorCode().getStatus()).isEqualTo(HttpStatus.CONFLICT);
                     });
 
-            verify(redisTemplate).delete("seat:1");
+            verify(screeningSeatHoldRepository, never()).release(anyLong(), anyLong(), anyCollection());
         }
     }
 
@@ -295,16 +288,44 @@ class ScreeningSeatServiceTest {
         void 홀드_취소_성공() {
             ScreeningSeatHoldDto req = new ScreeningSeatHoldDto(Set.of(3L, 1L, 2L));
 
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get("seat:1")).willReturn("10");
-            given(valueOperations.get("seat:2")).willReturn("99");
-            given(valueOperations.get("seat:3")).willReturn("10");
+            given(screeningSeatHoldRepository.release(anyLong(), anyLong(), anyCollection())).willReturn(Set.of(1L, 3L));
+
+            screeningSeatService.cancelHoldScreeningSeat(10L, 1L, req);
+
+            verify(screeningSeatHoldRepository, times(1)).release(1L, 10L, Set.of(1L, 2L, 3L));
+            verify(eventPublisher).publishEvent(
+                    new ScreeningSeatHoldChangedEvent(1L, Set.of(1L, 3L), DisplayScreeningSeatStatus.AVAILABLE));
+        }
+    }
+
+    @Nested
+    class 조건부_좌석_예약 {
+        @Test
+        void 예약_성공() {
+            Set<Long> ids = Set.of(1L, 2L, 3L);
+
+            given(screeningSeatRepository.reserveIfAvailable(ids, 10L)).willReturn(3);
+            given(screeningSeatRepository.findByIdInAndScreeningId(ids, 10L)).willReturn(screeningSeats);
 
-            screeningSeatService.cancelHoldScreeningSeat(10L, req);
+            List<ScreeningSeat> result = screeningSeatService.reserveAvailableScreeningSeats(10L, ids);
 
-            verify(redisTemplate).delete("seat:1");
-            verify(redisTemplate).delete("seat:3");
-            verify(redisTemplate, never()).delete("seat:2");
+            assertThat(result).hasSize(3);
+        }
+
+        @Test
+        void 이미_예약된_좌석_포함_409반환() {
+            Set<Long> ids = Set.of(1L, 2L, 3L);
+
+            given(screeningSeatRepository.reserveIfAvailable(ids, 10L)).willReturn(2);
+            given(screeningSeatRepository.findByIdInAndScreeningId(ids, 10L)).willReturn(screeningSeats);
+
+            assertThatThrownBy(() -> screeningSeatService.reserveAvailableScreeningSeats(10L, ids))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(exception -> {
+                        CustomException ex = (CustomException) exception;
+
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.SCREENING_SEAT_NOT_AVAILABLE);
+                    });
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.common.enums.ErrorCode;
+import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.screening.dto.ScreeningSeatDeltaDto;
+import com.cgv.mega.screening.dto.ScreeningSeatResponse;
+import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ScreeningSeatStreamServiceTest {
+
+    private static final ScreeningSeatDeltaDto DELTA =
+            new ScreeningSeatDeltaDto(1L, Set.of(1L), DisplayScreeningSeatStatus.HOLD);
+
+    @Mock
+    private ScreeningService screeningService;
+
+    private ScreeningSeatStreamService screeningSeatStreamService;
+    private RecordingEmitter emitter;
+
+    // 전송 내용을 기록하는 emitter (event:이름 으로 시작)
+    static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private boolean disconnected;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("disconnected");
+            }
+
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private ScreeningSeatStreamService createService(TaskExecutor executor) {
+        return new ScreeningSeatStreamService(screeningService, executor) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        emitter = new RecordingEmitter();
+        screeningSeatStreamService = createService(new SyncTaskExecutor());
+    }
+
+    @Nested
+    class 좌석_현황_구독 {
+        @Test
+        void 구독_성공() {
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willReturn(new ScreeningSeatResponse(1L, List.of()));
+
+            SseEmitter subscribed = screeningSeatStreamService.subscribe(1L);
+
+            assertThat(subscribed).isSameAs(emitter);
+            assertThat(subscribers()).containsKey(1L);
+            assertThat(subscribers().get(1L)).containsExactly(emitter);
+            assertThat(emitter.events).singleElement().asString().startsWith("event:snapshot");
+        }
+
+        @Test
+        void 좌석_없음_404반환() {
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willThrow(new CustomException(ErrorCode.SEAT_NOT_FOUND));
+
+            assertThatThrownBy(() -> screeningSeatStreamService.subscribe(1L))
+                    .isInstanceOf(CustomException.class);
+
+            assertThat(subscribers()).isEmpty();
+        }
+
+        @Test
+        void 조회_중_변경분은_snapshot_다음에_전송() {
+            given(screeningService.getScreeningSeatStatus(1L)).willAnswer(invocation -> {
+                screeningSeatStreamService.broadcast(DELTA);
+                return new ScreeningSeatResponse(1L, List.of());
+            });
+
+            screeningSeatStreamService.subscribe(1L);
+
+            assertThat(emitter.events).hasSize(2);
+            assertThat(emitter.events.get(0)).startsWith("event:snapshot");
+            assertThat(emitter.events.get(1)).startsWith("event:delta");
+        }
+    }
+
+    @Nested
+    class 변경분_전송 {
+        @Test
+        void 구독자_없으면_무시() {
+            screeningSeatStreamService.broadcast(DELTA);
+
+            assertThat(subscribers()).isEmpty();
+        }
+
+        @Test
+        void 구독자에게_전송() {
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willReturn(new ScreeningSeatResponse(1L, List.of()));
+
+            screeningSeatStreamService.subscribe(1L);
+            screeningSeatStreamService.broadcast(DELTA);
+
+            assertThat(subscribers().get(1L)).containsExactly(emitter);
+            assertThat(emitter.events.get(1)).startsWith("event:delta");
+        }
+
+        @Test
+        void 호출_스레드가_아닌_전송_실행기에서_전송() {
+            List<Runnable> tasks = new ArrayList<>();
+            screeningSeatStreamService = createService(tasks::add);
+
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willReturn(new ScreeningSeatResponse(1L, List.of()));
+
+            screeningSeatStreamService.subscribe(1L);
+            screeningSeatStreamService.broadcast(DELTA);
+
+            assertThat(emitter.events).isEmpty();
+
+            // 구독자별 전송 작업은 하나만 예약
+            assertThat(tasks).hasSize(1);
+            tasks.get(0).run();
+
+            assertThat(emitter.events).hasSize(2);
+        }
+
+        @Test
+        void 대기열이_가득_차면_구독_종료() {
+            List<Runnable> tasks = new ArrayList<>();
+            screeningSeatStreamService = createService(tasks::add);
+
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willReturn(new ScreeningSeatResponse(1L, List.of()));
+
+            screeningSeatStreamService.subscribe(1L);
+
+            // 전송 작업이 밀린 상태에서 대기열 크기(256) 초과
+            IntStream.range(0, 257).forEach(i -> screeningSeatStreamService.broadcast(DELTA));
+
+            assertThat(subscribers()).isEmpty();
+        }
+
+        @Test
+        void 끊긴_연결은_정리() {
+            given(screeningService.getScreeningSeatStatus(1L))
+                    .willReturn(new ScreeningSeatResponse(1L, List.of()));
+
+            screeningSeatStreamService.subscribe(1L);
+            emitter.disconnected = true;
+
+            screeningSeatStreamService.broadcast(DELTA);
+
+            assertThat(subscribers()).isEmpty();
+        }
+    }
+
+    private Map<Long, Set<SseEmitter>> subscribers() {
+        @SuppressWarnings("unchecked")
+        Map<Long, Set<ScreeningSeatStreamService.Subscriber>> subscribers =
+                (Map<Long, Set<ScreeningSeatStreamService.Subscriber>>)
+                        ReflectionTestUtils.getField(screeningSeatStreamService, "subscribers");
+
+        return subscribers.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(ScreeningSeatStreamService.Subscriber::emitter)
+                        .collect(Collectors.toSet())));
+    }
+}
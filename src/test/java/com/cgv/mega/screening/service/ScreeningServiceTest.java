@@ -5,16 +5,20 @@ import com.cgv.mega.common.exception.CustomException;
 import com.cgv.mega.movie.entity.Movie;
 import com.cgv.mega.movie.enums.MovieType;
 import com.cgv.mega.movie.repository.MovieRepository;
-import com.cgv.mega.reservation.entity.ReservationGroup;
+import com.cgv.mega.reservation.enums.ReservationStatus;
 import com.cgv.mega.reservation.repository.ReservationGroupRepository;
-import com.cgv.mega.reservation.service.ReservationService;
 import com.cgv.mega.screening.dto.*;
 import com.cgv.mega.screening.entity.Screening;
+import com.cgv.mega.screening.entity.ScreeningCancelJob;
 import com.cgv.mega.screening.enums.DisplayScreeningSeatStatus;
+import com.cgv.mega.screening.enums.ScreeningCancelJobStatus;
 import com.cgv.mega.screening.enums.ScreeningSeatStatus;
 import com.cgv.mega.screening.enums.ScreeningStatus;
+import com.cgv.mega.screening.repository.ScreeningCancelJobRepository;
 import com.cgv.mega.screening.repository.ScreeningQueryRepository;
 import com.cgv.mega.screening.repository.ScreeningRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatBulkRepository;
+import com.cgv.mega.screening.repository.ScreeningSeatHoldRepository;
 import com.cgv.mega.seat.entity.Seat;
 import com.cgv.mega.seat.entity.SeatFixture;
 import com.cgv.mega.seat.enums.SeatType;
@@ -27,20 +31,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.*;
@@ -64,16 +73,31 @@ class ScreeningServiceTest {
     private SeatRepository seatRepository;
 
     @Mock
-    private ReservationService reservationService;
+    private ReservationGroupRepository reservationGroupRepository;
 
     @Mock
-    private ReservationGroupRepository reservationGroupRepository;
+    private ScreeningSeatHoldRepository screeningSeatHoldRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private ScreeningSeatBulkRepository screeningSeatBulkRepository;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ScreeningCancelJobRepository screeningCancelJobRepository;
+
+    @Mock
+    private ScreeningSeatMapCache screeningSeatMapCache;
+
+    @Mock
+    private AvailableSeatCounter availableSeatCounter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TheaterTimelineIndex theaterTimelineIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ScreeningService screeningService;
@@ -105,7 +129,7 @@ class ScreeningServiceTest {
 
             given(movieRepository.findById(1L)).willReturn(Optional.of(movie));
             given(theaterRepository.findById(1L)).willReturn(Optional.of(theater));
-            given(screeningQueryRepository.getReservedScreening(1L, date)).willReturn(screeningTimeDtoList);
+            given(theaterTimelineIndex.get(1L, date)).willReturn(TheaterTimeline.of(screeningTimeDtoList));
 
             AvailableScreeningResponse response = screeningService.getAvailableScreeningTime(1L, 1L, date);
 
@@ -113,6 +137,28 @@ class ScreeningServiceTest {
             assertThat(response.availableTime()).isNotEmpty();
         }
 
+        @Test
+        void 전체_상영관_조회_성공() {
+            LocalDate date = LocalDate.of(2026, 11, 11);
+            Theater other = TheaterFixture.createTheater(2L, "2관", 50, TheaterType.TWO_D);
+
+            given(movieRepository.findById(1L)).willReturn(Optional.of(movie));
+            given(theaterRepository.findAll()).willReturn(List.of(other, theater));
+            given(theaterTimelineIndex.getAll(List.of(1L, 2L), date)).willReturn(Map.of(
+                    1L, TheaterTimeline.of(List.of()),
+                    2L, TheaterTimeline.of(List.of(new ScreeningTimeDto(
+                            LocalDateTime.of(2026, 11, 11, 5, 0), LocalDateTime.of(2026, 11, 12, 1, 0))))
+            ));
+
+            TheaterAvailableScreeningResponse response = screeningService.getAvailableScreeningTimes(1L, date);
+
+            assertThat(response.theaters())
+                    .extracting(TheaterAvailableScreeningResponse.TheaterAvailableTime::theaterId)
+                    .containsExactly(1L, 2L);
+            assertThat(response.theaters().get(0).availableTime()).isNotEmpty();
+            assertThat(response.theaters().get(1).availableTime()).isEmpty();
+        }
+
         @Test
         void 이전_날짜는_400반환() {
             LocalDate date = LocalDate.of(2014, 3, 10);
@@ -183,6 +229,8 @@ class ScreeningServiceTest {
             screeningService.registerScreening(req);
 
             then(screeningRepository).should().save(any(Screening.class));
+            then(screeningSeatBulkRepository).should().insertAll(any(Screening.class), eq(seats), anyInt());
+            then(eventPublisher).should().publishEvent(any(TheaterTimelineChangedEvent.class));
         }
 
         @Test
@@ -328,11 +376,13 @@ class ScreeningServiceTest {
 
             given(screeningQueryRepository.getMovieScreeningListForUser(1L, LocalDate.of(2026, 11, 11)))
                     .willReturn(list);
+            given(availableSeatCounter.getAvailableSeatCounts(List.of(0L))).willReturn(Map.of(0L, 42L));
 
             MovieScreeningResponse response = screeningService.getMovieScreeningsForUser(1L, LocalDate.of(2026, 11, 11));
 
             assertThat(response.movieInfoList())
                     .hasSize(1);
+            assertThat(response.movieInfoList().get(0).remainSeatCount()).isEqualTo(42L);
         }
     }
 
@@ -347,11 +397,13 @@ class ScreeningServiceTest {
                             1, ScreeningStatus.SCHEDULED));
 
             given(screeningQueryRepository.getMovieScreeningListForAdmin(1L)).willReturn(list);
+            given(availableSeatCounter.getAvailableSeatCounts(List.of(0L))).willReturn(Map.of(0L, 42L));
 
             MovieScreeningForAdminResponse response = screeningService.getMovieScreeningsForAdmin(1L);
 
             assertThat(response.movieScreeningInfos())
                     .hasSize(1);
+            assertThat(response.movieScreeningInfos().get(0).remainSeat()).isEqualTo(42L);
         }
     }
 
@@ -368,20 +420,15 @@ class ScreeningServiceTest {
                     new ScreeningSeatDto(5L, "A", 6, SeatType.NORMAL, ScreeningSeatStatus.RESERVED, 10000)
             );
 
-            List<Object> redisValues = Arrays.asList(
-                    "user",
-                    null,
-                    null,
-                    null,
-                    null,
-                    null
-            );
-
-            given(screeningQueryRepository.getScreeningSeat(1L)).willReturn(screeningSeat);
-
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(screeningSeatMapCache.getLayout(1L)).willReturn(screeningSeat);
+            given(screeningSeatMapCache.getUnavailableStatuses(1L)).willReturn(Map.of(
+                    1L, ScreeningSeatStatus.RESERVED,
+                    2L, ScreeningSeatStatus.FIXING,
+                    3L, ScreeningSeatStatus.RESERVED,
+                    5L, ScreeningSeatStatus.RESERVED
+            ));
 
-            given(valueOperations.multiGet(anyList())).willReturn(redisValues);
+            given(screeningSeatHoldRepository.getHeldSeatIds(1L)).willReturn(Set.of(0L));
 
             ScreeningSeatResponse response = screeningService.getScreeningSeatStatus(1L);
 
@@ -409,7 +456,7 @@ class ScreeningServiceTest {
 
         @Test
         void 좌석_없음_404반환() {
-            given(screeningQueryRepository.getScreeningSeat(1L)).willReturn(Collections.emptyList());
+            given(screeningSeatMapCache.getLayout(1L)).willReturn(Collections.emptyList());
 
             assertThatThrownBy(() -> screeningService.getScreeningSeatStatus(1L))
                     .isInstanceOf(CustomException.class)
@@ -422,6 +469,95 @@ class ScreeningServiceTest {
         }
     }
 
+    @Nested
+    class 상영회차_일괄_추가 {
+        @BeforeEach
+        void setUp() {
+            given(movieRepository.findAllById(any())).willReturn(List.of(movie));
+            given(theaterRepository.findAllById(any())).willReturn(List.of(theater));
+            given(seatRepository.findByTheaterId(1L)).willReturn(SeatFixture.defaultSeats(theater));
+        }
+
+        @Test
+        void 실패한_행은_건너뛰고_나머지_저장() {
+            LocalDateTime startTime = LocalDateTime.of(2026, 11, 11, 10, 0);
+
+            BulkRegisterScreeningRequest req = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, startTime),
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, startTime.plusHours(1)),
+                    new RegisterScreeningRequest(2L, MovieType.TWO_D, 1L, startTime.plusHours(5)),
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, startTime.plusHours(3))
+            ));
+
+            given(screeningQueryRepository.getScheduledScreeningTimes(eq(1L), any(), any())).willReturn(List.of());
+            given(screeningQueryRepository.getMaxMovieSequences(any())).willReturn(Map.of(1L, 3));
+            willAnswer(invocation -> {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            }).given(transactionTemplate).executeWithoutResult(any());
+
+            BulkRegisterScreeningResponse response = screeningService.registerScreenings(req);
+
+            assertThat(response.requestedCount()).isEqualTo(4);
+            assertThat(response.registeredCount()).isEqualTo(2);
+            assertThat(response.failures())
+                    .extracting(BulkRegisterScreeningResponse.FailedRow::index, BulkRegisterScreeningResponse.FailedRow::code)
+                    .containsExactly(
+                            tuple(1, ErrorCode.DUPLICATE_THEATER_SCREENING_TIME.getCode()),
+                            tuple(2, ErrorCode.MOVIE_NOT_FOUND.getCode())
+                    );
+
+            ArgumentCaptor<List<Screening>> captor = ArgumentCaptor.forClass(List.class);
+            then(screeningRepository).should().saveAll(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(Screening::getSequence)
+                    .containsExactly(4, 5);
+            then(screeningSeatBulkRepository).should().insertAll(anyList(), any(), anyInt());
+        }
+
+        @Test
+        void 기존_상영과_겹치면_실패() {
+            LocalDateTime startTime = LocalDateTime.of(2026, 11, 11, 10, 0);
+
+            BulkRegisterScreeningRequest req = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, startTime)
+            ));
+
+            given(screeningQueryRepository.getScheduledScreeningTimes(eq(1L), any(), any())).willReturn(List.of(
+                    new ScreeningTimeDto(startTime.minusHours(1), startTime.plusMinutes(30))
+            ));
+
+            BulkRegisterScreeningResponse response = screeningService.registerScreenings(req);
+
+            assertThat(response.registeredCount()).isZero();
+            assertThat(response.failures())
+                    .extracting(BulkRegisterScreeningResponse.FailedRow::code)
+                    .containsExactly(ErrorCode.DUPLICATE_THEATER_SCREENING_TIME.getCode());
+            then(screeningRepository).should(never()).saveAll(any());
+        }
+
+        @Test
+        void 청크_저장_실패시_해당_행_실패() {
+            LocalDateTime startTime = LocalDateTime.of(2026, 11, 11, 10, 0);
+
+            BulkRegisterScreeningRequest req = new BulkRegisterScreeningRequest(List.of(
+                    new RegisterScreeningRequest(1L, MovieType.TWO_D, 1L, startTime)
+            ));
+
+            given(screeningQueryRepository.getScheduledScreeningTimes(eq(1L), any(), any())).willReturn(List.of());
+            given(screeningQueryRepository.getMaxMovieSequences(any())).willReturn(Map.of());
+            willThrow(new DataIntegrityViolationException("uq_screenings_sequence"))
+                    .given(transactionTemplate).executeWithoutResult(any());
+
+            BulkRegisterScreeningResponse response = screeningService.registerScreenings(req);
+
+            assertThat(response.registeredCount()).isZero();
+            assertThat(response.failures())
+                    .extracting(BulkRegisterScreeningResponse.FailedRow::code)
+                    .containsExactly(ErrorCode.SCREENING_SAVE_FAILED.getCode());
+        }
+    }
+
     @Nested
     class 상영_취소 {
         @Test
@@ -434,17 +570,54 @@ class ScreeningServiceTest {
 
             ReflectionTestUtils.setField(screening, "id", 50L);
 
-            ReservationGroup rg1 = ReservationGroup.createReservationGroup(1L);
-            ReservationGroup rg2 = ReservationGroup.createReservationGroup(2L);
-
+            given(screeningCancelJobRepository.findByScreeningId(50L)).willReturn(Optional.empty());
             given(screeningRepository.findById(50L)).willReturn(Optional.of(screening));
-            given(reservationGroupRepository.findAllByScreeningId(50L)).willReturn(List.of(rg1, rg2));
+            given(reservationGroupRepository.findIdsByScreeningIdAndStatusNot(50L, ReservationStatus.CANCELLED))
+                    .willReturn(List.of(1L, 2L));
+            given(screeningCancelJobRepository.save(any(ScreeningCancelJob.class))).willAnswer(invocation -> {
+                ScreeningCancelJob job = invocation.getArgument(0);
+                ReflectionTestUtils.setField(job, "id", 7L);
+                return job;
+            });
 
-            willDoNothing().given(reservationService).cancelReservationByScreeningCancel(any(ReservationGroup.class));
-
-            screeningService.cancelScreening(screening.getId());
+            ScreeningCancelJobResponse response = screeningService.cancelScreening(screening.getId());
 
             assertThat(screening.getStatus()).isEqualTo(ScreeningStatus.CANCELED);
+            assertThat(response.jobId()).isEqualTo(7L);
+            assertThat(response.status()).isEqualTo(ScreeningCancelJobStatus.PENDING);
+            assertThat(response.totalCount()).isEqualTo(2);
+
+            // 환불은 커밋 후 작업에서 처리
+            then(eventPublisher).should().publishEvent(new ScreeningCancelJobCreatedEvent(7L));
+        }
+
+        @Test
+        void 이미_취소_요청된_상영은_기존_작업_반환() {
+            ScreeningCancelJob job = ScreeningCancelJob.createScreeningCancelJob(50L, 3);
+            ReflectionTestUtils.setField(job, "id", 7L);
+
+            given(screeningCancelJobRepository.findByScreeningId(50L)).willReturn(Optional.of(job));
+
+            ScreeningCancelJobResponse response = screeningService.cancelScreening(50L);
+
+            assertThat(response.jobId()).isEqualTo(7L);
+            assertThat(response.totalCount()).isEqualTo(3);
+            then(screeningRepository).should(never()).findById(anyLong());
+            then(screeningCancelJobRepository).should(never()).save(any(ScreeningCancelJob.class));
+        }
+
+        @Test
+        void 취소_작업_없음_404반환() {
+            given(screeningCancelJobRepository.findByScreeningId(50L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> screeningService.getScreeningCancelJob(50L))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(exception -> {
+                        CustomException ex = (CustomException) exception;
+
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.SCREENING_CANCEL_JOB_NOT_FOUND);
+                        assertThat(ex.getErrorCode().getStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                    });
         }
 
         @Test
@@ -0,0 +1,64 @@
+package com.cgv.mega.screening.service;
+
+import com.cgv.mega.screening.dto.ScreeningTimeDto;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TheaterTimelineTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 11, 11);
+    private static final LocalDateTime OPEN = DATE.atTime(5, 0);
+    private static final LocalDateTime LAST = DATE.plusDays(1).atTime(1, 0);
+
+    @Nested
+    class 상영_가능_시간 {
+        @Test
+        void 상영이_없으면_마지막_상영_가능_시간까지_10분_간격() {
+            TheaterTimeline timeline = TheaterTimeline.of(List.of());
+
+            List<LocalDateTime> times = timeline.availableStartTimes(OPEN, LAST, Duration.ofMinutes(160), 10);
+
+            assertThat(times.get(0)).isEqualTo(OPEN);
+            assertThat(times.get(1)).isEqualTo(OPEN.plusMinutes(10));
+            // 마지막 후보 + 상영 시간이 마지막 상영 가능 시간보다 이전
+            assertThat(times.get(times.size() - 1)).isEqualTo(LocalDateTime.of(2026, 11, 11, 22, 10));
+        }
+
+        @Test
+        void 상영_사이_빈_시간만_후보() {
+            TheaterTimeline timeline = TheaterTimeline.of(List.of(
+                    new ScreeningTimeDto(DATE.atTime(8, 0), DATE.atTime(11, 0)),
+                    new ScreeningTimeDto(DATE.atTime(12, 0), DATE.plusDays(1).atTime(1, 0))
+            ));
+
+            List<LocalDateTime> times = timeline.availableStartTimes(OPEN, LAST, Duration.ofMinutes(60), 10);
+
+            // 05:00 ~ 06:50 (시작 + 60분이 08:00 이전), 11:00 이후는 다음 상영까지 60분이 안 됨
+            assertThat(times).hasSize(12);
+            assertThat(times.get(0)).isEqualTo(OPEN);
+            assertThat(times.get(11)).isEqualTo(DATE.atTime(6, 50));
+        }
+
+        @Test
+        void 하루_종일_상영이면_빈_목록() {
+            TheaterTimeline timeline = TheaterTimeline.of(List.of(
+                    new ScreeningTimeDto(OPEN, LAST)
+            ));
+
+            assertThat(timeline.availableStartTimes(OPEN, LAST, Duration.ofMinutes(60), 10)).isEmpty();
+        }
+    }
+
+    @Test
+    void 영업일_계산() {
+        assertThat(TheaterTimelineIndex.operatingDate(DATE.atTime(5, 0))).isEqualTo(DATE);
+        assertThat(TheaterTimelineIndex.operatingDate(DATE.plusDays(1).atTime(0, 50))).isEqualTo(DATE);
+    }
+}
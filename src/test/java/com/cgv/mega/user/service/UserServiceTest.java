@@ -3,6 +3,7 @@ package com.cgv.mega.user.service;
 import com.cgv.mega.common.enums.ErrorCode;
 import com.cgv.mega.common.enums.Role;
 import com.cgv.mega.common.exception.CustomException;
+import com.cgv.mega.common.security.PasswordHasher;
 import com.cgv.mega.user.dto.ChangePasswordRequest;
 import com.cgv.mega.user.dto.ChangePhoneNumberRequest;
 import com.cgv.mega.user.dto.RegisterUserRequest;
@@ -15,7 +16,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -35,7 +35,7 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @InjectMocks
     private UserService userService;
@@ -49,7 +49,7 @@ class UserServiceTest {
 
             given(userRepository.existsByEmail(request.email())).willReturn(false);
             given(userRepository.existsByPhoneNumber(request.phoneNumber())).willReturn(false);
-            given(passwordEncoder.encode(request.password())).willReturn("encodedPassword");
+            given(passwordHasher.encode(request.password())).willReturn("encodedPassword");
 
             userService.registerUser(request);
 
@@ -132,12 +132,33 @@ class UserServiceTest {
             ChangePasswordRequest req = new ChangePasswordRequest("currentPassword", "newPassword");
 
             given(userRepository.findById(1L)).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(req.currentPassword(), "encodedPassword")).willReturn(true);
-            given(passwordEncoder.encode(req.newPassword())).willReturn("encodedNewPassword");
+            given(passwordHasher.matches(req.currentPassword(), "encodedPassword")).willReturn(true);
+            given(passwordHasher.encode(req.newPassword())).willReturn("encodedNewPassword");
+            given(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "encodedNewPassword")).willReturn(1);
 
             userService.changePassword(1L, req);
 
-            assertThat(user.getPassword()).isEqualTo("encodedNewPassword");
+            then(userRepository).should().updatePasswordIfUnchanged(1L, "encodedPassword", "encodedNewPassword");
+        }
+
+        @Test
+        void 검증_후_다른_요청이_먼저_변경하면_400반환() {
+            User user = User.createUser("user", "a@b.com", "encodedPassword", "01012341234");
+
+            ChangePasswordRequest req = new ChangePasswordRequest("currentPassword", "newPassword");
+
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
+            given(passwordHasher.matches(req.currentPassword(), "encodedPassword")).willReturn(true);
+            given(passwordHasher.encode(req.newPassword())).willReturn("encodedNewPassword");
+            given(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "encodedNewPassword")).willReturn(0);
+
+            assertThatThrownBy(() -> userService.changePassword(1L, req))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(exception -> {
+                        CustomException ex = (CustomException) exception;
+
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INCORRECT_PASSWORD);
+                    });
         }
 
         @Test
@@ -163,7 +184,7 @@ class UserServiceTest {
             ChangePasswordRequest req = new ChangePasswordRequest("currentPassword", "newPassword");
 
             given(userRepository.findById(1L)).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(req.currentPassword(), "encodedPassword")).willReturn(false);
+            given(passwordHasher.matches(req.currentPassword(), "encodedPassword")).willReturn(false);
 
             assertThatThrownBy(() -> userService.changePassword(1L, req))
                     .isInstanceOf(CustomException.class)